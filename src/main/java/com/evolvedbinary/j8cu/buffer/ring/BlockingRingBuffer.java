@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.ThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of a bounded {@link BlockingQueue} on top of a lock-free {@link MpmcRingBuffer}.
+ * <p>Threads that must wait for the Ring Buffer to become not empty, or not full, wait according to
+ * a {@link WaitStrategy}, which allows CPU usage to be traded for latency:</p>
+ * <ul>
+ *     <li>{@link BusySpinWaitStrategy} - lowest latency, occupies a CPU core whilst waiting.</li>
+ *     <li>{@link YieldingWaitStrategy} - low latency, yields the CPU whilst waiting.</li>
+ *     <li>{@link ParkingWaitStrategy} - parks whilst waiting with an increasing back-off.</li>
+ *     <li>{@link BlockingWaitStrategy} - blocks on a lock condition whilst waiting, the default.</li>
+ * </ul>
+ * <p>{@code null} entries are not supported. The {@link #iterator()} is a weakly consistent snapshot,
+ * and does not support removal.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@ThreadSafe
+public class BlockingRingBuffer<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+    final MpmcRingBuffer<T> ringBuffer;
+    final WaitStrategy waitStrategy;
+
+    private final WaitStrategy.WaitCondition notEmpty = this::isNotEmpty;
+    private final WaitStrategy.WaitCondition notFull = this::isNotFull;
+
+    /**
+     * Construct a new Blocking Ring Buffer which uses a {@link BlockingWaitStrategy}.
+     *
+     * @param capacity the capacity of the Ring Buffer, must be at least 2.
+     */
+    public BlockingRingBuffer(final int capacity) {
+        this(capacity, new BlockingWaitStrategy());
+    }
+
+    /**
+     * Construct a new Blocking Ring Buffer.
+     *
+     * @param capacity the capacity of the Ring Buffer, must be at least 2.
+     * @param waitStrategy the strategy for waiting when the Ring Buffer is empty or full.
+     */
+    public BlockingRingBuffer(final int capacity, final WaitStrategy waitStrategy) {
+        this.ringBuffer = new MpmcRingBuffer<>(capacity);
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy must not be null");
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer.
+     */
+    public int capacity() {
+        return ringBuffer.capacity();
+    }
+
+    @Override
+    public int size() {
+        return ringBuffer.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringBuffer.isEmpty();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return ringBuffer.capacity() - ringBuffer.size();
+    }
+
+    @Override
+    public boolean offer(final T entry) {
+        if (ringBuffer.offer(entry)) {
+            waitStrategy.signalAll();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void put(final T entry) throws InterruptedException {
+        offer(entry, Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean offer(final T entry, final long timeout, final TimeUnit unit) throws InterruptedException {
+        return offer(entry, unit.toNanos(timeout));
+    }
+
+    private boolean offer(final T entry, final long timeoutNanos) throws InterruptedException {
+        Objects.requireNonNull(entry, "null entries are not supported");
+
+        final long deadline = System.nanoTime() + timeoutNanos;
+        while (!offer(entry)) {
+            final long remaining = timeoutNanos == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+            if (!waitStrategy.await(notFull, remaining)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public @Nullable T poll() {
+        final @Nullable T entry = ringBuffer.poll();
+        if (entry != null) {
+            waitStrategy.signalAll();
+        }
+        return entry;
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        final @Nullable T entry = poll(Long.MAX_VALUE);
+        return Objects.requireNonNull(entry);
+    }
+
+    @Override
+    public @Nullable T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return poll(unit.toNanos(timeout));
+    }
+
+    private @Nullable T poll(final long timeoutNanos) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeoutNanos;
+        @Nullable T entry;
+        while ((entry = poll()) == null) {
+            final long remaining = timeoutNanos == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+            if (!waitStrategy.await(notEmpty, remaining)) {
+                return null;
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public @Nullable T peek() {
+        return ringBuffer.peek();
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> c, final int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+        if (maxElements <= 0) {
+            return 0;
+        }
+
+        final int drained = ringBuffer.drain(c::add, maxElements);
+        if (drained > 0) {
+            waitStrategy.signalAll();
+        }
+        return drained;
+    }
+
+    /**
+     * Get an iterator over a snapshot of the entries in the Ring Buffer.
+     * The snapshot is weakly consistent, entries that are concurrently offered or consumed may or may not be included.
+     *
+     * @return an iterator which does not support removal.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        final List<T> snapshot = new ArrayList<>(ringBuffer.size());
+        ringBuffer.forEachAvailable(snapshot::add);
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+
+    private boolean isNotEmpty() {
+        return !ringBuffer.isEmpty();
+    }
+
+    private boolean isNotFull() {
+        return ringBuffer.size() < ringBuffer.capacity();
+    }
+}
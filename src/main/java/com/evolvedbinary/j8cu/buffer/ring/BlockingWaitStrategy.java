@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link WaitStrategy} that blocks the waiting thread on a {@link Condition}
+ * until it is signalled.
+ * <p>This consumes no CPU whilst waiting, but has the highest latency, and every
+ * signal must acquire a lock, even when no thread is waiting.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@ThreadSafe
+public class BlockingWaitStrategy implements WaitStrategy {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition signalled = lock.newCondition();
+
+    @Override
+    public boolean await(final WaitCondition condition, final long timeoutNanos) throws InterruptedException {
+        if (condition.isSatisfied()) {
+            return true;
+        }
+
+        final boolean timed = timeoutNanos != Long.MAX_VALUE;
+        long remaining = timeoutNanos;
+        lock.lockInterruptibly();
+        try {
+            // the condition is checked whilst holding the lock, so a signal cannot be missed
+            while (!condition.isSatisfied()) {
+                if (timed) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = signalled.awaitNanos(remaining);
+                } else {
+                    signalled.await();
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        lock.lock();
+        try {
+            signalled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
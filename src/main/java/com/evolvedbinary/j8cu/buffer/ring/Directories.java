@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Utilities for directories.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+final class Directories {
+
+    /**
+     * True if the platform is Windows, where a directory cannot be opened as a channel.
+     */
+    static final boolean WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    private Directories() {
+        // no-op
+    }
+
+    /**
+     * Force any changes to the entries of a directory, i.e. files that were created, renamed, or deleted,
+     * to the storage device, so that they are not lost if the system crashes.
+     * <p>On Windows, where a directory cannot be opened as a channel, this does nothing.</p>
+     *
+     * @param directory the directory.
+     *
+     * @throws IOException if the directory could not be opened or forced.
+     */
+    static void force(final Path directory) throws IOException {
+        force(directory, WINDOWS);
+    }
+
+    /**
+     * Force any changes to the entries of a directory to the storage device.
+     *
+     * @param directory the directory.
+     * @param windows true if the platform is Windows, in which case being denied access to open the directory is ignored.
+     *
+     * @throws IOException if the directory could not be opened or forced.
+     */
+    static void force(final Path directory, final boolean windows) throws IOException {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (final AccessDeniedException e) {
+            if (windows) {
+                // Windows does not support opening a directory
+                return;
+            }
+            throw e;
+        }
+
+        try {
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+}
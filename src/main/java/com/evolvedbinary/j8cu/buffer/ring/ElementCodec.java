@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes the entries of a Ring Buffer to and from bytes.
+ * <p>See {@link RingBufferCheckpoint}.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries.
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Get the number of bytes that an entry will be encoded as.
+     *
+     * @param entry the entry.
+     *
+     * @return the number of bytes written by {@link #encode(Object, ByteBuffer)} for the entry.
+     */
+    int encodedLength(final T entry);
+
+    /**
+     * Encode an entry.
+     *
+     * @param entry the entry.
+     * @param dst the buffer to write exactly {@link #encodedLength(Object)} bytes to, starting at its position.
+     */
+    void encode(final T entry, final ByteBuffer dst);
+
+    /**
+     * Decode an entry.
+     *
+     * @param src the buffer to read the entry from, its remaining bytes are those that were written by {@link #encode(Object, ByteBuffer)}.
+     *
+     * @return the entry.
+     */
+    T decode(final ByteBuffer src);
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of a Ring Buffer of pre-allocated events, in the style of the LMAX Disruptor,
+ * which can be used to build a garbage-free pipeline of events between threads.
+ * <p>Every slot of the {@code entries} array is populated from a factory when the Ring Buffer is constructed,
+ * and those event objects are then reused for the lifetime of the Ring Buffer. Rather than putting
+ * a new object into the Ring Buffer, a producer:
+ *  <ol>
+ *      <li>1. {@link #claim()}s the next sequence.</li>
+ *      <li>2. {@link #get(long)}s the event for that sequence and mutates it in place.</li>
+ *      <li>3. {@link #publish(long)}es the sequence so that it becomes visible to consumers.</li>
+ *  </ol>
+ * Any number of producer threads may claim and publish concurrently.</p>
+ * <p>Events are processed by {@link BatchConsumer}s, each of which processes every event from its
+ * last processed sequence up to the highest sequence available to it as one batch. A consumer may depend
+ * on other consumers, in which case it will only process an event after all of the consumers it depends on
+ * have processed that event, which allows for pipelines of consumer stages.
+ * Producers will never claim a slot until every consumer has processed the event that previously occupied it.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <E> the type of the events in the buffer.
+ */
+@ThreadSafe
+public class EventRingBuffer<E> {
+
+    /**
+     * The value of a sequence before any event has been claimed or processed.
+     */
+    public static final long INITIAL_SEQUENCE = -1;
+
+    /**
+     * Returned from {@link #tryClaim()} when there is insufficient capacity.
+     */
+    public static final long NO_SEQUENCE = -2;
+
+    final Object[] entries;
+    final int capacity;
+
+    /**
+     * The highest sequence that has been claimed by a producer.
+     */
+    final Sequence cursor = new Sequence(INITIAL_SEQUENCE);
+
+    /**
+     * The sequence most recently published into each slot.
+     */
+    final AtomicLongArray published;
+
+    /**
+     * The sequences of all consumers, which producers must not overtake by more than the capacity.
+     */
+    volatile Sequence[] gatingSequences = new Sequence[0];
+
+    /**
+     * The producers' shared view of the minimum of the {@link #gatingSequences},
+     * so that producers do not need to read every gating sequence on every claim.
+     */
+    final Sequence gatingSequenceCache = new Sequence(INITIAL_SEQUENCE);
+
+    /**
+     * Construct a new Event Ring Buffer.
+     *
+     * @param factory a factory for creating the events which will populate every slot in the Ring Buffer.
+     * @param capacity the capacity of the Ring Buffer.
+     */
+    public EventRingBuffer(final Supplier<E> factory, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.entries = new Object[capacity];
+        this.capacity = capacity;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = factory.get();
+            published.lazySet(i, INITIAL_SEQUENCE);
+        }
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the highest sequence that has been claimed by a producer.
+     * Note that the event for that sequence may not yet have been published.
+     *
+     * @return the highest claimed sequence, or {@link #INITIAL_SEQUENCE} if nothing has yet been claimed.
+     */
+    public long cursor() {
+        return cursor.get();
+    }
+
+    /**
+     * Get the event for a sequence.
+     * A producer may mutate the event between {@link #claim()}ing and {@link #publish(long)}ing the sequence,
+     * a consumer may read the event for a sequence that has been made available to it.
+     *
+     * @param sequence the sequence.
+     *
+     * @return the event for the sequence.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(final long sequence) {
+        return (E) entries[index(sequence)];
+    }
+
+    /**
+     * Claim the next sequence.
+     * If the Ring Buffer is full then this will wait until the consumers have processed enough events to make space available.
+     *
+     * @return the claimed sequence.
+     */
+    public long claim() {
+        return claim(1);
+    }
+
+    /**
+     * Claim the next {@code n} sequences.
+     * If the Ring Buffer is full then this will wait until the consumers have processed enough events to make space available.
+     *
+     * @param n the number of sequences to claim.
+     *
+     * @return the highest claimed sequence, the claimed sequences are {@code [highest - (n - 1), highest]}.
+     */
+    public long claim(final int n) {
+        long highest;
+        while ((highest = tryClaim(n)) == NO_SEQUENCE) {
+            LockSupport.parkNanos(1);
+        }
+        return highest;
+    }
+
+    /**
+     * Try and claim the next sequence.
+     *
+     * @return the claimed sequence, or {@link #NO_SEQUENCE} if the Ring Buffer is full.
+     */
+    public long tryClaim() {
+        return tryClaim(1);
+    }
+
+    /**
+     * Try and claim the next {@code n} sequences.
+     *
+     * @param n the number of sequences to claim.
+     *
+     * @return the highest claimed sequence, the claimed sequences are {@code [highest - (n - 1), highest]},
+     *     or {@link #NO_SEQUENCE} if there is insufficient capacity.
+     */
+    public long tryClaim(final int n) {
+        if (n < 1 || n > capacity) {
+            throw new IllegalArgumentException("n must be between 1 and the capacity: " + capacity);
+        }
+
+        while (true) {
+            final long current = cursor.get();
+            final long next = current + n;
+
+            // the slot of the `next` sequence was last used by the event at `wrapPoint`
+            final long wrapPoint = next - capacity;
+            final long cachedGatingSequence = gatingSequenceCache.get();
+            if (wrapPoint > cachedGatingSequence) {
+                // we may have run out of space, refresh our view of the consumers
+                final long gatingSequence = minimumSequence(gatingSequences, current);
+                gatingSequenceCache.setOrdered(gatingSequence);
+                if (wrapPoint > gatingSequence) {
+                    // is full
+                    return NO_SEQUENCE;
+                }
+            }
+
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Publish a claimed sequence, making its event available to consumers.
+     *
+     * @param sequence the sequence to publish.
+     */
+    public void publish(final long sequence) {
+        published.lazySet(index(sequence), sequence);
+    }
+
+    /**
+     * Publish a range of claimed sequences, making their events available to consumers.
+     *
+     * @param lo the lowest sequence to publish.
+     * @param hi the highest sequence to publish.
+     */
+    public void publish(final long lo, final long hi) {
+        for (long sequence = lo; sequence <= hi; sequence++) {
+            published.lazySet(index(sequence), sequence);
+        }
+    }
+
+    /**
+     * Determine if a sequence has been published.
+     *
+     * @param sequence the sequence.
+     *
+     * @return true if the sequence has been published, false otherwise.
+     */
+    public boolean isPublished(final long sequence) {
+        return published.get(index(sequence)) == sequence;
+    }
+
+    /**
+     * Create a new consumer of the events in this Ring Buffer.
+     * <p>Consumers should typically be created before any events are claimed; a consumer created
+     * later will only process events claimed after it was created.</p>
+     *
+     * @param dependencies any consumers which must process each event before the new consumer may process it.
+     *
+     * @return the new consumer.
+     */
+    @SafeVarargs
+    public final synchronized BatchConsumer<E> newConsumer(final BatchConsumer<E>... dependencies) {
+        final Sequence[] dependencySequences = new Sequence[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            if (dependencies[i].ringBuffer != this) {
+                throw new IllegalArgumentException("dependencies must be consumers of this Ring Buffer");
+            }
+            dependencySequences[i] = dependencies[i].sequence;
+        }
+
+        final BatchConsumer<E> consumer = new BatchConsumer<>(this, new Sequence(cursor.get()), dependencySequences);
+
+        final Sequence[] newGatingSequences = Arrays.copyOf(gatingSequences, gatingSequences.length + 1);
+        newGatingSequences[newGatingSequences.length - 1] = consumer.sequence;
+        gatingSequences = newGatingSequences;
+
+        return consumer;
+    }
+
+    /**
+     * Remove a consumer, so that producers are no longer gated on its progress.
+     *
+     * @param consumer the consumer to remove.
+     */
+    public synchronized void removeConsumer(final BatchConsumer<E> consumer) {
+        for (int i = 0; i < gatingSequences.length; i++) {
+            if (consumer.sequence == gatingSequences[i]) {
+                final Sequence[] newGatingSequences = new Sequence[gatingSequences.length - 1];
+                System.arraycopy(gatingSequences, 0, newGatingSequences, 0, i);
+                System.arraycopy(gatingSequences, i + 1, newGatingSequences, i, gatingSequences.length - i - 1);
+                gatingSequences = newGatingSequences;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Find the highest sequence in the range {@code [lowerBound, availableSequence]}
+     * for which it and every lower sequence in the range has been published.
+     *
+     * @param lowerBound the lowest sequence to check.
+     * @param availableSequence the highest sequence to check.
+     *
+     * @return the highest contiguous published sequence, or {@code lowerBound - 1} if {@code lowerBound} is not published.
+     */
+    long highestPublished(final long lowerBound, final long availableSequence) {
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            if (!isPublished(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    private int index(final long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private static long minimumSequence(final Sequence[] sequences, final long defaultMinimum) {
+        long minimum = defaultMinimum;
+        for (int i = 0; i < sequences.length; i++) {
+            minimum = Math.min(minimum, sequences[i].get());
+        }
+        return minimum;
+    }
+
+    /**
+     * A consumer of events from an {@link EventRingBuffer}, which is used by a single consumer thread.
+     *
+     * @param <E> the type of the events.
+     */
+    @NotThreadSafe
+    public static class BatchConsumer<E> {
+        final EventRingBuffer<E> ringBuffer;
+
+        /**
+         * The highest sequence that has been processed by this consumer.
+         */
+        final Sequence sequence;
+
+        /**
+         * The sequences of the consumers that this consumer depends upon.
+         */
+        final Sequence[] dependencies;
+
+        BatchConsumer(final EventRingBuffer<E> ringBuffer, final Sequence sequence, final Sequence[] dependencies) {
+            this.ringBuffer = ringBuffer;
+            this.sequence = sequence;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Get the highest sequence that has been processed by this consumer.
+         *
+         * @return the highest processed sequence.
+         */
+        public long sequence() {
+            return sequence.get();
+        }
+
+        /**
+         * Process all of the events that are available to this consumer as a single batch.
+         * <p>If the handler throws an exception, then the events before the one that caused
+         * the exception are considered to have been processed.</p>
+         *
+         * @param handler the handler to process each event.
+         *
+         * @return the number of events that were processed.
+         */
+        public int consume(final EventHandler<? super E> handler) {
+            final long nextSequence = sequence.value + 1;
+
+            long availableSequence;
+            if (dependencies.length == 0) {
+                // we are only gated on the producers
+                availableSequence = ringBuffer.highestPublished(nextSequence, ringBuffer.cursor.get());
+            } else {
+                // the consumers that we depend upon only process published events
+                availableSequence = minimumSequence(dependencies, Long.MAX_VALUE);
+            }
+
+            if (availableSequence < nextSequence) {
+                return 0;
+            }
+
+            long processedSequence = nextSequence - 1;
+            try {
+                for (long s = nextSequence; s <= availableSequence; s++) {
+                    handler.onEvent(ringBuffer.get(s), s, s == availableSequence);
+                    processedSequence = s;
+                }
+            } finally {
+                // release the processed slots back to the producers, or to the consumers that depend on us
+                sequence.setOrdered(processedSequence);
+            }
+
+            return (int) (processedSequence - nextSequence + 1);
+        }
+    }
+
+    /**
+     * Processes events from an {@link EventRingBuffer}.
+     *
+     * @param <E> the type of the events.
+     */
+    @FunctionalInterface
+    public interface EventHandler<E> {
+
+        /**
+         * Called to process an event.
+         * The event object is owned by the Ring Buffer, and so a reference to it must not be retained.
+         *
+         * @param event the event.
+         * @param sequence the sequence of the event.
+         * @param endOfBatch true if this is the last event in the current batch.
+         */
+        void onEvent(final E event, final long sequence, final boolean endOfBatch);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A Ring Buffer whose entries expire once they have been in the buffer for longer than a time-to-live,
+ * e.g. for buffering telemetry which is of no use once it is stale.
+ * <p>The entries are stored in an ordered {@link RingBuffer}, and the time at which each entry was put
+ * is kept in a parallel array indexed by the entry's index in the entries of the Ring Buffer. As the entries
+ * are read in the order that they were put, the expired entries are always a prefix of the entries to be read,
+ * so {@link #expire()} discards them by advancing the read index, costing O(expired) without visiting any
+ * live entry. {@link #get()} and {@link #copy()} first expire any stale entries, and so never return them.</p>
+ * <p>The clock must not go backwards, otherwise entries put after it went backwards
+ * may not expire until the entries before them have.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@NotThreadSafe
+public class ExpiringRingBuffer<T> {
+
+    final RingBuffer<T> ringBuffer;
+
+    /**
+     * For each of the entries, the time in nanoseconds at which it was put,
+     * indexed by the entry's index in the entries of the Ring Buffer.
+     */
+    final long[] putTimes;
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private long expiredCount;
+
+    /**
+     * Construct a new Expiring Ring Buffer.
+     *
+     * @param type the class of the entries in the buffer.
+     * @param capacity the capacity of the buffer.
+     * @param ttl the time for which an entry lives before it expires.
+     * @param unit the unit of {@code ttl}.
+     */
+    public ExpiringRingBuffer(final Class<T> type, final int capacity, final long ttl, final TimeUnit unit) {
+        this(type, capacity, unit.toNanos(ttl), System::nanoTime);
+    }
+
+    /**
+     * Construct a new Expiring Ring Buffer.
+     *
+     * @param type the class of the entries in the buffer.
+     * @param capacity the capacity of the buffer.
+     * @param ttlNanos the time in nanoseconds for which an entry lives before it expires.
+     * @param nanoClock a clock that provides the current time in nanoseconds.
+     */
+    public ExpiringRingBuffer(final Class<T> type, final int capacity, final long ttlNanos, final LongSupplier nanoClock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        if (ttlNanos < 1) {
+            throw new IllegalArgumentException("ttlNanos must be greater than 0");
+        }
+        this.ringBuffer = new RingBuffer<>(type, capacity, true);
+        this.putTimes = new long[capacity];
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Put an entry into the Ring Buffer.
+     * If the Ring Buffer is full, the oldest entry is overwritten.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     */
+    public void put(final T entry) {
+        ringBuffer.put(entry);
+        putTimes[ringBuffer.writeIdx] = nanoClock.getAsLong();
+    }
+
+    /**
+     * Get the next entry from the Ring Buffer which has not expired.
+     *
+     * @return the entry, or null if the Ring Buffer has no entries which have not expired.
+     */
+    public @Nullable T get() {
+        expire();
+        return ringBuffer.get();
+    }
+
+    /**
+     * Get a copy of the entries in this buffer which have not expired,
+     * any expired entries are first discarded.
+     *
+     * @return a copy of the entries in this buffer, or null if the buffer has no entries which have not expired.
+     */
+    public @Nullable T[] copy() {
+        expire();
+        return ringBuffer.copy();
+    }
+
+    /**
+     * Discard the entries which have expired.
+     *
+     * @return the number of entries which were discarded.
+     */
+    public int expire() {
+        final int available = ringBuffer.available;
+        if (available == 0) {
+            return 0;
+        }
+
+        final long now = nanoClock.getAsLong();
+        final int capacity = ringBuffer.capacity;
+        int idx = (ringBuffer.readIdx + 1) % capacity;
+        int expired = 0;
+        while (expired < available && now - putTimes[idx] >= ttlNanos) {
+            expired++;
+            if (++idx == capacity) {
+                idx = 0;
+            }
+        }
+
+        ringBuffer.discard(expired);
+        expiredCount += expired;
+        return expired;
+    }
+
+    /**
+     * Determine if the Ring Buffer has no entries which have not expired,
+     * any expired entries are first discarded.
+     *
+     * @return true if the Ring Buffer is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        expire();
+        return ringBuffer.isEmpty();
+    }
+
+    /**
+     * Get the number of entries in the Ring Buffer which have not expired,
+     * any expired entries are first discarded.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        expire();
+        return ringBuffer.available;
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity.
+     */
+    public int capacity() {
+        return ringBuffer.capacity;
+    }
+
+    /**
+     * Get the number of entries that have been discarded because they expired.
+     *
+     * @return the number of entries.
+     */
+    public long expiredCount() {
+        return expiredCount;
+    }
+
+    /**
+     * Clear the Ring Buffer.
+     */
+    public void clear() {
+        ringBuffer.clear();
+    }
+}
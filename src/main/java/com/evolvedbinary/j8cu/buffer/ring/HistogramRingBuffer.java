@@ -0,0 +1,298 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * A Ring Buffer of histograms, one per time interval, for computing quantiles of recently recorded values,
+ * e.g. the p50, p99, and p999 latencies over the last 60 seconds.
+ * <p>Each histogram has log-linear buckets: values below {@code 2^precisionBits} each have their own bucket,
+ * and each larger power of two range is divided into {@code 2^precisionBits} buckets, so a quantile is
+ * accurate to within a relative error of {@code 2^-precisionBits}. The memory used is fixed when constructed.</p>
+ * <p>Values are recorded into the histogram of the current interval. When the Ring Buffer wraps around to a slot
+ * whose histogram is for an interval that has left the window, the histogram is cleared and reused.
+ * A quantile is computed by merging the histograms of the intervals within the window, which costs
+ * {@code O(intervals * buckets)} regardless of how many values were recorded.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@NotThreadSafe
+public class HistogramRingBuffer {
+
+    static final int DEFAULT_PRECISION_BITS = 7;
+
+    private static final long NO_INTERVAL = Long.MIN_VALUE;
+
+    private final int intervals;
+    private final long intervalNanos;
+    private final int precisionBits;
+    private final long maxValue;
+    private final LongSupplier nanoClock;
+
+    /**
+     * The bucket counts of the histogram for each slot.
+     */
+    final long[][] counts;
+
+    /**
+     * The number of values recorded in the histogram for each slot.
+     */
+    final long[] totals;
+
+    /**
+     * The interval number that the histogram in each slot is for.
+     */
+    final long[] slotIntervals;
+
+    /**
+     * Reused to merge the histograms of the window.
+     */
+    private final long[] merged;
+
+    /**
+     * Reused to pass a single quantile from {@link #valueAtQuantile(double)} to {@link #valuesAtQuantiles(double[], long[])}.
+     */
+    private final double[] quantileScratch = new double[1];
+
+    /**
+     * Reused to receive a single value for {@link #valueAtQuantile(double)} from {@link #valuesAtQuantiles(double[], long[])}.
+     */
+    private final long[] valueScratch = new long[1];
+
+    /**
+     * Construct a new Histogram Ring Buffer with the default precision, using {@link System#nanoTime()} as its clock.
+     *
+     * @param intervals the number of intervals in the window.
+     * @param intervalNanos the duration of each interval in nanoseconds.
+     * @param maxValue the maximum value that can be recorded, larger values are recorded as this value.
+     */
+    public HistogramRingBuffer(final int intervals, final long intervalNanos, final long maxValue) {
+        this(intervals, intervalNanos, DEFAULT_PRECISION_BITS, maxValue, System::nanoTime);
+    }
+
+    /**
+     * Construct a new Histogram Ring Buffer.
+     *
+     * @param intervals the number of intervals in the window.
+     * @param intervalNanos the duration of each interval in nanoseconds.
+     * @param precisionBits the number of bits of precision of the buckets of each histogram, between 1 and 16.
+     * @param maxValue the maximum value that can be recorded, larger values are recorded as this value.
+     * @param nanoClock a clock that provides the current time in nanoseconds.
+     */
+    public HistogramRingBuffer(final int intervals, final long intervalNanos, final int precisionBits, final long maxValue, final LongSupplier nanoClock) {
+        if (intervals < 1) {
+            throw new IllegalArgumentException("intervals must be greater than 0");
+        }
+        if (intervalNanos < 1) {
+            throw new IllegalArgumentException("intervalNanos must be greater than 0");
+        }
+        if (precisionBits < 1 || precisionBits > 16) {
+            throw new IllegalArgumentException("precisionBits must be between 1 and 16");
+        }
+        if (maxValue < 1) {
+            throw new IllegalArgumentException("maxValue must be greater than 0");
+        }
+
+        this.intervals = intervals;
+        this.intervalNanos = intervalNanos;
+        this.precisionBits = precisionBits;
+        this.maxValue = maxValue;
+        this.nanoClock = nanoClock;
+
+        final int buckets = bucketIndex(maxValue, precisionBits) + 1;
+        this.counts = new long[intervals][buckets];
+        this.totals = new long[intervals];
+        this.slotIntervals = new long[intervals];
+        Arrays.fill(slotIntervals, NO_INTERVAL);
+        this.merged = new long[buckets];
+    }
+
+    /**
+     * Record a value into the histogram of the current interval.
+     *
+     * @param value the value to record, values greater than the maximum value are recorded as the maximum value.
+     *
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    public void record(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value must not be negative");
+        }
+
+        final long interval = Math.floorDiv(nanoClock.getAsLong(), intervalNanos);
+        final int slot = (int) Math.floorMod(interval, (long) intervals);
+        if (slotIntervals[slot] != interval) {
+            // the slot holds an interval which has left the window, so reuse it
+            Arrays.fill(counts[slot], 0);
+            totals[slot] = 0;
+            slotIntervals[slot] = interval;
+        }
+
+        counts[slot][bucketIndex(Math.min(value, maxValue), precisionBits)]++;
+        totals[slot]++;
+    }
+
+    /**
+     * Get the number of values recorded within the window.
+     *
+     * @return the number of values.
+     */
+    public long count() {
+        final long oldestInterval = Math.floorDiv(nanoClock.getAsLong(), intervalNanos) - intervals + 1;
+        long count = 0;
+        for (int slot = 0; slot < intervals; slot++) {
+            if (slotIntervals[slot] >= oldestInterval) {
+                count += totals[slot];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the value at a quantile of the values recorded within the window.
+     *
+     * @param quantile the quantile, between 0 and 1, e.g. 0.99 for the 99th percentile.
+     *
+     * @return the highest value which is equivalent to the value at the quantile, or 0 if no values were recorded within the window.
+     */
+    public long valueAtQuantile(final double quantile) {
+        quantileScratch[0] = quantile;
+        valuesAtQuantiles(quantileScratch, valueScratch);
+        return valueScratch[0];
+    }
+
+    /**
+     * Get the values at several quantiles of the values recorded within the window,
+     * merging the histograms only once.
+     *
+     * @param quantiles the quantiles, each between 0 and 1, in ascending order.
+     * @param values the array to receive the value at each quantile, or 0 if no values were recorded within the window.
+     */
+    public void valuesAtQuantiles(final double[] quantiles, final long[] values) {
+        if (values.length < quantiles.length) {
+            throw new IllegalArgumentException("values must have space for each quantile");
+        }
+        for (int i = 0; i < quantiles.length; i++) {
+            if (quantiles[i] < 0 || quantiles[i] > 1 || (i > 0 && quantiles[i] < quantiles[i - 1])) {
+                throw new IllegalArgumentException("quantiles must be between 0 and 1 and in ascending order");
+            }
+        }
+
+        final long total = merge();
+        if (total == 0) {
+            Arrays.fill(values, 0, quantiles.length, 0);
+            return;
+        }
+
+        long cumulative = 0;
+        int bucket = -1;
+        for (int i = 0; i < quantiles.length; i++) {
+            final long rank = Math.max(1, (long) Math.ceil(quantiles[i] * total));
+            while (cumulative < rank) {
+                cumulative += merged[++bucket];
+            }
+            values[i] = Math.min(highestEquivalentValue(bucket, precisionBits), maxValue);
+        }
+    }
+
+    /**
+     * Merge the histograms of the intervals within the window.
+     *
+     * @return the number of values in the merged histogram.
+     */
+    private long merge() {
+        Arrays.fill(merged, 0);
+
+        final long oldestInterval = Math.floorDiv(nanoClock.getAsLong(), intervalNanos) - intervals + 1;
+        long total = 0;
+        for (int slot = 0; slot < intervals; slot++) {
+            if (slotIntervals[slot] >= oldestInterval && totals[slot] > 0) {
+                final long[] slotCounts = counts[slot];
+                for (int i = 0; i < merged.length; i++) {
+                    merged[i] += slotCounts[i];
+                }
+                total += totals[slot];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Remove all recorded values.
+     */
+    public void clear() {
+        for (int slot = 0; slot < intervals; slot++) {
+            Arrays.fill(counts[slot], 0);
+        }
+        Arrays.fill(totals, 0);
+        Arrays.fill(slotIntervals, NO_INTERVAL);
+    }
+
+    /**
+     * Get the index of the bucket for a value.
+     *
+     * @param value the value, must not be negative.
+     * @param precisionBits the number of bits of precision of the buckets.
+     *
+     * @return the index of the bucket.
+     */
+    static int bucketIndex(final long value, final int precisionBits) {
+        final long subBuckets = 1L << precisionBits;
+        if (value < subBuckets) {
+            return (int) value;
+        }
+
+        // the position of the highest set bit, which is at least precisionBits
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - precisionBits;
+        final long mantissa = value >>> shift;  // between subBuckets and (2 * subBuckets) - 1
+        return (int) ((shift + 1) * subBuckets + (mantissa - subBuckets));
+    }
+
+    /**
+     * Get the highest value which is recorded in a bucket.
+     *
+     * @param index the index of the bucket.
+     * @param precisionBits the number of bits of precision of the buckets.
+     *
+     * @return the highest value of the bucket.
+     */
+    static long highestEquivalentValue(final int index, final int precisionBits) {
+        final long subBuckets = 1L << precisionBits;
+        if (index < subBuckets) {
+            return index;
+        }
+
+        final int shift = (int) (index / subBuckets) - 1;
+        final long mantissa = subBuckets + (index % subBuckets);
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
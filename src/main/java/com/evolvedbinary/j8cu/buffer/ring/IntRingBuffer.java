@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of a Ring Buffer specialised for primitive {@code int} entries
+ * (e.g. Wikipedia: <a href="https://en.wikipedia.org/wiki/Circular_buffer">Circular Buffer</a>).
+ * <p>This has the same semantics as {@link RingBuffer}, but stores its entries in a {@code int[]},
+ * and so avoids boxing each entry, i.e. it does not allocate when entries are put or retrieved.</p>
+ * <p>This implementation supports two modes of operations for reading from the buffer:
+ *  <ol>
+ *      <li>1. Unordered (the default)</li>
+ *      <li>2. Ordered</li>
+ *  </ol>
+ * The difference between Unordered and Ordered modes is that when you use Unordered mode,
+ * it starts reading from the start of the buffer, whilst Ordered mode starts reading from the
+ * oldest entry in the buffer.
+ * Ordered mode is useful for when you want to keep a buffer of the most recent N values,
+ * and you need to read them back from oldest to newest.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@NotThreadSafe
+public class IntRingBuffer {
+
+    final static int READ_UNINITIALISED = -1;
+    final static int WRITE_UNINITIALISED = -1;
+
+    final int[] entries;
+    final int capacity;
+
+    /**
+     * When `true` the oldest entry is returned first for {@link #get()} or {@link #copy()}.
+     */
+    final boolean orderedReads;
+
+    /**
+     * The index into entries that was previously read.
+     */
+    int readIdx;
+
+    /**
+     * The index into entries that was previously written.
+     */
+    int writeIdx;
+
+    /**
+     * The number of entries available to be read.
+     */
+    int available;
+
+    /**
+     * Used when {@code orderedReads == true} to determine whether to advance the {@code readIdx}
+     * when {@link #put(int)} is called.
+     */
+    int putCount;
+
+    /**
+     * Any listeners that will be notified of events that change the state of the Ring Buffer.
+     */
+    @Nullable Listener[] listeners = null;
+
+
+
+    /**
+     * Construct a new Ring Buffer of {@code int} entries.
+     *
+     * @param capacity the capacity of the Ring Buffer.
+     */
+    public IntRingBuffer(final int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Construct a new Ring Buffer of {@code int} entries that optionally supports ordered reads.
+     *
+     * @param capacity the capacity of the Ring Buffer.
+     * @param orderedReads true if reads should be ordered, i.e. oldest first, or false otherwise.
+     */
+    public IntRingBuffer(final int capacity, final boolean orderedReads) {
+        this.entries = new int[capacity];
+        this.capacity = entries.length;
+        this.orderedReads = orderedReads;
+        this.readIdx = READ_UNINITIALISED;
+        this.writeIdx = WRITE_UNINITIALISED;
+        this.available = 0;
+        this.putCount = 0;
+    }
+
+    /**
+     * Determine if the Ring Buffer is empty.
+     *
+     * @return true if the Ring Buffer is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return available == 0;
+    }
+
+    /**
+     * Get the next entry from the Ring Buffer.
+     *
+     * @return the entry.
+     *
+     * @throws IllegalStateException if the Ring Buffer is empty.
+     */
+    public int get() {
+        if (available == 0) {
+            throw new IllegalStateException("The Ring Buffer is empty");
+        }
+
+        readIdx = (++readIdx) % capacity;
+        final int entry = entries[readIdx];
+        available = Math.max(0, available - 1);
+
+        if (available == 0) {
+            // if we have removed the last entry from the buffer, we can reset its state to empty
+            readIdx = READ_UNINITIALISED;
+            writeIdx = WRITE_UNINITIALISED;
+            putCount = 0;
+        }
+
+        if (listeners != null) {
+            // notify any listeners of the event
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i].retrieved(entry);
+            }
+        }
+
+        return entry;
+    }
+
+    /**
+     * Put an entry into the Ring Buffer.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     */
+    public void put(final int entry) {
+        entries[writeIdx = ++writeIdx % capacity] = entry;
+        available = Math.min(capacity, available + 1);
+        if (orderedReads) {
+            if (putCount == capacity) {
+                if (readIdx == READ_UNINITIALISED || (readIdx + 1) % capacity == writeIdx) {
+                    readIdx = writeIdx;
+                }
+            } else {
+                putCount++;
+            }
+        }
+
+        if (listeners != null) {
+            // notify any listeners of the event
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i].stored(entry);
+            }
+        }
+    }
+
+    /**
+     * Get a copy of the entries in this buffer.
+     *
+     * @return a copy of the entries in this buffer, or null if the buffer is empty.
+     */
+    public int @Nullable [] copy() {
+        if (available == 0) {
+            // is empty
+            return null;
+        }
+
+        final int[] copy = new int[available];
+
+        int copyReadIdx = readIdx;
+        for (int i = 0; i < available; i++) {
+            copyReadIdx = (++copyReadIdx) % capacity;
+            copy[i] = entries[copyReadIdx];
+        }
+
+        return copy;
+    }
+
+    /**
+     * Empties the Ring Buffer and restores it back to an initial empty state.
+     * Note that unlike {@link #reset()} this does zero out the entries in the internal buffer.
+     */
+    public void clear() {
+        Arrays.fill(entries, 0);
+        reset();
+    }
+
+    /**
+     * Resets the Ring Buffer back to an initial empty state.
+     * Note that unlike {@link #clear()} this does not zero out the entries in the internal buffer.
+     */
+    public void reset() {
+        readIdx = READ_UNINITIALISED;
+        writeIdx = WRITE_UNINITIALISED;
+        available = 0;
+        putCount = 0;
+    }
+
+    /**
+     * Add an event listener to this Ring Buffer.
+     *
+     * @param listener the event listener to add.
+     */
+    public void addListener(final Listener listener) {
+        if (listeners == null) {
+            listeners = new Listener[1];
+        } else {
+            listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        }
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Remove an event listener from this Ring Buffer.
+     * Note that when looking for the provided listener in the registered listeners,
+     * comparison is performed by identity.
+     *
+     * @param listener the event listener to remove.
+     */
+    public void removeListener(final Listener listener) {
+        if (listeners == null) {
+            return;
+        }
+
+        for (int i = 0; i < listeners.length; i++) {
+            if (listener == listeners[i]) {
+                if (listeners.length == 1) {
+                    // if we are removing the last listener, we can just null out all the listeners
+                    listeners = null;
+                } else {
+                    final Listener[] newListeners = new Listener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, newListeners, 0, i);
+                    System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                    listeners = newListeners;
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * An interface that can be used to listen to events on the IntRingBuffer.
+     */
+    public interface Listener {
+
+        /**
+         * Called when an entry is retrieved from the buffer.
+         *
+         * @param entry the entry retrieved from the buffer.
+         */
+        void retrieved(final int entry);
+
+        /**
+         * Called when an entry is stored into the buffer.
+         *
+         * @param entry The entry that was stored into the Ring Buffer.
+         */
+        void stored(final int entry);
+    }
+}
@@ -0,0 +1,540 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link RingBuffer} whose entries are durable, as each entry that is put is appended to a journal on disk.
+ * <p>The journal is a sequence of segment files in a directory, each named after the sequence number of its first entry.
+ * Each entry is written as a record holding its length, a CRC32 checksum of the length and the encoded entry, and
+ * the entry encoded by an {@link ElementCodec}. When a segment exceeds the segment size a new segment is started,
+ * and a segment is deleted once the entries in the newer segments are enough to fill the Ring Buffer.</p>
+ * <p>Forcing the journal to the storage device for each entry would limit the rate of puts to that of the device's
+ * flushes, so instead the entries are group committed: puts are appended to the journal, but the journal is only
+ * forced once the number of uncommitted entries reaches the commit size, or the oldest uncommitted entry is older
+ * than the commit interval. Entries are only available to be read from the Ring Buffer once they have been committed.
+ * The commit interval is only checked when an entry is put, so when entries are put infrequently,
+ * {@link #commitIfDue()} should also be called periodically.</p>
+ * <p>When opened, the Ring Buffer is recovered from the last {@code capacity} entries in the journal, ignoring any
+ * incomplete record at the end of the journal, e.g. from a crash whilst it was being written. Reads are not journaled,
+ * so entries that were read before a restart will be recovered if they are still amongst the last {@code capacity} entries.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@NotThreadSafe
+public class JournaledRingBuffer<T> implements Closeable {
+
+    static final String SEGMENT_FILE_SUFFIX = ".journal";
+
+    /**
+     * The length of the header of each record in the journal, an {@code int} length followed by an {@code int} checksum.
+     */
+    static final int RECORD_HEADER_LENGTH = 8;
+
+    static final int NULL_ENTRY_LENGTH = -1;
+
+    /**
+     * The default size of each segment of the journal in bytes.
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private final Path directory;
+    private final ElementCodec<T> codec;
+    private final int commitEntries;
+    private final long commitIntervalNanos;
+    private final long segmentSize;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Holds the committed entries.
+     */
+    final RingBuffer<T> ringBuffer;
+
+    /**
+     * The segments of the journal, oldest first.
+     */
+    final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+    /**
+     * The channel of the newest segment, to which entries are appended.
+     */
+    FileChannel channel;
+
+    /**
+     * The records of the uncommitted entries, which have not yet been written to the journal.
+     */
+    private ByteBuffer pendingRecords;
+
+    /**
+     * The uncommitted entries.
+     */
+    private final T[] pending;
+    int pendingCount;
+    private long firstPendingNanos;
+
+    private final CRC32 checksum = new CRC32();
+
+    /**
+     * The sequence number of the next entry to be put.
+     */
+    long nextSequence;
+
+    @SuppressWarnings("unchecked")
+    private JournaledRingBuffer(final Path directory, final Class<T> type, final int capacity, final ElementCodec<T> codec,
+            final int commitEntries, final long commitIntervalNanos, final long segmentSize, final LongSupplier nanoClock) {
+        this.directory = directory;
+        this.codec = codec;
+        this.commitEntries = commitEntries;
+        this.commitIntervalNanos = commitIntervalNanos;
+        this.segmentSize = segmentSize;
+        this.nanoClock = nanoClock;
+        this.ringBuffer = new RingBuffer<>(type, capacity, true);
+        this.pending = (T[]) Array.newInstance(type, commitEntries);
+        this.pendingRecords = ByteBuffer.allocate(64 * 1024);
+    }
+
+    /**
+     * Open a Journaled Ring Buffer, recovering its entries from any existing journal in the directory.
+     *
+     * @param <T> the type of the entries in the buffer.
+     * @param directory the directory of the journal, which is created if it does not exist.
+     * @param type the class of the entries to be stored in the Ring Buffer.
+     * @param capacity the capacity of the Ring Buffer.
+     * @param codec the codec for the entries.
+     * @param commitEntries the maximum number of entries in each group commit.
+     * @param commitInterval the maximum time that an entry may be uncommitted for, when entries are being put.
+     * @param unit the unit of the commit interval.
+     *
+     * @return the Ring Buffer.
+     *
+     * @throws IOException if the journal cannot be opened or recovered.
+     */
+    public static <T> JournaledRingBuffer<T> open(final Path directory, final Class<T> type, final int capacity, final ElementCodec<T> codec,
+            final int commitEntries, final long commitInterval, final TimeUnit unit) throws IOException {
+        return open(directory, type, capacity, codec, commitEntries, commitInterval, unit, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Open a Journaled Ring Buffer, recovering its entries from any existing journal in the directory.
+     *
+     * @param <T> the type of the entries in the buffer.
+     * @param directory the directory of the journal, which is created if it does not exist.
+     * @param type the class of the entries to be stored in the Ring Buffer.
+     * @param capacity the capacity of the Ring Buffer.
+     * @param codec the codec for the entries.
+     * @param commitEntries the maximum number of entries in each group commit.
+     * @param commitInterval the maximum time that an entry may be uncommitted for, when entries are being put.
+     * @param unit the unit of the commit interval.
+     * @param segmentSize the size in bytes after which a new segment of the journal is started.
+     *
+     * @return the Ring Buffer.
+     *
+     * @throws IOException if the journal cannot be opened or recovered.
+     */
+    public static <T> JournaledRingBuffer<T> open(final Path directory, final Class<T> type, final int capacity, final ElementCodec<T> codec,
+            final int commitEntries, final long commitInterval, final TimeUnit unit, final long segmentSize) throws IOException {
+        return open(directory, type, capacity, codec, commitEntries, unit.toNanos(commitInterval), segmentSize, System::nanoTime);
+    }
+
+    static <T> JournaledRingBuffer<T> open(final Path directory, final Class<T> type, final int capacity, final ElementCodec<T> codec,
+            final int commitEntries, final long commitIntervalNanos, final long segmentSize, final LongSupplier nanoClock) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        if (commitEntries < 1) {
+            throw new IllegalArgumentException("commitEntries must be greater than 0");
+        }
+        if (commitIntervalNanos < 0) {
+            throw new IllegalArgumentException("commitInterval must not be negative");
+        }
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("segmentSize must be greater than 0");
+        }
+
+        Files.createDirectories(directory);
+        final JournaledRingBuffer<T> journaledRingBuffer = new JournaledRingBuffer<>(directory, type, capacity, codec, commitEntries, commitIntervalNanos, segmentSize, nanoClock);
+        journaledRingBuffer.recover();
+        return journaledRingBuffer;
+    }
+
+    /**
+     * Recovers the Ring Buffer from the segments of the journal, and opens the newest segment for appending.
+     */
+    private void recover() throws IOException {
+        final List<Segment> existing = new ArrayList<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_FILE_SUFFIX)) {
+            for (final Path file : files) {
+                final String fileName = file.getFileName().toString();
+                try {
+                    existing.add(new Segment(file, Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length()))));
+                } catch (final NumberFormatException e) {
+                    throw new IOException("Unexpected journal segment file: " + file);
+                }
+            }
+        }
+        Collections.sort(existing, (a, b) -> Long.compare(a.firstSequence, b.firstSequence));
+
+        for (int i = 0; i < existing.size(); i++) {
+            final Segment segment = existing.get(i);
+            final boolean last = i == existing.size() - 1;
+            if (segment.firstSequence != nextSequence && i > 0) {
+                throw new IOException("Journal segment is missing before: " + segment.file);
+            }
+            nextSequence = segment.firstSequence;
+
+            try (final FileChannel segmentChannel = FileChannel.open(segment.file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final long validLength = replay(segment, segmentChannel);
+                if (validLength < segmentChannel.size()) {
+                    if (!last) {
+                        throw new IOException("Journal segment is corrupt: " + segment.file);
+                    }
+                    // an incomplete record at the end of the journal was not committed, so discard it
+                    segmentChannel.truncate(validLength);
+                    segmentChannel.force(true);
+                }
+            }
+            segments.addLast(segment);
+            nextSequence += segment.entries;
+        }
+
+        // the entries replayed during recovery were not overwritten by puts
+        ringBuffer.overwrittenCount = 0;
+
+        if (segments.isEmpty()) {
+            startSegment();
+        } else {
+            channel = FileChannel.open(segments.getLast().file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            deleteUnneededSegments();
+        }
+    }
+
+    /**
+     * Replays the valid records of a segment into the Ring Buffer.
+     *
+     * @return the length of the valid records of the segment.
+     */
+    private long replay(final Segment segment, final FileChannel segmentChannel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+        final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+        long position = 0;
+        while (true) {
+            ((Buffer) header).clear();
+            if (!readFully(segmentChannel, header, position)) {
+                return position;
+            }
+            final int length = header.getInt(0);
+            final int expectedChecksum = header.getInt(4);
+            if (length < NULL_ENTRY_LENGTH) {
+                return position;
+            }
+
+            final int dataLength = Math.max(length, 0);
+            if (buffer.capacity() < dataLength) {
+                buffer = ByteBuffer.allocate(dataLength);
+            }
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).limit(dataLength);
+            if (!readFully(segmentChannel, buffer, position + RECORD_HEADER_LENGTH)) {
+                return position;
+            }
+            ((Buffer) buffer).flip();
+            if (checksum(length, buffer) != expectedChecksum) {
+                return position;
+            }
+
+            ringBuffer.put(length == NULL_ENTRY_LENGTH ? null : codec.decode(buffer));
+            segment.entries++;
+            position += RECORD_HEADER_LENGTH + dataLength;
+        }
+    }
+
+    /**
+     * Reads from the channel until the buffer is full.
+     *
+     * @return true if the buffer was filled, or false if the end of the channel was reached first.
+     */
+    private static boolean readFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) {
+                return false;
+            }
+            position += read;
+        }
+        return true;
+    }
+
+    private int checksum(final int length, final ByteBuffer data) {
+        checksum.reset();
+        checksum.update(length >>> 24);
+        checksum.update(length >>> 16);
+        checksum.update(length >>> 8);
+        checksum.update(length);
+        checksum.update(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Put an entry into the Ring Buffer.
+     * <p>The entry is appended to the journal, and will be available to be read once it has been committed.
+     * This commits if the commit size has been reached, or the commit interval has elapsed.
+     * If that commit fails, the entry remains uncommitted, and will be committed by the next commit.</p>
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     *
+     * @throws IOException if the entry cannot be written to the journal.
+     */
+    public void put(final @Nullable T entry) throws IOException {
+        if (pendingCount == commitEntries) {
+            // the previous commit failed, so there is no space for another uncommitted entry until it succeeds
+            commit();
+        }
+
+        final int length = entry == null ? NULL_ENTRY_LENGTH : codec.encodedLength(entry);
+        final int dataLength = Math.max(length, 0);
+        final int required = RECORD_HEADER_LENGTH + dataLength;
+        if (pendingRecords.remaining() < required) {
+            final ByteBuffer grown = ByteBuffer.allocate(Math.max(pendingRecords.capacity() * 2, pendingRecords.position() + required));
+            ((Buffer) pendingRecords).flip();
+            grown.put(pendingRecords);
+            pendingRecords = grown;
+        }
+
+        final int recordStart = pendingRecords.position();
+        pendingRecords.putInt(length);
+        pendingRecords.putInt(0);  // the checksum is written once the entry is encoded
+        if (entry != null) {
+            codec.encode(entry, pendingRecords);
+            if (pendingRecords.position() != recordStart + required) {
+                throw new IllegalStateException("The codec encoded " + (pendingRecords.position() - recordStart - RECORD_HEADER_LENGTH) + " bytes, but reported an encoded length of " + length);
+            }
+        }
+        final ByteBuffer data = pendingRecords.duplicate();
+        ((Buffer) data).limit(recordStart + required);
+        ((Buffer) data).position(recordStart + RECORD_HEADER_LENGTH);
+        pendingRecords.putInt(recordStart + 4, checksum(length, data));
+
+        if (pendingCount == 0) {
+            firstPendingNanos = nanoClock.getAsLong();
+        }
+        pending[pendingCount++] = entry;
+
+        if (pendingCount == commitEntries) {
+            commit();
+        } else {
+            commitIfDue();
+        }
+    }
+
+    /**
+     * Commits the uncommitted entries if the oldest of them is older than the commit interval.
+     *
+     * @throws IOException if the entries cannot be written to the journal.
+     */
+    public void commitIfDue() throws IOException {
+        if (pendingCount > 0 && nanoClock.getAsLong() - firstPendingNanos >= commitIntervalNanos) {
+            commit();
+        }
+    }
+
+    /**
+     * Commits the uncommitted entries, by writing them to the journal and forcing it to the storage device,
+     * after which they are available to be read.
+     * <p>If the commit fails, the journal is truncated back to its length before the commit,
+     * and the entries remain uncommitted, so that the commit may be retried.</p>
+     *
+     * @throws IOException if the entries cannot be written to the journal.
+     */
+    public void commit() throws IOException {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        final long journalLength = channel.size();
+        final int pendingLength = pendingRecords.position();
+        ((Buffer) pendingRecords).flip();
+        try {
+            while (pendingRecords.hasRemaining()) {
+                channel.write(pendingRecords);
+            }
+            channel.force(false);
+        } catch (final IOException e) {
+            // discard any part of the records that was written, and restore them to be written again
+            try {
+                channel.truncate(journalLength);
+            } catch (final IOException te) {
+                e.addSuppressed(te);
+            }
+            ((Buffer) pendingRecords).limit(pendingRecords.capacity());
+            ((Buffer) pendingRecords).position(pendingLength);
+            throw e;
+        }
+        ((Buffer) pendingRecords).clear();
+
+        ringBuffer.putAll(pending, 0, pendingCount);
+        segments.getLast().entries += pendingCount;
+        nextSequence += pendingCount;
+        for (int i = 0; i < pendingCount; i++) {
+            pending[i] = null;
+        }
+        pendingCount = 0;
+
+        if (channel.size() >= segmentSize) {
+            channel.close();
+            startSegment();
+            deleteUnneededSegments();
+        }
+    }
+
+    /**
+     * Starts a new segment of the journal, for the next entry to be put.
+     * The directory is forced, so that the new segment is not lost if the system crashes.
+     */
+    private void startSegment() throws IOException {
+        final Path file = directory.resolve(segmentFileName(nextSequence));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segments.addLast(new Segment(file, nextSequence));
+        Directories.force(directory);
+    }
+
+    /**
+     * Get the name of the file of a segment, which is its first sequence number zero-padded to 20 digits,
+     * so that the names sort in the same order as the segments.
+     */
+    static String segmentFileName(final long firstSequence) {
+        return String.format(Locale.ROOT, "%020d%s", firstSequence, SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * Deletes the oldest segments of the journal whilst the newer segments hold enough entries to fill the Ring Buffer.
+     */
+    private void deleteUnneededSegments() throws IOException {
+        long newerEntries = nextSequence - segments.getFirst().firstSequence;
+        boolean deleted = false;
+        while (segments.size() > 1) {
+            final Segment oldest = segments.getFirst();
+            newerEntries -= oldest.entries;
+            if (newerEntries < ringBuffer.capacity) {
+                break;
+            }
+            Files.delete(oldest.file);
+            segments.removeFirst();
+            deleted = true;
+        }
+
+        if (deleted) {
+            Directories.force(directory);
+        }
+    }
+
+    /**
+     * Get the next committed entry from the Ring Buffer.
+     *
+     * @return the entry, or null if there are no committed entries.
+     */
+    public @Nullable T get() {
+        return ringBuffer.get();
+    }
+
+    /**
+     * Determine if there are no committed entries in the Ring Buffer.
+     *
+     * @return true if there are no committed entries, false otherwise.
+     */
+    public boolean isEmpty() {
+        return ringBuffer.isEmpty();
+    }
+
+    /**
+     * Get a copy of the committed entries in this buffer.
+     *
+     * @return a copy of the committed entries in this buffer, or null if there are none.
+     */
+    public @Nullable T[] copy() {
+        return ringBuffer.copy();
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer.
+     */
+    public int capacity() {
+        return ringBuffer.capacity;
+    }
+
+    /**
+     * Commits any uncommitted entries, and closes the journal.
+     *
+     * @throws IOException if the entries cannot be written to the journal.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            commit();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * A segment file of the journal.
+     */
+    static final class Segment {
+        final Path file;
+        final long firstSequence;
+        long entries;
+
+        Segment(final Path file, final long firstSequence) {
+            this.file = file;
+            this.firstSequence = firstSequence;
+        }
+    }
+}
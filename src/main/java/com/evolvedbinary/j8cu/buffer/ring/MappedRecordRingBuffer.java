@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of a {@link RecordRingBuffer} which is stored in a memory mapped file,
+ * so that records may be exchanged between processes on the same host.
+ * <p>The file starts with a header that holds the head and tail positions of the Ring Buffer, each on its own cache line,
+ * followed by the records. As the positions are stored in the file, a producer process and a consumer process may each
+ * map the same file, and records written by the producer are read oldest first by the consumer. For the lowest latency,
+ * the file should be placed on a memory backed file system, e.g. {@code /dev/shm} on Linux.</p>
+ * <p>There may be at most one producer and one consumer at any time. A producer must publish the tail only after
+ * the records before it are written, and a consumer must publish the head only after the records before it are read.
+ * Java 8 has no public API for ordered access to a memory mapped file, so each position is read and published
+ * around a full fence, which is obtained from a store to a {@code volatile} field of this instance.</p>
+ * <p>Note that Java 8 provides no way to unmap a file, and so after {@link #close()} the mapping will
+ * remain until the mapped buffer is garbage collected.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@NotThreadSafe
+public class MappedRecordRingBuffer extends RecordRingBuffer implements Closeable {
+
+    static final int MAGIC = 0x4A385252;  // J8RR
+    static final int VERSION = 1;
+
+    static final int HEAD_POSITION_OFFSET = 0;
+    static final int TAIL_POSITION_OFFSET = 64;
+    static final int MAGIC_OFFSET = 128;
+    static final int VERSION_OFFSET = 132;
+    static final int CAPACITY_OFFSET = 136;
+
+    /**
+     * The length of the header of the file, the records follow the header.
+     */
+    static final int FILE_HEADER_LENGTH = 192;
+
+    private final FileChannel channel;
+
+    /**
+     * The mapping of the entire file, including the header.
+     */
+    final MappedByteBuffer mapped;
+
+    /**
+     * Used to issue a full fence, see {@link #fullFence()}.
+     */
+    private volatile int fence;
+
+    private MappedRecordRingBuffer(final FileChannel channel, final MappedByteBuffer mapped) {
+        super(records(mapped));
+        this.channel = channel;
+        this.mapped = mapped;
+    }
+
+    private static ByteBuffer records(final MappedByteBuffer mapped) {
+        mapped.order(ByteOrder.nativeOrder());
+        final ByteBuffer view = mapped.duplicate();
+        ((Buffer) view).position(FILE_HEADER_LENGTH);
+        return view.slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Create a new file for a Record Ring Buffer, replacing any existing file.
+     * Typically called by the producer.
+     *
+     * @param file the path of the file.
+     * @param capacity the capacity of the Ring Buffer in bytes, must be a multiple of {@link #ALIGNMENT}.
+     *
+     * @return the Ring Buffer.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    public static MappedRecordRingBuffer create(final Path file, final int capacity) throws IOException {
+        if (capacity < 1 || capacity > Integer.MAX_VALUE - FILE_HEADER_LENGTH) {
+            throw new IllegalArgumentException("capacity must be greater than 0 and at most " + (Integer.MAX_VALUE - FILE_HEADER_LENGTH));
+        }
+
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER_LENGTH + capacity);
+            mapped.order(ByteOrder.nativeOrder());
+            mapped.putLong(HEAD_POSITION_OFFSET, 0);
+            mapped.putLong(TAIL_POSITION_OFFSET, 0);
+            mapped.putInt(VERSION_OFFSET, VERSION);
+            mapped.putInt(CAPACITY_OFFSET, capacity);
+            // the magic number is written last, so that a partially initialised file is never opened
+            mapped.putInt(MAGIC_OFFSET, MAGIC);
+            return new MappedRecordRingBuffer(channel, mapped);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open an existing file of a Record Ring Buffer.
+     * Typically called by the consumer.
+     *
+     * @param file the path of the file.
+     *
+     * @return the Ring Buffer.
+     *
+     * @throws IOException if the file cannot be opened, or is not a Record Ring Buffer.
+     */
+    public static MappedRecordRingBuffer open(final Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long fileSize = channel.size();
+            if (fileSize < FILE_HEADER_LENGTH) {
+                throw new IOException("File is too small to be a Record Ring Buffer: " + file);
+            }
+
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_HEADER_LENGTH);
+            header.order(ByteOrder.nativeOrder());
+            if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("File is not a Record Ring Buffer: " + file);
+            }
+            if (header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Unsupported Record Ring Buffer version: " + header.getInt(VERSION_OFFSET) + " in file: " + file);
+            }
+            final int capacity = header.getInt(CAPACITY_OFFSET);
+            if (fileSize != FILE_HEADER_LENGTH + (long) capacity) {
+                throw new IOException("File size does not match the capacity of the Record Ring Buffer: " + file);
+            }
+
+            return new MappedRecordRingBuffer(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize));
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    long head() {
+        final long head = mapped.getLong(HEAD_POSITION_OFFSET);
+        fullFence();
+        return head;
+    }
+
+    @Override
+    long tail() {
+        final long tail = mapped.getLong(TAIL_POSITION_OFFSET);
+        fullFence();
+        return tail;
+    }
+
+    @Override
+    void publishHead(final long head) {
+        fullFence();
+        mapped.putLong(HEAD_POSITION_OFFSET, head);
+    }
+
+    @Override
+    void publishTail(final long tail) {
+        fullFence();
+        mapped.putLong(TAIL_POSITION_OFFSET, tail);
+    }
+
+    /**
+     * Issues a full fence, so that no memory access, including those to the memory mapped file,
+     * may be reordered across it by either the compiler or the processor.
+     */
+    private void fullFence() {
+        fence = 0;
+    }
+
+    /**
+     * Forces any changes to the records to be written to the storage device containing the file.
+     * This is not needed to exchange records between processes, only for durability.
+     */
+    public void force() {
+        mapped.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of a {@link RingBuffer} with unordered reads,
+ * whose capacity is a power of two, so that indexes are wrapped with a bit mask.
+ * <p>Whilst any listeners, statistics, or an overflow policy other than {@link OverflowPolicy#OVERWRITE_OLDEST} are in use,
+ * or the capacity has been resized to one that is not a power of two,
+ * {@link #get()} and {@link #put(Object)} fall back to the implementations of {@link RingBuffer}.</p>
+ * <p>See {@link RingBuffer#specialised(Class, int, boolean)}.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@NotThreadSafe
+final class MaskedUnorderedRingBuffer<T> extends RingBuffer<T> {
+
+    private int mask;
+
+    MaskedUnorderedRingBuffer(final Class<T> type, final int capacity) {
+        super(type, capacity, false);
+        if ((capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public @Nullable T get() {
+        if (slowPath) {
+            return super.get();
+        }
+
+        if (available == 0) {
+            // is empty
+            return null;
+        }
+
+        readIdx = (readIdx + 1) & mask;
+        final T entry = entries[readIdx];
+
+        if (--available == 0) {
+            // if we have removed the last entry from the buffer, we can reset its state to empty
+            readIdx = READ_UNINITIALISED;
+            writeIdx = WRITE_UNINITIALISED;
+            putCount = 0;
+        }
+
+        return entry;
+    }
+
+    @Override
+    public void put(final T entry) {
+        if (slowPath) {
+            super.put(entry);
+            return;
+        }
+
+        entries[writeIdx = (writeIdx + 1) & mask] = entry;
+        if (available != capacity) {
+            available++;
+        } else {
+            overwrittenCount++;
+        }
+    }
+
+    /**
+     * If the new capacity is not a power of two, {@link #get()} and {@link #put(Object)}
+     * fall back to the implementations of {@link RingBuffer} until it is resized to a power of two again.
+     */
+    @Override
+    public void resize(final int newCapacity) {
+        super.resize(newCapacity);
+        if (fastPathSupported()) {
+            this.mask = capacity - 1;
+        }
+    }
+
+    @Override
+    boolean fastPathSupported() {
+        return Integer.bitCount(capacity) == 1;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.ThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of a bounded lock-free Ring Buffer for many producer threads and many consumer threads
+ * (i.e. Multi Producer Multi Consumer, or MPMC), which is useful for example as the work queue of a thread pool.
+ * <p>This is based on the bounded MPMC queue design by Dmitry Vyukov, where each slot has its own sequence number.
+ * A producer may only write to a slot whose sequence equals the producer's claimed position, and a consumer
+ * may only read from a slot whose sequence is one greater than the consumer's claimed position.
+ * Producers and consumers therefore only contend with each other on the {@code tail} and {@code head}
+ * respectively, and never on a single lock. No objects are allocated by {@link #offer(Object)},
+ * {@link #poll()}, or {@link #drain(Consumer)}.</p>
+ * <p>Unlike {@link RingBuffer} entries that have not yet been read are never overwritten,
+ * instead {@link #offer(Object)} returns false when the Ring Buffer is full.
+ * {@code null} entries are not supported.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@ThreadSafe
+public class MpmcRingBuffer<T> {
+
+    final @Nullable Object[] entries;
+    final int capacity;
+
+    /**
+     * The sequence number of each slot.
+     * When a slot's sequence equals {@code position} it is free to be written for that position,
+     * when it equals {@code position + 1} it holds the published entry for that position.
+     */
+    final AtomicLongArray sequences;
+
+    /**
+     * The position of the next entry to be read.
+     */
+    final Sequence head = new Sequence(0);
+
+    /**
+     * The position of the next entry to be written.
+     */
+    final Sequence tail = new Sequence(0);
+
+    /**
+     * Construct a new MPMC Ring Buffer.
+     *
+     * @param capacity the capacity of the Ring Buffer, must be at least 2 so that the sequence of a published
+     *     entry can be distinguished from the sequence of a free slot in the next lap.
+     */
+    public MpmcRingBuffer(final int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be greater than 1");
+        }
+        this.entries = new Object[capacity];
+        this.capacity = capacity;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.lazySet(i, i);
+        }
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Determine if the Ring Buffer is empty.
+     * The result is only a snapshot.
+     *
+     * @return true if the Ring Buffer is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * Get the number of entries in the Ring Buffer.
+     * The result is only a snapshot.
+     *
+     * @return the number of entries in the Ring Buffer.
+     */
+    public int size() {
+        final long h = head.get();
+        final long size = tail.get() - h;
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    /**
+     * Offer an entry to the Ring Buffer.
+     * May be called by any thread.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     *
+     * @return true if the entry was placed into the Ring Buffer, or false if the Ring Buffer was full.
+     *
+     * @throws NullPointerException if the entry is null.
+     */
+    public boolean offer(final T entry) {
+        Objects.requireNonNull(entry, "null entries are not supported");
+
+        while (true) {
+            final long position = tail.get();
+            final int idx = index(position);
+            final long sequence = sequences.get(idx);
+            final long difference = sequence - position;
+
+            if (difference == 0) {
+                // the slot is free for this position, try and claim it
+                if (tail.compareAndSet(position, position + 1)) {
+                    entries[idx] = entry;
+                    // publish the entry
+                    sequences.lazySet(idx, position + 1);
+                    return true;
+                }
+
+            } else if (difference < 0) {
+                // the slot still holds an entry from the previous lap, i.e. is full
+                return false;
+            }
+
+            // otherwise another producer claimed this position, retry with the new tail
+        }
+    }
+
+    /**
+     * Get the next entry from the Ring Buffer.
+     * May be called by any thread.
+     *
+     * @return the entry, or null if the Ring Buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T poll() {
+        while (true) {
+            final long position = head.get();
+            final int idx = index(position);
+            final long sequence = sequences.get(idx);
+            final long difference = sequence - (position + 1);
+
+            if (difference == 0) {
+                // the slot holds the entry for this position, try and claim it
+                if (head.compareAndSet(position, position + 1)) {
+                    final T entry = (T) entries[idx];
+                    entries[idx] = null;
+                    // release the slot for the next lap
+                    sequences.lazySet(idx, position + capacity);
+                    return entry;
+                }
+
+            } else if (difference < 0) {
+                // the entry for this position has not been published, i.e. is empty
+                return null;
+            }
+
+            // otherwise another consumer claimed this position, retry with the new head
+        }
+    }
+
+    /**
+     * Get the next entry from the Ring Buffer without removing it.
+     * May be called by any thread.
+     * The result is only a snapshot, another consumer may remove the entry at any time.
+     *
+     * @return the entry, or null if the Ring Buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T peek() {
+        while (true) {
+            final long position = head.get();
+            final int idx = index(position);
+            final long sequence = sequences.get(idx);
+            final long difference = sequence - (position + 1);
+
+            if (difference == 0) {
+                final @Nullable T entry = (T) entries[idx];
+                // if the head has not moved, then the entry was not consumed before it was read
+                if (entry != null && head.get() == position) {
+                    return entry;
+                }
+
+            } else if (difference < 0) {
+                // the entry for this position has not been published, i.e. is empty
+                return null;
+            }
+
+            // otherwise another consumer claimed this position, retry with the new head
+        }
+    }
+
+    /**
+     * Visit the entries that are currently available in the Ring Buffer, without removing them.
+     * May be called by any thread.
+     * <p>This is weakly consistent, entries that are concurrently offered or consumed may or may not be visited.</p>
+     *
+     * @param consumer the consumer to receive each entry.
+     */
+    @SuppressWarnings("unchecked")
+    void forEachAvailable(final Consumer<? super T> consumer) {
+        final long end = tail.get();
+        for (long position = head.get(); position < end; position++) {
+            final int idx = index(position);
+            if (sequences.get(idx) != position + 1) {
+                // not yet published, or already consumed
+                continue;
+            }
+
+            final @Nullable T entry = (T) entries[idx];
+            // check that the slot was not released for the next lap whilst the entry was being read
+            if (entry != null && sequences.get(idx) == position + 1) {
+                consumer.accept(entry);
+            }
+        }
+    }
+
+    /**
+     * Drain the entries that are currently available in the Ring Buffer,
+     * up to the capacity of the Ring Buffer.
+     * May be called by any thread.
+     *
+     * @param consumer the consumer to receive each entry.
+     *
+     * @return the number of entries drained.
+     */
+    public int drain(final Consumer<? super T> consumer) {
+        return drain(consumer, capacity);
+    }
+
+    /**
+     * Drain the entries that are currently available in the Ring Buffer.
+     * May be called by any thread.
+     * <p>When there are several consumers, the entries received by each consumer are in the order
+     * in which they were offered, but the entries may be interleaved with those received by other consumers.</p>
+     *
+     * @param consumer the consumer to receive each entry.
+     * @param limit the maximum number of entries to drain.
+     *
+     * @return the number of entries drained.
+     */
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            final @Nullable T entry = poll();
+            if (entry == null) {
+                break;
+            }
+            consumer.accept(entry);
+            drained++;
+        }
+        return drained;
+    }
+
+    private int index(final long position) {
+        return (int) (position % capacity);
+    }
+}
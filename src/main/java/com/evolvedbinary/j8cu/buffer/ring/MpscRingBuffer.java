@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of a bounded lock-free Ring Buffer for many producer threads and a single consumer thread
+ * (i.e. Multi Producer Single Consumer, or MPSC), which is useful for fan-in workloads.
+ * <p>Producers claim a slot by a CAS on the shared {@code tail}, and then publish their entry
+ * into the claimed slot with an ordered store. The consumer owns the {@code head} and
+ * reads entries without any atomic read-modify-write instructions, releasing each slot
+ * by an ordered store of the {@code head}.</p>
+ * <p>Unlike {@link RingBuffer} entries that have not yet been read are never overwritten,
+ * instead {@link #offer(Object)} returns false when the Ring Buffer is full so that the
+ * caller may choose its own backoff. As an empty slot is represented by {@code null},
+ * {@code null} entries are not supported.</p>
+ * <p>Any number of threads may call {@link #offer(Object)}, but there must only ever be a single consumer: calling
+ * {@link #poll()} or {@link #drain(Consumer)} from more than one thread, even at different times without
+ * any other synchronization, is not supported. As it is not safe for use by more than one consumer, this class is
+ * deliberately not annotated as {@code @ThreadSafe}.</p>
+ * <p>The capacity must be a power of two, so that a sequence is wrapped to an index
+ * with a bit mask rather than a 64-bit remainder operation.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+public class MpscRingBuffer<T> {
+
+    final AtomicReferenceArray<T> entries;
+    final int capacity;
+    private final int mask;
+
+    /**
+     * The sequence of the next entry to be read, only written by the consumer.
+     */
+    final Sequence head = new Sequence(0);
+
+    /**
+     * The sequence of the next slot to be claimed by a producer.
+     */
+    final Sequence tail = new Sequence(0);
+
+    /**
+     * The producers' shared view of the sequence at which the Ring Buffer becomes full,
+     * so that producers do not need to read the {@link #head} on every offer.
+     */
+    final Sequence producerLimit;
+
+    /**
+     * Construct a new MPSC Ring Buffer.
+     *
+     * @param capacity the capacity of the Ring Buffer, must be a power of two.
+     */
+    public MpscRingBuffer(final int capacity) {
+        if (capacity < 1 || (capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.producerLimit = new Sequence(capacity);
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Determine if the Ring Buffer is empty.
+     * When called from a thread other than the consumer, the result is only a snapshot.
+     *
+     * @return true if the Ring Buffer is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * Get the number of entries in the Ring Buffer, including any
+     * which have been claimed by a producer but not yet published.
+     * The result is only a snapshot.
+     *
+     * @return the number of entries in the Ring Buffer.
+     */
+    public int size() {
+        final long h = head.get();
+        final long size = tail.get() - h;
+        return (int) Math.min(capacity, size);
+    }
+
+    /**
+     * Offer an entry to the Ring Buffer.
+     * May be called by any thread.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     *
+     * @return true if the entry was placed into the Ring Buffer, or false if the Ring Buffer was full.
+     *
+     * @throws NullPointerException if the entry is null.
+     */
+    public boolean offer(final T entry) {
+        Objects.requireNonNull(entry, "null entries are not supported");
+
+        long limit = producerLimit.get();
+        long t;
+        do {
+            t = tail.get();
+            if (t >= limit) {
+                // we may have run out of space, refresh our view of the head
+                limit = head.get() + capacity;
+                if (t >= limit) {
+                    // is full
+                    return false;
+                }
+                producerLimit.setOrdered(limit);
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+
+        // publish the entry into the slot that we claimed
+        entries.lazySet(index(t), entry);
+
+        return true;
+    }
+
+    /**
+     * Get the next entry from the Ring Buffer.
+     * Must only be called by the consumer thread.
+     * <p>If a producer has claimed the next slot but not yet published its entry,
+     * then this will spin until the entry is published.</p>
+     *
+     * @return the entry, or null if the Ring Buffer is empty.
+     */
+    public @Nullable T poll() {
+        final long h = head.value;
+        final int idx = index(h);
+        @Nullable T entry = entries.get(idx);
+        if (entry == null) {
+            if (h == tail.get()) {
+                // is empty
+                return null;
+            }
+
+            // a producer has claimed the slot, but not yet published its entry
+            do {
+                entry = entries.get(idx);
+            } while (entry == null);
+        }
+
+        entries.lazySet(idx, null);
+        head.setOrdered(h + 1);
+
+        return entry;
+    }
+
+    /**
+     * Drain the entries that are currently published in the Ring Buffer,
+     * up to the capacity of the Ring Buffer.
+     * Must only be called by the consumer thread.
+     *
+     * @param consumer the consumer to receive each entry, oldest first.
+     *
+     * @return the number of entries drained.
+     */
+    public int drain(final Consumer<? super T> consumer) {
+        return drain(consumer, capacity);
+    }
+
+    /**
+     * Drain the entries that are currently published in the Ring Buffer.
+     * Must only be called by the consumer thread.
+     * <p>Draining stops at the first slot which has been claimed by a
+     * producer but not yet published, rather than waiting for it.</p>
+     *
+     * @param consumer the consumer to receive each entry, oldest first.
+     * @param limit the maximum number of entries to drain.
+     *
+     * @return the number of entries drained.
+     */
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        long h = head.value;
+        int drained = 0;
+        while (drained < limit) {
+            final int idx = index(h);
+            final T entry = entries.get(idx);
+            if (entry == null) {
+                // empty, or the next entry is not yet published
+                break;
+            }
+
+            entries.lazySet(idx, null);
+            head.setOrdered(++h);
+
+            consumer.accept(entry);
+            drained++;
+        }
+        return drained;
+    }
+
+    private int index(final long sequence) {
+        return (int) sequence & mask;
+    }
+}
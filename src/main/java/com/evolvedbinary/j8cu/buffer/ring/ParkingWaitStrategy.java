@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link WaitStrategy} that spins, then yields, and then parks the waiting thread
+ * with {@link LockSupport#parkNanos(long)}, doubling the park time after each attempt
+ * up to a maximum.
+ * <p>This consumes little CPU whilst waiting for a long time, at the cost of up to the
+ * maximum park time in latency. A signal does not wake a parked thread, instead it
+ * will notice the condition when it next wakes.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@ThreadSafe
+public class ParkingWaitStrategy implements WaitStrategy {
+
+    static final int SPIN_TRIES = 100;
+    static final int YIELD_TRIES = 100;
+    static final long DEFAULT_MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    static final long DEFAULT_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long minParkNanos;
+    private final long maxParkNanos;
+
+    /**
+     * Construct a Parking Wait Strategy with the default minimum and maximum park times.
+     */
+    public ParkingWaitStrategy() {
+        this(DEFAULT_MIN_PARK_NANOS, DEFAULT_MAX_PARK_NANOS);
+    }
+
+    /**
+     * Construct a Parking Wait Strategy.
+     *
+     * @param minParkNanos the time to park for after spinning and yielding, in nanoseconds.
+     * @param maxParkNanos the maximum time to park for, in nanoseconds.
+     */
+    public ParkingWaitStrategy(final long minParkNanos, final long maxParkNanos) {
+        if (minParkNanos < 1) {
+            throw new IllegalArgumentException("minParkNanos must be greater than 0");
+        }
+        if (maxParkNanos < minParkNanos) {
+            throw new IllegalArgumentException("maxParkNanos must not be less than minParkNanos");
+        }
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+    }
+
+    @Override
+    public boolean await(final WaitCondition condition, final long timeoutNanos) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeoutNanos;
+        int tries = 0;
+        long parkNanos = minParkNanos;
+        while (!condition.isSatisfied()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+
+            if (tries < SPIN_TRIES) {
+                tries++;
+            } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+                tries++;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, Math.min(parkNanos, remaining));
+                if (parkNanos < maxParkNanos) {
+                    parkNanos = Math.min(parkNanos << 1, maxParkNanos);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void signalAll() {
+        // nothing to do, waiting threads will check their condition when they next wake
+    }
+}
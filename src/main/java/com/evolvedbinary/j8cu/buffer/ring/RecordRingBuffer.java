@@ -0,0 +1,391 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Implementation of a Ring Buffer of variable-length binary records, stored in a {@link ByteBuffer}.
+ * <p>By default the records are stored in a direct {@link ByteBuffer}, i.e. off of the Java heap,
+ * so that large amounts of data may be buffered without storing an object per record on the heap,
+ * and therefore without adding to the work of the garbage collector.</p>
+ * <p>Each record is written with a header of {@link #HEADER_LENGTH} bytes, holding the length of the record and
+ * a user-supplied type id, and each record is aligned to {@link #ALIGNMENT} bytes. A record is never split across
+ * the end of the buffer, instead if there is insufficient space between the end of the previous record and the end
+ * of the buffer, the remaining space is filled with a padding record and the record is written at the start of the buffer.</p>
+ * <p>Records are read oldest first. Readers are given a view of each record within the buffer, so records are not copied
+ * when they are read. Unlike {@link RingBuffer} records that have not yet been read are never overwritten,
+ * instead {@link #write(int, ByteBuffer)} returns false when there is insufficient space.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@NotThreadSafe
+public class RecordRingBuffer {
+
+    /**
+     * The length of the header of each record in bytes.
+     * The header holds the length of the record's data as an {@code int}, followed by the record's type id as an {@code int}.
+     */
+    public static final int HEADER_LENGTH = 8;
+
+    /**
+     * The alignment of each record in bytes.
+     */
+    public static final int ALIGNMENT = 8;
+
+    /**
+     * The type id of a record that is used to pad the remainder of the buffer at the wrap point.
+     */
+    static final int PADDING_TYPE_ID = -1;
+
+    static final int LENGTH_OFFSET = 0;
+    static final int TYPE_ID_OFFSET = 4;
+
+    final ByteBuffer buffer;
+    final int capacity;
+
+    /**
+     * A view of the {@link #buffer} which is used for writing the data of records.
+     */
+    final ByteBuffer writeView;
+
+    /**
+     * A read-only view of the {@link #buffer} which is given to readers for each record.
+     */
+    final ByteBuffer readView;
+
+    /**
+     * The position of the next record to be read.
+     */
+    long head;
+
+    /**
+     * The position of the next record to be written.
+     */
+    long tail;
+
+    /**
+     * Construct a new Record Ring Buffer which is backed by a direct {@link ByteBuffer}.
+     *
+     * @param capacity the capacity of the Ring Buffer in bytes, must be a multiple of {@link #ALIGNMENT}.
+     */
+    public RecordRingBuffer(final int capacity) {
+        this(allocate(capacity));
+    }
+
+    /**
+     * Construct a new Record Ring Buffer which is backed by the provided {@link ByteBuffer}.
+     * The Ring Buffer uses the entire capacity of the provided buffer, ignoring its position and limit.
+     *
+     * @param buffer the buffer to store the records in, its capacity must be a multiple of {@link #ALIGNMENT}.
+     */
+    public RecordRingBuffer(final ByteBuffer buffer) {
+        final int capacity = buffer.capacity();
+        if (capacity < 2 * (HEADER_LENGTH + ALIGNMENT) || capacity % ALIGNMENT != 0) {
+            throw new IllegalArgumentException("capacity must be a multiple of " + ALIGNMENT + " and at least " + (2 * (HEADER_LENGTH + ALIGNMENT)) + " bytes");
+        }
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.writeView = buffer.duplicate().order(buffer.order());
+        this.readView = buffer.asReadOnlyBuffer().order(buffer.order());
+        this.head = 0;
+        this.tail = 0;
+    }
+
+    private static ByteBuffer allocate(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer in bytes.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the maximum length of the data of a record that may be written to this Ring Buffer.
+     * This is limited to ensure that a record of the maximum length can always be written
+     * once the Ring Buffer is empty, wherever the wrap point falls.
+     *
+     * @return the maximum length of a record's data in bytes.
+     */
+    public int maxRecordLength() {
+        return (capacity / 2) - HEADER_LENGTH;
+    }
+
+    /**
+     * Determine if the Ring Buffer is empty.
+     *
+     * @return true if the Ring Buffer is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return head() == tail();
+    }
+
+    /**
+     * Get the number of bytes in the Ring Buffer that are occupied by records, including their headers and any padding.
+     *
+     * @return the number of bytes used.
+     */
+    public int size() {
+        final long h = head();
+        return (int) (tail() - h);
+    }
+
+    /**
+     * Write a record into the Ring Buffer.
+     * The data of the record is the remaining bytes of {@code src}, and
+     * the position of {@code src} will be advanced to its limit if the record is written.
+     *
+     * @param typeId the type id of the record, must not be negative.
+     * @param src the data of the record.
+     *
+     * @return true if the record was written, or false if there was insufficient space in the Ring Buffer.
+     */
+    public boolean write(final int typeId, final ByteBuffer src) {
+        final int length = src.remaining();
+        final long recordPosition = claim(typeId, length);
+        if (recordPosition < 0) {
+            return false;
+        }
+
+        final int idx = index(recordPosition);
+        setBounds(writeView, idx + HEADER_LENGTH, length);
+        writeView.put(src);
+        commit(recordPosition, idx, typeId, length);
+        return true;
+    }
+
+    /**
+     * Write a record into the Ring Buffer.
+     *
+     * @param typeId the type id of the record, must not be negative.
+     * @param src the data of the record.
+     * @param offset the offset of the record's data in {@code src}.
+     * @param length the length of the record's data.
+     *
+     * @return true if the record was written, or false if there was insufficient space in the Ring Buffer.
+     */
+    public boolean write(final int typeId, final byte[] src, final int offset, final int length) {
+        final long recordPosition = claim(typeId, length);
+        if (recordPosition < 0) {
+            return false;
+        }
+
+        final int idx = index(recordPosition);
+        setBounds(writeView, idx + HEADER_LENGTH, length);
+        writeView.put(src, offset, length);
+        commit(recordPosition, idx, typeId, length);
+        return true;
+    }
+
+    /**
+     * Claim the space for a record, padding to the end of the buffer if the record would not fit before the wrap point.
+     *
+     * @param typeId the type id of the record.
+     * @param length the length of the record's data.
+     *
+     * @return the position of the record's header, or -1 if there is insufficient space.
+     */
+    private long claim(final int typeId, final int length) {
+        if (typeId < 0) {
+            throw new IllegalArgumentException("typeId must not be negative");
+        }
+        if (length < 0 || length > maxRecordLength()) {
+            throw new IllegalArgumentException("length must be between 0 and " + maxRecordLength());
+        }
+
+        final long tail = tail();
+        final long free = capacity - (tail - head());
+        final int recordLength = align(HEADER_LENGTH + length);
+        final int idx = index(tail);
+        final int toEnd = capacity - idx;
+
+        if (recordLength > toEnd) {
+            // the record will not fit before the wrap point, so we must pad to the end of the buffer
+            if (toEnd + recordLength > free) {
+                return -1;
+            }
+            buffer.putInt(idx + TYPE_ID_OFFSET, PADDING_TYPE_ID);
+            buffer.putInt(idx + LENGTH_OFFSET, toEnd - HEADER_LENGTH);
+            return tail + toEnd;
+
+        } else if (recordLength > free) {
+            return -1;
+        }
+
+        return tail;
+    }
+
+    /**
+     * Write the header of a record, and publish the tail past it.
+     */
+    private void commit(final long recordPosition, final int idx, final int typeId, final int length) {
+        buffer.putInt(idx + TYPE_ID_OFFSET, typeId);
+        buffer.putInt(idx + LENGTH_OFFSET, length);
+        publishTail(recordPosition + align(HEADER_LENGTH + length));
+    }
+
+    /**
+     * Read all of the records in the Ring Buffer, oldest first.
+     *
+     * @param handler the handler to receive each record.
+     *
+     * @return the number of records read.
+     */
+    public int read(final RecordHandler handler) {
+        return read(handler, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read records from the Ring Buffer, oldest first.
+     * <p>Each record is considered to have been read once the handler returns,
+     * or if the handler throws an exception.</p>
+     *
+     * @param handler the handler to receive each record.
+     * @param limit the maximum number of records to read.
+     *
+     * @return the number of records read.
+     */
+    public int read(final RecordHandler handler, final int limit) {
+        final long initialHead = head();
+        final long tail = tail();
+        long head = initialHead;
+        int read = 0;
+        try {
+            while (read < limit && head < tail) {
+                final int idx = index(head);
+                final int length = buffer.getInt(idx + LENGTH_OFFSET);
+                final int typeId = buffer.getInt(idx + TYPE_ID_OFFSET);
+                head += align(HEADER_LENGTH + length);
+                if (typeId != PADDING_TYPE_ID) {
+                    setBounds(readView, idx + HEADER_LENGTH, length);
+                    read++;
+                    handler.onRecord(typeId, readView);
+                }
+            }
+        } finally {
+            if (head != initialHead) {
+                // release the space of the records that we have read
+                publishHead(head);
+            }
+        }
+
+        return read;
+    }
+
+    /**
+     * Resets the Ring Buffer back to an initial empty state.
+     */
+    public void reset() {
+        publishHead(0);
+        publishTail(0);
+    }
+
+    /**
+     * Get the position of the next record to be read.
+     *
+     * @return the head position.
+     */
+    long head() {
+        return head;
+    }
+
+    /**
+     * Get the position of the next record to be written.
+     *
+     * @return the tail position.
+     */
+    long tail() {
+        return tail;
+    }
+
+    /**
+     * Publish the position of the next record to be read,
+     * after all reads of the preceding records have completed.
+     *
+     * @param head the new head position.
+     */
+    void publishHead(final long head) {
+        this.head = head;
+    }
+
+    /**
+     * Publish the position of the next record to be written,
+     * after all writes of the preceding records have completed.
+     *
+     * @param tail the new tail position.
+     */
+    void publishTail(final long tail) {
+        this.tail = tail;
+    }
+
+    /**
+     * Set the position and limit of a view.
+     * The view is cast to {@link Buffer} so that the compiled code is compatible with
+     * Java 8, where {@link ByteBuffer} does not override {@link Buffer#position(int)} and {@link Buffer#limit(int)}.
+     */
+    static void setBounds(final ByteBuffer view, final int position, final int length) {
+        final Buffer plainView = view;
+        plainView.limit(position + length);
+        plainView.position(position);
+    }
+
+    int index(final long position) {
+        return (int) (position % capacity);
+    }
+
+    static int align(final int length) {
+        return (length + (ALIGNMENT - 1)) & ~(ALIGNMENT - 1);
+    }
+
+    /**
+     * Receives records that are read from a {@link RecordRingBuffer}.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * Called for each record that is read.
+         *
+         * @param typeId the type id of the record.
+         * @param record a read-only view of the record's data within the Ring Buffer, between its position and limit.
+         *     The view is only valid until this method returns, and so a reference to it must not be retained.
+         */
+        void onRecord(final int typeId, final ByteBuffer record);
+    }
+}
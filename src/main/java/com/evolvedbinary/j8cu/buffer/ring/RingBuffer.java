@@ -26,12 +26,20 @@
  */
 package com.evolvedbinary.j8cu.buffer.ring;
 
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
 import net.jcip.annotations.NotThreadSafe;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of a Ring Buffer
@@ -57,8 +65,8 @@ public class RingBuffer<T> {
     final static int READ_UNINITIALISED = -1;
     final static int WRITE_UNINITIALISED = -1;
 
-    final T[] entries;
-    final int capacity;
+    T[] entries;
+    int capacity;
 
     /**
      * When `true` the oldest entry is returned first for {@link #get()} or {@link #copy()}.
@@ -91,6 +99,65 @@ public class RingBuffer<T> {
      */
     @Nullable Listener<@NonNull T>[] listeners = null;
 
+    /**
+     * Any batch listeners that will be notified of events that change the state of the Ring Buffer.
+     */
+    @Nullable BatchListener<@NonNull T>[] batchListeners = null;
+
+    /**
+     * What to do when an entry is put into the Ring Buffer when it is full.
+     */
+    OverflowPolicy overflowPolicy = OverflowPolicy.OVERWRITE_OLDEST;
+
+    /**
+     * The handler for {@link OverflowPolicy#CALLBACK}.
+     */
+    @Nullable OverflowHandler<T> overflowHandler = null;
+
+    /**
+     * The number of entries that have been overwritten before they were read.
+     */
+    long overwrittenCount;
+
+    /**
+     * The number of entries that have been dropped because the Ring Buffer was full.
+     */
+    long droppedCount;
+
+    /**
+     * The number of entries that have been rejected because the Ring Buffer was full.
+     */
+    long rejectedCount;
+
+    /**
+     * When not null, the entries stored by single operations that have not yet been notified to the batch listeners.
+     */
+    @Nullable T[] pendingStored = null;
+    int pendingStoredCount;
+
+    /**
+     * When not null, the entries retrieved by single operations that have not yet been notified to the batch listeners.
+     */
+    @Nullable T[] pendingRetrieved = null;
+    int pendingRetrievedCount;
+
+    /**
+     * When not null, the statistics that are maintained for this Ring Buffer.
+     */
+    @Nullable RingBufferStatistics statistics = null;
+
+    /**
+     * When Flight Recorder events are enabled, the {@link RingBufferOverwriteBurstEvent} for a burst of overwrites that is in progress.
+     * Typed as {@link Object} so that the event class is not loaded unless Flight Recorder events are enabled.
+     */
+    @Nullable Object overwriteBurst = null;
+
+    /**
+     * True whilst {@link #get()} and {@link #put(Object)} of the specialised implementations must defer to those of
+     * this class, see {@link #updateSlowPath()}.
+     */
+    boolean slowPath = FlightRecorderEvents.ENABLED;
+
 
 
     /**
@@ -144,6 +211,39 @@ public class RingBuffer<T> {
         return new RingBuffer<>(Object.class, capacity, orderedReads);
     }
 
+    /**
+     * Create a new Ring Buffer for a specific type, whose implementation is specialised
+     * for its capacity and read mode.
+     * <p>The returned Ring Buffer behaves identically to one constructed by
+     * {@link #RingBuffer(Class, int, boolean)}. Its specialised {@link #get()} and {@link #put(Object)}
+     * are only used whilst no listeners, statistics, or overflow policy other than
+     * {@link OverflowPolicy#OVERWRITE_OLDEST} are in use, otherwise those of this class are used.
+     * When the capacity is a power of two, indexes are wrapped with a bit mask instead of a
+     * remainder operation; if such a Ring Buffer is later resized to a capacity that is not a power of two,
+     * those of this class are also used. There are separate implementations for ordered and unordered reads.
+     * No claim is made that these are faster than {@link #RingBuffer(Class, int, boolean)};
+     * measure with the intended workload before choosing them.</p>
+     *
+     * @param type the class of the entries to be stored in the Ring Buffer.
+     * @param capacity the capacity of the Ring Buffer.
+     * @param orderedReads true if reads should be ordered, i.e. oldest first, or false otherwise.
+     * @param <T> the type of the entries in the buffer.
+     *
+     * @return the new RingBuffer instance.
+     */
+    public static <T> RingBuffer<T> specialised(final Class<T> type, final int capacity, final boolean orderedReads) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+
+        final boolean powerOfTwo = (capacity & (capacity - 1)) == 0;
+        if (orderedReads) {
+            return powerOfTwo ? new MaskedOrderedRingBuffer<>(type, capacity) : new ModuloOrderedRingBuffer<>(type, capacity);
+        } else {
+            return powerOfTwo ? new MaskedUnorderedRingBuffer<>(type, capacity) : new ModuloUnorderedRingBuffer<>(type, capacity);
+        }
+    }
+
     /**
      * Determine if the Ring Buffer is empty.
      *
@@ -165,8 +265,9 @@ public class RingBuffer<T> {
         }
 
         readIdx = (++readIdx) % capacity;
-        final T entry = entries[readIdx];
-        available = Math.max(0, available - 1);
+        final int entryIdx = readIdx;
+        final T entry = entries[entryIdx];
+        available--;
 
         if (available == 0) {
             // if we have removed the last entry from the buffer, we can reset its state to empty
@@ -175,6 +276,14 @@ public class RingBuffer<T> {
             putCount = 0;
         }
 
+        if (statistics != null) {
+            statistics.retrieved(1);
+        }
+
+        if (FlightRecorderEvents.ENABLED && overwriteBurst != null) {
+            RingBufferOverwriteBurstEvent.end(this);
+        }
+
         if (listeners != null) {
             // notify any listeners of the event
             for (int i = 0; i < listeners.length; i++) {
@@ -182,17 +291,103 @@ public class RingBuffer<T> {
             }
         }
 
+        if (batchListeners != null) {
+            notifyRetrievedBatch(entries, entryIdx, 1);
+        }
+
         return entry;
     }
 
     /**
      * Put an entry into the Ring Buffer.
+     * <p>When the Ring Buffer is full, what happens is determined by its {@link OverflowPolicy},
+     * by default the oldest entry is overwritten.</p>
      *
      * @param entry The entry to place into the Ring Buffer.
+     *
+     * @throws IllegalStateException if the Ring Buffer is full and its overflow policy is {@link OverflowPolicy#REJECT}.
      */
     public void put(final T entry) {
+        if (available == capacity && overflowPolicy != OverflowPolicy.OVERWRITE_OLDEST && !overflow(entry, true)) {
+            return;
+        }
+        store(entry);
+    }
+
+    /**
+     * Offer an entry to the Ring Buffer.
+     * <p>This is the same as {@link #put(Object)}, except that it indicates whether the entry was stored,
+     * and does not throw an exception when the overflow policy is {@link OverflowPolicy#REJECT}.</p>
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     *
+     * @return true if the entry was placed into the Ring Buffer, or false if it was dropped or rejected
+     *     because the Ring Buffer was full.
+     */
+    public boolean offer(final T entry) {
+        if (available == capacity && overflowPolicy != OverflowPolicy.OVERWRITE_OLDEST) {
+            if (!overflow(entry, false)) {
+                return false;
+            }
+            store(entry);
+            return true;
+        }
+
+        put(entry);
+        return true;
+    }
+
+    /**
+     * Handles an entry being put into the Ring Buffer when it is full, according to its overflow policy.
+     * Should not be called for {@link OverflowPolicy#OVERWRITE_OLDEST}.
+     *
+     * @param entry the entry being put.
+     * @param throwOnReject true if an exception should be thrown when the entry is rejected.
+     *
+     * @return true if the entry should be stored, or false otherwise.
+     *
+     * @throws IllegalStateException if {@code throwOnReject} is true and the entry was rejected.
+     */
+    private boolean overflow(final T entry, final boolean throwOnReject) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedCount++;
+                return false;
+
+            case REJECT:
+                rejectedCount++;
+                if (throwOnReject) {
+                    throw new IllegalStateException("The Ring Buffer is full");
+                }
+                return false;
+
+            case CALLBACK:
+                if (!overflowHandler.onOverflow(this, entry)) {
+                    droppedCount++;
+                    return false;
+                }
+                return true;
+
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Stores an entry into the Ring Buffer, overwriting the oldest entry if it is full.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     */
+    private void store(final T entry) {
         entries[writeIdx = ++writeIdx % capacity] = entry;
-        available = Math.min(capacity, available + 1);
+        if (available != capacity) {
+            available++;
+        } else {
+            overwrittenCount++;
+            if (FlightRecorderEvents.ENABLED) {
+                RingBufferOverwriteBurstEvent.overwritten(this, 1);
+            }
+        }
         if (orderedReads) {
             if (putCount == capacity) {
                 if (readIdx == READ_UNINITIALISED || (readIdx + 1) % capacity == writeIdx) {
@@ -203,12 +398,232 @@ public class RingBuffer<T> {
             }
         }
 
+        if (statistics != null) {
+            statistics.stored(1);
+        }
+
         if (listeners != null) {
             // notify any listeners of the event
             for (int i = 0; i < listeners.length; i++) {
                 listeners[i].stored(entry);
             }
         }
+
+        if (batchListeners != null) {
+            notifyStoredBatch(entries, writeIdx, 1);
+        }
+    }
+
+    /**
+     * Get the next entries from the Ring Buffer.
+     * <p>This is equivalent to calling {@link #get()} up to {@code len} times, but the entries are
+     * moved in at most two array copies, and the listeners are notified after all the entries have been
+     * retrieved.</p>
+     *
+     * @param dst the array to copy the entries into.
+     * @param off the offset in {@code dst} to copy the first entry to.
+     * @param len the maximum number of entries to get.
+     *
+     * @return the number of entries copied into {@code dst}, which will be less than {@code len}
+     *     if the Ring Buffer has fewer entries available.
+     *
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} are outside the bounds of {@code dst}.
+     */
+    public int get(final T[] dst, final int off, final int len) {
+        checkRange(dst.length, off, len);
+
+        final int count = len < available ? len : available;
+        if (count == 0) {
+            return 0;
+        }
+
+        final int start = (readIdx + 1) % capacity;
+        copyFromEntries(start, dst, off, count);
+        advanceRead(count);
+
+        if (listeners != null) {
+            // notify any listeners of the event
+            for (int i = 0; i < listeners.length; i++) {
+                for (int j = off; j < off + count; j++) {
+                    listeners[i].retrieved(dst[j]);
+                }
+            }
+        }
+
+        if (batchListeners != null) {
+            notifyRetrievedBatch(dst, off, count);
+        }
+
+        return count;
+    }
+
+    /**
+     * Remove the next entries from the Ring Buffer and pass them to a consumer.
+     * <p>This is equivalent to calling {@link #get()} up to {@code max} times, but the entries
+     * are visited directly in the internal buffer, and the listeners are notified after all the
+     * entries have been retrieved. The consumer must not modify this Ring Buffer.</p>
+     *
+     * @param consumer the consumer of the entries.
+     * @param max the maximum number of entries to remove.
+     *
+     * @return the number of entries passed to the consumer.
+     *
+     * @throws IllegalArgumentException if {@code max} is negative.
+     */
+    public int drainTo(final Consumer<? super T> consumer, final int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("max must not be negative");
+        }
+
+        final int count = max < available ? max : available;
+        if (count == 0) {
+            return 0;
+        }
+
+        final int start = (readIdx + 1) % capacity;
+        visit(start, count, consumer);
+
+        if (listeners != null) {
+            // notify any listeners of the event, before the state is reset and the entries could be overwritten
+            for (int i = 0; i < listeners.length; i++) {
+                for (int j = 0; j < count; j++) {
+                    listeners[i].retrieved(entries[(start + j) % capacity]);
+                }
+            }
+        }
+
+        if (batchListeners != null) {
+            final int firstLength = Math.min(count, capacity - start);
+            notifyRetrievedBatch(entries, start, firstLength);
+            if (firstLength < count) {
+                notifyRetrievedBatch(entries, 0, count - firstLength);
+            }
+        }
+
+        advanceRead(count);
+
+        return count;
+    }
+
+    /**
+     * Put entries into the Ring Buffer.
+     * <p>This is equivalent to calling {@link #put(Object)} for each entry in turn, but the entries
+     * are moved in at most two array copies, and the listeners are notified after all the entries
+     * have been stored. When {@code len} is greater than the capacity of the Ring Buffer, only the
+     * last {@code capacity} entries are copied, as the earlier entries would be overwritten.</p>
+     * <p>When there is not enough space for all the entries, what happens is determined by the
+     * {@link OverflowPolicy} of the Ring Buffer:</p>
+     * <ul>
+     *     <li>{@link OverflowPolicy#OVERWRITE_OLDEST} - the oldest entries are overwritten.</li>
+     *     <li>{@link OverflowPolicy#DROP_NEWEST} - the entries that fit are stored, and the rest are dropped.</li>
+     *     <li>{@link OverflowPolicy#REJECT} - none of the entries are stored, and an exception is thrown.</li>
+     *     <li>{@link OverflowPolicy#CALLBACK} - each entry is offered in turn, see {@link #offer(Object)}.</li>
+     * </ul>
+     *
+     * @param src the array of the entries to place into the Ring Buffer.
+     * @param off the offset in {@code src} of the first entry.
+     * @param len the number of entries to put.
+     *
+     * @return the number of entries that were stored.
+     *
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} are outside the bounds of {@code src}.
+     * @throws IllegalStateException if there is not enough space for the entries and the overflow policy
+     *     is {@link OverflowPolicy#REJECT}.
+     */
+    public int putAll(final T[] src, final int off, final int len) {
+        checkRange(src.length, off, len);
+        if (len == 0) {
+            return 0;
+        }
+
+        final int space = capacity - available;
+        if (len > space && overflowPolicy != OverflowPolicy.OVERWRITE_OLDEST) {
+            switch (overflowPolicy) {
+                case DROP_NEWEST:
+                    droppedCount += len - space;
+                    if (space > 0) {
+                        storeAll(src, off, space);
+                    }
+                    return space;
+
+                case REJECT:
+                    rejectedCount += len;
+                    throw new IllegalStateException("The Ring Buffer does not have space for " + len + " entries");
+
+                default:
+                    int stored = 0;
+                    for (int i = off; i < off + len; i++) {
+                        if (offer(src[i])) {
+                            stored++;
+                        }
+                    }
+                    return stored;
+            }
+        }
+
+        storeAll(src, off, len);
+        return len;
+    }
+
+    /**
+     * Stores entries into the Ring Buffer, overwriting the oldest entries if there is not enough space.
+     *
+     * @param src the array of the entries to place into the Ring Buffer.
+     * @param off the offset in {@code src} of the first entry.
+     * @param len the number of entries to put, must be greater than zero.
+     */
+    private void storeAll(final T[] src, final int off, final int len) {
+        if (len > capacity - available) {
+            overwrittenCount += len - (capacity - available);
+            if (FlightRecorderEvents.ENABLED) {
+                RingBufferOverwriteBurstEvent.overwritten(this, len - (capacity - available));
+            }
+        }
+
+        // only the last `capacity` entries will survive
+        final int skip = len > capacity ? len - capacity : 0;
+        copyToEntries(src, off + skip, (writeIdx + 1 + skip) % capacity, len - skip);
+
+        final int prevWriteIdx = writeIdx;
+        writeIdx = (int) ((writeIdx + (long) len) % capacity);
+        available = len >= capacity - available ? capacity : available + len;
+
+        if (orderedReads) {
+            // the first puts just count up to the capacity
+            final int counted = Math.min(len, capacity - putCount);
+            putCount += counted;
+
+            // the remaining puts advance readIdx, but only once a write lands just after readIdx, after which it follows writeIdx
+            final int remaining = len - counted;
+            if (remaining > 0) {
+                if (readIdx == READ_UNINITIALISED) {
+                    readIdx = writeIdx;
+                } else {
+                    final int countedWriteIdx = (int) ((prevWriteIdx + (long) counted) % capacity);
+                    final int putsUntilFollowing = Math.floorMod(readIdx - countedWriteIdx, capacity) + 1;
+                    if (putsUntilFollowing <= remaining) {
+                        readIdx = writeIdx;
+                    }
+                }
+            }
+        }
+
+        if (statistics != null) {
+            statistics.stored(len);
+        }
+
+        if (listeners != null) {
+            // notify any listeners of the event
+            for (int i = 0; i < listeners.length; i++) {
+                for (int j = off; j < off + len; j++) {
+                    listeners[i].stored(src[j]);
+                }
+            }
+        }
+
+        if (batchListeners != null) {
+            notifyStoredBatch(src, off, len);
+        }
     }
 
     /**
@@ -225,92 +640,931 @@ public class RingBuffer<T> {
 
         final Class<T> type = (Class<T>) entries.getClass().getComponentType();
         final T[] copy = (T[]) Array.newInstance(type, available);
-
-        int copyReadIdx = readIdx;
-        for (int i = 0; i < available; i++) {
-            copyReadIdx = (++copyReadIdx) % capacity;
-            copy[i] = entries[copyReadIdx];
-        }
-
+        copyFromEntries((readIdx + 1) % capacity, copy, 0, available);
         return copy;
     }
 
     /**
-     * Empties the Ring Buffer and restores it back to an initial empty state.
-     * Note that unlike {@link #reset()} this does null out the entries in the internal buffer.
+     * Copy the entries in this buffer into an array, without removing them from the buffer.
+     * <p>The entries are copied in the order that they would be returned by {@link #get()}. Unlike
+     * {@link #copy()} this does not allocate. If there are more entries than there is space for in
+     * {@code dst}, only the first entries that fit are copied.</p>
+     *
+     * @param dst the array to copy the entries into.
+     * @param off the offset in {@code dst} to copy the first entry to.
+     *
+     * @return the number of entries copied into {@code dst}.
+     *
+     * @throws IndexOutOfBoundsException if {@code off} is outside the bounds of {@code dst}.
      */
-    public void clear() {
-        for (int i = 0; i < capacity; i++) {
-            entries[i] = null;
+    public int copyInto(final T[] dst, final int off) {
+        checkRange(dst.length, off, 0);
+
+        final int space = dst.length - off;
+        final int count = space < available ? space : available;
+        if (count == 0) {
+            return 0;
         }
-        reset();
+
+        copyFromEntries((readIdx + 1) % capacity, dst, off, count);
+        return count;
     }
 
     /**
-     * Resets the Ring Buffer back to an initial empty state.
-     * Note that unlike {@link #clear()} this does not null out the entries in the internal buffer.
+     * Visit each of the entries in this buffer, without removing them from the buffer.
+     * <p>The entries are visited in the order that they would be returned by {@link #get()}.
+     * The consumer must not modify this Ring Buffer.</p>
+     *
+     * @param consumer the consumer of the entries.
      */
-    public void reset() {
-        readIdx = READ_UNINITIALISED;
-        writeIdx = WRITE_UNINITIALISED;
-        available = 0;
-        putCount = 0;
+    public void forEach(final Consumer<? super T> consumer) {
+        if (available == 0) {
+            return;
+        }
+
+        visit((readIdx + 1) % capacity, available, consumer);
     }
 
     /**
-     * Add an event listener to this Ring Buffer.
+     * Visit each of the entries in this buffer from oldest to newest, without removing them from the buffer.
+     * <p>When the Ring Buffer has ordered reads this is the same as {@link #forEach(Consumer)}. When the
+     * Ring Buffer has unordered reads and has been overfilled, the entries that would be returned by
+     * {@link #get()} are instead visited in the order that they were stored.
+     * The consumer must not modify this Ring Buffer.</p>
      *
-     * @param listener the event listener to add.
+     * @param consumer the consumer of the entries.
      */
-    @SuppressWarnings("unchecked")
-    public void addListener(final Listener<T> listener) {
-        if (listeners == null) {
-            listeners = (Listener<T>[]) new Listener[1];
+    public void forEachOldestFirst(final Consumer<? super T> consumer) {
+        if (available == 0) {
+            return;
+        }
+
+        final int start = (readIdx + 1) % capacity;
+        final int oldest = oldestOffset();
+        if (oldest == 0) {
+            visit(start, available, consumer);
         } else {
-            listeners = Arrays.copyOf(listeners, listeners.length + 1);
+            visit((start + oldest) % capacity, available - oldest, consumer);
+            visit(start, oldest, consumer);
         }
-        listeners[listeners.length - 1] = listener;
     }
 
     /**
-     * Remove an event listener from this Ring Buffer.
-     * Note that when looking for the provided listener in the registered listeners,
-     * comparison is performed by identity.
+     * Get the oldest entry in this buffer, without removing it from the buffer.
      *
-     * @param listener the event listener to remove.
+     * @return the oldest entry, or null if the Ring Buffer is empty.
      */
-    @SuppressWarnings("unchecked")
-    public void removeListener(final Listener<T> listener) {
-        if (listeners == null) {
-            return;
+    public @Nullable T peekOldest() {
+        if (available == 0) {
+            return null;
         }
+        return entryAt(oldestOffset());
+    }
 
-        for (int i = 0; i < listeners.length; i++) {
-            if (listener == listeners[i]) {
-                if (listeners.length == 1) {
-                    // if we are removing the last listener, we can just null out all the listeners
-                    listeners = null;
-                } else {
-                    final Listener<T>[] newListeners = (Listener<T>[]) new Listener[listeners.length - 1];
-                    System.arraycopy(listeners, 0, newListeners, 0, i);
-                    System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
-                    listeners = newListeners;
-                }
-                break;
-            }
+    /**
+     * Get the newest entry in this buffer, without removing it from the buffer.
+     *
+     * @return the newest entry, or null if the Ring Buffer is empty.
+     */
+    public @Nullable T peekNewest() {
+        if (available == 0) {
+            return null;
         }
+        return entryAt((oldestOffset() + available - 1) % available);
     }
 
     /**
-     * An interface that can be used to listen to events on the RingBuffer.
+     * Get an entry in this buffer by its age, without removing it from the buffer.
+     *
+     * @param ageFromOldest the age of the entry, where 0 is the oldest entry.
+     *
+     * @return the entry.
+     *
+     * @throws IndexOutOfBoundsException if {@code ageFromOldest} is negative, or not less than the number of entries.
      */
-    public interface Listener<T> {
+    public @Nullable T peek(final int ageFromOldest) {
+        if (ageFromOldest < 0 || ageFromOldest >= available) {
+            throw new IndexOutOfBoundsException("ageFromOldest: " + ageFromOldest + ", available: " + available);
+        }
+        return entryAt((oldestOffset() + ageFromOldest) % available);
+    }
 
-        /**
-         * Called when an entry is retrieved from the buffer.
-         *
-         * @param entry the entry retrieved from the buffer, or null if the Ring Buffer was empty.
-         */
+    /**
+     * Get an entry in this buffer by how recently it was put, without removing it from the buffer.
+     *
+     * @param ageFromNewest the age of the entry, where 0 is the newest entry.
+     *
+     * @return the entry.
+     *
+     * @throws IndexOutOfBoundsException if {@code ageFromNewest} is negative, or not less than the number of entries.
+     */
+    public @Nullable T peekBack(final int ageFromNewest) {
+        if (ageFromNewest < 0 || ageFromNewest >= available) {
+            throw new IndexOutOfBoundsException("ageFromNewest: " + ageFromNewest + ", available: " + available);
+        }
+        return entryAt((oldestOffset() + available - 1 - ageFromNewest) % available);
+    }
+
+    /**
+     * Get the position of the oldest entry, in the order that entries would be returned by {@link #get()}.
+     * This is always 0 when the Ring Buffer has ordered reads, but when it has unordered reads and has been overfilled,
+     * the entries that would be returned by {@link #get()} are the oldest entries rotated by this position.
+     *
+     * @return the position of the oldest entry, which is less than {@link #available}.
+     */
+    private int oldestOffset() {
+        // the newest entry is at writeIdx, so if the entry after it is within the entries to be read, then it is the oldest
+        final int oldest = Math.floorMod(writeIdx - readIdx, capacity);
+        return oldest < available ? oldest : 0;
+    }
+
+    /**
+     * Get a {@link Spliterator} over the entries in this buffer, without removing them from the buffer.
+     * <p>The entries are visited in the order that they would be returned by {@link #get()}. The Spliterator
+     * reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, and {@link Spliterator#ORDERED},
+     * and splits in half by position. This Ring Buffer must not be modified whilst the Spliterator is in use.</p>
+     *
+     * @return a Spliterator over the entries in this buffer.
+     */
+    public Spliterator<T> spliterator() {
+        return new RingBufferSpliterator<>(entries, (readIdx + 1) % capacity, 0, available);
+    }
+
+    /**
+     * Get a sequential {@link Stream} of the entries in this buffer, without removing them from the buffer.
+     * This Ring Buffer must not be modified whilst the Stream is in use.
+     *
+     * @return a Stream of the entries in this buffer.
+     *
+     * @see #spliterator()
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Get a parallel {@link Stream} of the entries in this buffer, without removing them from the buffer.
+     * This Ring Buffer must not be modified whilst the Stream is in use.
+     *
+     * @return a parallel Stream of the entries in this buffer.
+     *
+     * @see #spliterator()
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Visit entries in the internal buffer, wrapping around its end if needed.
+     *
+     * @param start the index into entries of the first entry to visit.
+     * @param count the number of entries to visit, must not be greater than the capacity.
+     * @param consumer the consumer of the entries.
+     */
+    private void visit(final int start, final int count, final Consumer<? super T> consumer) {
+        final int firstLength = Math.min(count, capacity - start);
+        for (int i = start; i < start + firstLength; i++) {
+            consumer.accept(entries[i]);
+        }
+        for (int i = 0; i < count - firstLength; i++) {
+            consumer.accept(entries[i]);
+        }
+    }
+
+    /**
+     * Copy entries out of the internal buffer, wrapping around its end if needed.
+     *
+     * @param start the index into entries of the first entry to copy.
+     * @param dst the array to copy the entries to.
+     * @param off the offset in {@code dst} to copy the first entry to.
+     * @param count the number of entries to copy, must not be greater than the capacity.
+     */
+    private void copyFromEntries(final int start, final T[] dst, final int off, final int count) {
+        final int firstLength = Math.min(count, capacity - start);
+        System.arraycopy(entries, start, dst, off, firstLength);
+        if (firstLength < count) {
+            System.arraycopy(entries, 0, dst, off + firstLength, count - firstLength);
+        }
+    }
+
+    /**
+     * Copy entries into the internal buffer, wrapping around its end if needed.
+     *
+     * @param src the array to copy the entries from.
+     * @param off the offset in {@code src} of the first entry to copy.
+     * @param start the index into entries to copy the first entry to.
+     * @param count the number of entries to copy, must not be greater than the capacity.
+     */
+    private void copyToEntries(final T[] src, final int off, final int start, final int count) {
+        final int firstLength = Math.min(count, capacity - start);
+        System.arraycopy(src, off, entries, start, firstLength);
+        if (firstLength < count) {
+            System.arraycopy(src, off + firstLength, entries, 0, count - firstLength);
+        }
+    }
+
+    /**
+     * Advance the read index as though {@link #get()} had been called {@code count} times.
+     *
+     * @param count the number of entries that have been read, must not be greater than {@link #available}.
+     */
+    private void advanceRead(final int count) {
+        readIdx = (readIdx + count) % capacity;
+        available -= count;
+
+        if (available == 0) {
+            // if we have removed the last entry from the buffer, we can reset its state to empty
+            readIdx = READ_UNINITIALISED;
+            writeIdx = WRITE_UNINITIALISED;
+            putCount = 0;
+        }
+
+        if (statistics != null) {
+            statistics.retrieved(count);
+        }
+
+        if (FlightRecorderEvents.ENABLED && overwriteBurst != null) {
+            RingBufferOverwriteBurstEvent.end(this);
+        }
+    }
+
+    /**
+     * Recalculate {@link #slowPath}, which is true if {@link #get()} and {@link #put(Object)} must do more than
+     * move an entry, i.e. if any listeners, statistics, Flight Recorder events, or an overflow policy other than
+     * {@link OverflowPolicy#OVERWRITE_OLDEST} are in use, or if {@link #fastPathSupported()} returns false.
+     * Called whenever any of those change, so that the specialised implementations only have to read a single field
+     * to decide whether they can take their fast path.
+     */
+    final void updateSlowPath() {
+        slowPath = listeners != null || batchListeners != null || statistics != null
+                || overflowPolicy != OverflowPolicy.OVERWRITE_OLDEST || FlightRecorderEvents.ENABLED
+                || !fastPathSupported();
+    }
+
+    /**
+     * Determine if the fast path of a specialised implementation supports the current capacity.
+     *
+     * @return true if the current capacity is supported, false otherwise.
+     */
+    boolean fastPathSupported() {
+        return true;
+    }
+
+    /**
+     * Discard the next entries from the Ring Buffer without retrieving them,
+     * the listeners are not notified.
+     *
+     * @param count the number of entries to discard, must not be greater than {@link #available}.
+     */
+    void discard(final int count) {
+        if (count > 0) {
+            advanceRead(count);
+        }
+    }
+
+    private static void checkRange(final int arrayLength, final int off, final int len) {
+        if (off < 0 || len < 0 || len > arrayLength - off) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", array length: " + arrayLength);
+        }
+    }
+
+    /**
+     * Set what to do when an entry is put into the Ring Buffer when it is full.
+     * To use {@link OverflowPolicy#CALLBACK}, call {@link #setOverflowHandler(OverflowHandler)} instead.
+     *
+     * @param overflowPolicy the overflow policy.
+     *
+     * @throws IllegalArgumentException if the overflow policy is {@link OverflowPolicy#CALLBACK}.
+     */
+    public void setOverflowPolicy(final OverflowPolicy overflowPolicy) {
+        if (overflowPolicy == OverflowPolicy.CALLBACK) {
+            throw new IllegalArgumentException("Use setOverflowHandler to set a callback for overflow");
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.overflowHandler = null;
+        updateSlowPath();
+    }
+
+    /**
+     * Set a handler to call when an entry is put into the Ring Buffer when it is full.
+     * This sets the overflow policy to {@link OverflowPolicy#CALLBACK}.
+     *
+     * @param overflowHandler the overflow handler.
+     */
+    public void setOverflowHandler(final OverflowHandler<T> overflowHandler) {
+        this.overflowHandler = Objects.requireNonNull(overflowHandler, "overflowHandler must not be null");
+        this.overflowPolicy = OverflowPolicy.CALLBACK;
+        updateSlowPath();
+    }
+
+    /**
+     * Get what happens when an entry is put into the Ring Buffer when it is full.
+     *
+     * @return the overflow policy.
+     */
+    public OverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Get the number of entries that have been overwritten before they were read,
+     * since the Ring Buffer was constructed.
+     *
+     * @return the number of overwritten entries.
+     */
+    public long overwrittenCount() {
+        return overwrittenCount;
+    }
+
+    /**
+     * Get the number of entries that were not stored because the Ring Buffer was full,
+     * since the Ring Buffer was constructed, when the overflow policy is
+     * {@link OverflowPolicy#DROP_NEWEST} or {@link OverflowPolicy#CALLBACK}.
+     *
+     * @return the number of dropped entries.
+     */
+    public long droppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Get the number of entries that were rejected because the Ring Buffer was full,
+     * since the Ring Buffer was constructed, when the overflow policy is {@link OverflowPolicy#REJECT}.
+     *
+     * @return the number of rejected entries.
+     */
+    public long rejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Get a {@link Deque} view of this Ring Buffer.
+     * <p>The head of the Deque is the next entry that would be returned by {@link #get()}, and its tail is the last.
+     * Operations on the Deque access the internal buffer of this Ring Buffer directly, and operations at either end
+     * are O(1). Unlike {@link #put(Object)}, the Deque does not overwrite entries when this Ring Buffer is full,
+     * instead it is capacity restricted, and {@code null} entries are not supported. Any {@code null} entries put
+     * into this Ring Buffer directly are returned by the Deque as {@code null}.</p>
+     * <p>Changes made through the Deque are visible to this Ring Buffer, and vice versa. Any listeners are
+     * notified of the entries stored and retrieved through the Deque.</p>
+     *
+     * @return a Deque view of this Ring Buffer.
+     */
+    public Deque<T> asDeque() {
+        return new RingBufferDeque<>(this);
+    }
+
+    /**
+     * Get an entry by its position in the order that entries would be returned by {@link #get()}.
+     *
+     * @param offset the position of the entry, must be less than {@link #available}.
+     *
+     * @return the entry.
+     */
+    T entryAt(final int offset) {
+        return entries[(readIdx + 1 + offset) % capacity];
+    }
+
+    /**
+     * Put an entry at the front of the Ring Buffer, so that it is the next entry returned by {@link #get()}.
+     *
+     * @param entry the entry to place into the Ring Buffer.
+     *
+     * @return true if the entry was placed into the Ring Buffer, or false if the Ring Buffer was full.
+     */
+    boolean putFirst(final T entry) {
+        if (available == capacity) {
+            return false;
+        }
+
+        final int start = (readIdx + 1) % capacity;
+        final int first = start == 0 ? capacity - 1 : start - 1;
+        entries[first] = entry;
+        available++;
+
+        readIdx = first == 0 ? capacity - 1 : first - 1;
+        writeIdx = (first + available - 1) % capacity;
+        if (orderedReads && putCount < available) {
+            // ensure that a subsequent put when full will advance readIdx
+            putCount = available;
+        }
+
+        if (statistics != null) {
+            statistics.stored(1);
+        }
+
+        notifyStored(first);
+        return true;
+    }
+
+    /**
+     * Put an entry at the back of the Ring Buffer, so that it is the last entry returned by {@link #get()}.
+     *
+     * @param entry the entry to place into the Ring Buffer.
+     *
+     * @return true if the entry was placed into the Ring Buffer, or false if the Ring Buffer was full.
+     */
+    boolean putLast(final T entry) {
+        if (available == capacity) {
+            return false;
+        }
+
+        // ensure that put writes immediately after the last entry to be read
+        writeIdx = (readIdx + available) % capacity;
+        put(entry);
+        return true;
+    }
+
+    /**
+     * Get the last entry from the Ring Buffer, i.e. the entry that would be returned by {@link #get()} last.
+     *
+     * @return the entry, or null if the Ring Buffer is empty.
+     */
+    @Nullable T getLast() {
+        if (available == 0) {
+            // is empty
+            return null;
+        }
+
+        final int last = (readIdx + available) % capacity;
+        final T entry = entries[last];
+        available--;
+
+        if (available == 0) {
+            // if we have removed the last entry from the buffer, we can reset its state to empty
+            readIdx = READ_UNINITIALISED;
+            writeIdx = WRITE_UNINITIALISED;
+            putCount = 0;
+        } else {
+            writeIdx = last == 0 ? capacity - 1 : last - 1;
+            initialiseReadIdx();
+        }
+
+        if (statistics != null) {
+            statistics.retrieved(1);
+        }
+
+        if (FlightRecorderEvents.ENABLED && overwriteBurst != null) {
+            RingBufferOverwriteBurstEvent.end(this);
+        }
+
+        notifyRetrieved(last);
+        return entry;
+    }
+
+    /**
+     * Remove an entry by its position in the order that entries would be returned by {@link #get()}.
+     * The entries on the shorter side of the position are moved to close the gap.
+     *
+     * @param offset the position of the entry, must be less than {@link #available}.
+     */
+    void removeAt(final int offset) {
+        final int start = (readIdx + 1) % capacity;
+
+        // notify before the entry is overwritten by moving the other entries
+        notifyRetrieved((start + offset) % capacity);
+
+        if (offset < available / 2) {
+            // move the entries before the offset towards the back, and then drop the first entry
+            for (int i = offset; i > 0; i--) {
+                entries[(start + i) % capacity] = entries[(start + i - 1) % capacity];
+            }
+            readIdx = start;
+            available--;
+        } else {
+            // move the entries after the offset towards the front, and then drop the last entry
+            for (int i = offset; i < available - 1; i++) {
+                entries[(start + i) % capacity] = entries[(start + i + 1) % capacity];
+            }
+            available--;
+            writeIdx = (start + available - 1) % capacity;
+            initialiseReadIdx();
+        }
+
+        if (available == 0) {
+            // if we have removed the last entry from the buffer, we can reset its state to empty
+            readIdx = READ_UNINITIALISED;
+            writeIdx = WRITE_UNINITIALISED;
+            putCount = 0;
+        }
+
+        if (statistics != null) {
+            statistics.retrieved(1);
+        }
+
+        if (FlightRecorderEvents.ENABLED && overwriteBurst != null) {
+            RingBufferOverwriteBurstEvent.end(this);
+        }
+    }
+
+    /**
+     * Sets {@code readIdx} to the index before the first entry to be read, if it is uninitialised.
+     * Needed once entries have been removed from the back, as in ordered mode an uninitialised
+     * {@code readIdx} causes the next {@link #put(Object)} to treat the Ring Buffer as full.
+     */
+    private void initialiseReadIdx() {
+        if (readIdx == READ_UNINITIALISED) {
+            readIdx = capacity - 1;
+        }
+    }
+
+    /**
+     * Notify the listeners that an entry was stored.
+     *
+     * @param idx the index into entries of the entry.
+     */
+    private void notifyStored(final int idx) {
+        if (listeners != null) {
+            // notify any listeners of the event
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i].stored(entries[idx]);
+            }
+        }
+
+        if (batchListeners != null) {
+            notifyStoredBatch(entries, idx, 1);
+        }
+    }
+
+    /**
+     * Notify the listeners that an entry was retrieved.
+     *
+     * @param idx the index into entries of the entry.
+     */
+    private void notifyRetrieved(final int idx) {
+        if (listeners != null) {
+            // notify any listeners of the event
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i].retrieved(entries[idx]);
+            }
+        }
+
+        if (batchListeners != null) {
+            notifyRetrievedBatch(entries, idx, 1);
+        }
+    }
+
+    /**
+     * Empties the Ring Buffer and restores it back to an initial empty state.
+     * Note that unlike {@link #reset()} this does null out the entries in the internal buffer.
+     */
+    public void clear() {
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = null;
+        }
+        reset();
+    }
+
+    /**
+     * Resets the Ring Buffer back to an initial empty state.
+     * Note that unlike {@link #clear()} this does not null out the entries in the internal buffer.
+     */
+    public void reset() {
+        readIdx = READ_UNINITIALISED;
+        writeIdx = WRITE_UNINITIALISED;
+        available = 0;
+        putCount = 0;
+
+        if (statistics != null) {
+            statistics.occupancyChanged();
+        }
+
+        if (FlightRecorderEvents.ENABLED && overwriteBurst != null) {
+            RingBufferOverwriteBurstEvent.end(this);
+        }
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Change the capacity of the Ring Buffer, keeping its entries in the order that they would be returned by {@link #get()}.
+     * <p>The entries are moved into a new internal buffer in at most two array copies, after which the Ring Buffer is
+     * in the same state as a new Ring Buffer into which those entries had been put. If the new capacity is less than
+     * the number of entries available, the entries that would be returned first by {@link #get()} are discarded,
+     * which when the Ring Buffer has ordered reads are the oldest entries. The discarded entries are reported in the same
+     * way as entries overwritten by {@link #put(Object)}, i.e. they are added to {@link #overwrittenCount()} and so to
+     * the {@link #statistics()}, and to any Flight Recorder overwrite burst; as with an overwrite, the listeners are not
+     * notified of them.</p>
+     *
+     * @param newCapacity the new capacity of the Ring Buffer.
+     *
+     * @throws IllegalArgumentException if the new capacity is less than 1.
+     */
+    @SuppressWarnings("unchecked")
+    public void resize(final int newCapacity) {
+        if (newCapacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        if (newCapacity == capacity) {
+            return;
+        }
+
+        final int kept = available < newCapacity ? available : newCapacity;
+        final int discarded = available - kept;
+        final Class<T> type = (Class<T>) entries.getClass().getComponentType();
+        final T[] newEntries = (T[]) Array.newInstance(type, newCapacity);
+        if (kept > 0) {
+            copyFromEntries((readIdx + 1 + available - kept) % capacity, newEntries, 0, kept);
+        }
+
+        this.entries = newEntries;
+        this.capacity = newCapacity;
+        this.readIdx = READ_UNINITIALISED;
+        this.writeIdx = kept == 0 ? WRITE_UNINITIALISED : kept - 1;
+        this.available = kept;
+        this.putCount = orderedReads ? kept : 0;
+        updateSlowPath();
+
+        if (discarded > 0) {
+            overwrittenCount += discarded;
+            if (FlightRecorderEvents.ENABLED) {
+                RingBufferOverwriteBurstEvent.overwritten(this, discarded);
+            }
+        }
+
+        if (statistics != null) {
+            statistics.occupancyChanged();
+        }
+
+        if (FlightRecorderEvents.ENABLED && overwriteBurst != null) {
+            RingBufferOverwriteBurstEvent.end(this);
+        }
+    }
+
+    /**
+     * Enable the maintenance of statistics for this Ring Buffer.
+     * <p>Until enabled, statistics have no cost. The statistics may be registered as a platform MXBean
+     * by calling {@link RingBufferStatistics#register(String)}.</p>
+     *
+     * @return the statistics, which are the same as any previously enabled statistics.
+     */
+    public RingBufferStatistics enableStatistics() {
+        return enableStatistics(System::nanoTime);
+    }
+
+    /**
+     * Enable the maintenance of statistics for this Ring Buffer.
+     *
+     * @param nanoClock a clock that provides the current time in nanoseconds.
+     *
+     * @return the statistics, which are the same as any previously enabled statistics.
+     */
+    RingBufferStatistics enableStatistics(final LongSupplier nanoClock) {
+        if (statistics == null) {
+            statistics = new RingBufferStatistics(this, nanoClock);
+            updateSlowPath();
+        }
+        return statistics;
+    }
+
+    /**
+     * Disable the maintenance of statistics for this Ring Buffer.
+     * Note that this does not unregister the statistics if they were registered as a platform MXBean.
+     */
+    public void disableStatistics() {
+        statistics = null;
+        updateSlowPath();
+    }
+
+    /**
+     * Get the statistics of this Ring Buffer.
+     *
+     * @return the statistics, or null if they are not enabled.
+     */
+    public @Nullable RingBufferStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Add an event listener to this Ring Buffer.
+     *
+     * @param listener the event listener to add.
+     */
+    @SuppressWarnings("unchecked")
+    public void addListener(final Listener<T> listener) {
+        if (listeners == null) {
+            listeners = (Listener<T>[]) new Listener[1];
+        } else {
+            listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        }
+        listeners[listeners.length - 1] = listener;
+        updateSlowPath();
+    }
+
+    /**
+     * Remove an event listener from this Ring Buffer.
+     * Note that when looking for the provided listener in the registered listeners,
+     * comparison is performed by identity.
+     *
+     * @param listener the event listener to remove.
+     */
+    @SuppressWarnings("unchecked")
+    public void removeListener(final Listener<T> listener) {
+        if (listeners == null) {
+            return;
+        }
+
+        for (int i = 0; i < listeners.length; i++) {
+            if (listener == listeners[i]) {
+                if (listeners.length == 1) {
+                    // if we are removing the last listener, we can just null out all the listeners
+                    listeners = null;
+                } else {
+                    final Listener<T>[] newListeners = (Listener<T>[]) new Listener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, newListeners, 0, i);
+                    System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                    listeners = newListeners;
+                }
+                updateSlowPath();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Add a batch event listener to this Ring Buffer.
+     *
+     * @param batchListener the batch event listener to add.
+     */
+    @SuppressWarnings("unchecked")
+    public void addBatchListener(final BatchListener<T> batchListener) {
+        if (batchListeners == null) {
+            batchListeners = (BatchListener<T>[]) new BatchListener[1];
+        } else {
+            batchListeners = Arrays.copyOf(batchListeners, batchListeners.length + 1);
+        }
+        batchListeners[batchListeners.length - 1] = batchListener;
+        updateSlowPath();
+    }
+
+    /**
+     * Remove a batch event listener from this Ring Buffer.
+     * Note that when looking for the provided batch listener in the registered batch listeners,
+     * comparison is performed by identity.
+     * <p>If the last batch listener is removed, any coalesced events that have not yet been
+     * notified are discarded.</p>
+     *
+     * @param batchListener the batch event listener to remove.
+     */
+    @SuppressWarnings("unchecked")
+    public void removeBatchListener(final BatchListener<T> batchListener) {
+        if (batchListeners == null) {
+            return;
+        }
+
+        for (int i = 0; i < batchListeners.length; i++) {
+            if (batchListener == batchListeners[i]) {
+                if (batchListeners.length == 1) {
+                    // if we are removing the last batch listener, we can just null out all the batch listeners
+                    batchListeners = null;
+                    discardPending();
+                } else {
+                    final BatchListener<T>[] newBatchListeners = (BatchListener<T>[]) new BatchListener[batchListeners.length - 1];
+                    System.arraycopy(batchListeners, 0, newBatchListeners, 0, i);
+                    System.arraycopy(batchListeners, i + 1, newBatchListeners, i, batchListeners.length - i - 1);
+                    batchListeners = newBatchListeners;
+                }
+                updateSlowPath();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Configure the coalescing of the events from single operations, i.e. {@link #put(Object)} and {@link #get()},
+     * for the batch listeners.
+     * <p>When {@code batchSize} is greater than 1, the entries stored and retrieved by single operations
+     * are collected, and the batch listeners are notified once per {@code batchSize} entries. Any collected
+     * entries are notified before the next bulk operation notifies its own entries, or when
+     * {@link #flushBatchListeners()} is called. Note that the relative order of store and retrieve
+     * events is not preserved between batches.</p>
+     * <p>When {@code batchSize} is 1, the default, the batch listeners are notified of each single operation.</p>
+     *
+     * @param batchSize the number of entries from single operations to collect before notifying the batch listeners.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1.
+     */
+    @SuppressWarnings("unchecked")
+    public void coalesceBatchListenerEvents(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+
+        flushBatchListeners();
+
+        if (batchSize == 1) {
+            pendingStored = null;
+            pendingRetrieved = null;
+        } else {
+            final Class<T> type = (Class<T>) entries.getClass().getComponentType();
+            pendingStored = (T[]) Array.newInstance(type, batchSize);
+            pendingRetrieved = (T[]) Array.newInstance(type, batchSize);
+        }
+    }
+
+    /**
+     * Notify the batch listeners of any coalesced events that have not yet been notified.
+     *
+     * @see #coalesceBatchListenerEvents(int)
+     */
+    public void flushBatchListeners() {
+        if (pendingStoredCount > 0) {
+            flushPendingStored();
+        }
+        if (pendingRetrievedCount > 0) {
+            flushPendingRetrieved();
+        }
+    }
+
+    private void notifyStoredBatch(final T[] src, final int off, final int len) {
+        if (pendingStored != null) {
+            if (len == 1) {
+                pendingStored[pendingStoredCount++] = src[off];
+                if (pendingStoredCount == pendingStored.length) {
+                    flushPendingStored();
+                }
+                return;
+            }
+
+            if (pendingStoredCount > 0) {
+                flushPendingStored();
+            }
+        }
+
+        for (int i = 0; i < batchListeners.length; i++) {
+            batchListeners[i].storedBatch(src, off, len);
+        }
+    }
+
+    private void notifyRetrievedBatch(final T[] src, final int off, final int len) {
+        if (pendingRetrieved != null) {
+            if (len == 1) {
+                pendingRetrieved[pendingRetrievedCount++] = src[off];
+                if (pendingRetrievedCount == pendingRetrieved.length) {
+                    flushPendingRetrieved();
+                }
+                return;
+            }
+
+            if (pendingRetrievedCount > 0) {
+                flushPendingRetrieved();
+            }
+        }
+
+        for (int i = 0; i < batchListeners.length; i++) {
+            batchListeners[i].retrievedBatch(src, off, len);
+        }
+    }
+
+    private void flushPendingStored() {
+        if (batchListeners != null) {
+            for (int i = 0; i < batchListeners.length; i++) {
+                batchListeners[i].storedBatch(pendingStored, 0, pendingStoredCount);
+            }
+        }
+        // do not retain references to the entries
+        Arrays.fill(pendingStored, 0, pendingStoredCount, null);
+        pendingStoredCount = 0;
+    }
+
+    private void flushPendingRetrieved() {
+        if (batchListeners != null) {
+            for (int i = 0; i < batchListeners.length; i++) {
+                batchListeners[i].retrievedBatch(pendingRetrieved, 0, pendingRetrievedCount);
+            }
+        }
+        // do not retain references to the entries
+        Arrays.fill(pendingRetrieved, 0, pendingRetrievedCount, null);
+        pendingRetrievedCount = 0;
+    }
+
+    private void discardPending() {
+        if (pendingStored != null) {
+            Arrays.fill(pendingStored, 0, pendingStoredCount, null);
+            pendingStoredCount = 0;
+        }
+        if (pendingRetrieved != null) {
+            Arrays.fill(pendingRetrieved, 0, pendingRetrievedCount, null);
+            pendingRetrievedCount = 0;
+        }
+    }
+
+    /**
+     * An interface that can be used to listen to events on the RingBuffer.
+     */
+    public interface Listener<T> {
+
+        /**
+         * Called when an entry is retrieved from the buffer.
+         *
+         * @param entry the entry retrieved from the buffer, or null if the Ring Buffer was empty.
+         */
         void retrieved(final @Nullable T entry);
 
         /**
@@ -320,4 +1574,73 @@ public class RingBuffer<T> {
          */
         void stored(final T entry);
     }
+
+    /**
+     * An interface that can be used to listen to batches of events on the RingBuffer.
+     * <p>The entries of a batch are provided as a range of an array, which may be the internal
+     * buffer of the Ring Buffer, or an array provided to a bulk operation. Implementations must
+     * not modify the array, and must not retain a reference to it after the callback returns.</p>
+     */
+    public interface BatchListener<T> {
+
+        /**
+         * Called when entries are retrieved from the buffer.
+         *
+         * @param src the array containing the entries retrieved from the buffer.
+         * @param off the offset in {@code src} of the first entry.
+         * @param len the number of entries.
+         */
+        void retrievedBatch(final T[] src, final int off, final int len);
+
+        /**
+         * Called when entries are stored into the buffer.
+         *
+         * @param src the array containing the entries stored into the buffer.
+         * @param off the offset in {@code src} of the first entry.
+         * @param len the number of entries.
+         */
+        void storedBatch(final T[] src, final int off, final int len);
+    }
+
+    /**
+     * A handler for when an entry is put into a Ring Buffer that is full,
+     * and its overflow policy is {@link OverflowPolicy#CALLBACK}.
+     */
+    @FunctionalInterface
+    public interface OverflowHandler<T> {
+
+        /**
+         * Called when an entry is put into the Ring Buffer when it is full.
+         * The handler may make space for the entry, e.g. by calling {@link RingBuffer#get()}.
+         *
+         * @param ringBuffer the Ring Buffer which is full.
+         * @param entry the entry being put into the Ring Buffer.
+         *
+         * @return true if the entry should be stored, overwriting the oldest entry if the Ring Buffer is still full,
+         *     or false if the entry should be dropped.
+         */
+        boolean onOverflow(final RingBuffer<T> ringBuffer, final T entry);
+
+        /**
+         * Get a handler which grows the Ring Buffer when it is full, by doubling its capacity up to a maximum.
+         * Once the Ring Buffer has reached the maximum capacity, the oldest entry is overwritten.
+         *
+         * @param <T> the type of the entries in the buffer.
+         * @param maxCapacity the maximum capacity to grow the Ring Buffer to.
+         *
+         * @return the overflow handler.
+         */
+        static <T> OverflowHandler<T> grow(final int maxCapacity) {
+            if (maxCapacity < 1) {
+                throw new IllegalArgumentException("maxCapacity must be greater than 0");
+            }
+            return (ringBuffer, entry) -> {
+                final int capacity = ringBuffer.capacity();
+                if (capacity < maxCapacity) {
+                    ringBuffer.resize((int) Math.min(maxCapacity, capacity * 2L));
+                }
+                return true;
+            };
+        }
+    }
 }
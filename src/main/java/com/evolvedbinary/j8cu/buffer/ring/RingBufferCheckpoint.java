@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.ThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Writes the state of a {@link RingBuffer} to a binary image, and restores a Ring Buffer from it,
+ * so that the entries held in a Ring Buffer may survive a restart.
+ * <p>The image starts with a header holding the capacity, the indexes, the put count, and the overflow counters of the
+ * Ring Buffer, followed by the entries in the order that they would be read. When the Ring Buffer has ordered reads
+ * only the entries that are available to be read are written, otherwise every slot of the internal buffer is written,
+ * as after the Ring Buffer has been overfilled, unordered reads may return entries beyond those counted as available.
+ * Each entry is encoded by an {@link ElementCodec} and preceded by its length, a length of {@code -1} is used for a
+ * {@code null} entry.
+ * The image ends with a CRC32 checksum of all of the preceding bytes. All values are written in big-endian byte order.</p>
+ * <p>Restoring an image places each entry back at the same index of the internal buffer,
+ * so the restored Ring Buffer has exactly the same state, including that of ordered reads.
+ * Listeners, the overflow policy, and any specialisation of the Ring Buffer are configuration rather than state,
+ * and are not included in the image.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@ThreadSafe
+public final class RingBufferCheckpoint {
+
+    static final int MAGIC = 0x4A385243;  // J8RC
+    static final int VERSION = 1;
+
+    /**
+     * The length of the header of the image, see {@link #write(RingBuffer, ElementCodec, FileChannel)}.
+     */
+    static final int HEADER_LENGTH = 4 + 4 + 4 + 4 + 4 + 4 + 4 + 4 + 8 + 8 + 8;
+
+    private static final int ENTRY_LENGTH_LENGTH = 4;
+    private static final int CHECKSUM_LENGTH = 8;
+    private static final int NULL_ENTRY_LENGTH = -1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private RingBufferCheckpoint() {
+        // no-op
+    }
+
+    /**
+     * Write an image of a Ring Buffer to a file, replacing any existing file.
+     * <p>The image is first written to a temporary file in the same directory, which is forced to the
+     * storage device and then moved over the file, so that the file always holds a complete image.
+     * The directory is then forced, so that the move itself is not lost if the system crashes.
+     * If the image cannot be written or moved, the temporary file is deleted and any existing file is left unchanged.</p>
+     *
+     * @param <T> the type of the entries in the buffer.
+     * @param ringBuffer the Ring Buffer, which is not modified.
+     * @param codec the codec for the entries.
+     * @param file the path of the file.
+     *
+     * @throws IOException if the image cannot be written.
+     */
+    public static <T> void write(final RingBuffer<T> ringBuffer, final ElementCodec<T> codec, final Path file) throws IOException {
+        final Path absoluteFile = file.toAbsolutePath();
+        final Path tempFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + ".tmp");
+        try {
+            try (final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                write(ringBuffer, codec, channel);
+                channel.force(true);
+            }
+            Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (final IOException de) {
+                e.addSuppressed(de);
+            }
+            throw e;
+        }
+        Directories.force(absoluteFile.getParent());
+    }
+
+    /**
+     * Write an image of a Ring Buffer to a channel, starting at the channel's current position.
+     *
+     * @param <T> the type of the entries in the buffer.
+     * @param ringBuffer the Ring Buffer, which is not modified.
+     * @param codec the codec for the entries.
+     * @param channel the channel to write the image to.
+     *
+     * @throws IOException if the image cannot be written.
+     */
+    public static <T> void write(final RingBuffer<T> ringBuffer, final ElementCodec<T> codec, final FileChannel channel) throws IOException {
+        final CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(ringBuffer.orderedReads ? 1 : 0);
+        buffer.putInt(ringBuffer.capacity);
+        buffer.putInt(ringBuffer.readIdx);
+        buffer.putInt(ringBuffer.writeIdx);
+        buffer.putInt(ringBuffer.available);
+        buffer.putInt(ringBuffer.putCount);
+        buffer.putLong(ringBuffer.overwrittenCount);
+        buffer.putLong(ringBuffer.droppedCount);
+        buffer.putLong(ringBuffer.rejectedCount);
+
+        final T[] entries = ringBuffer.entries;
+        final int start = (ringBuffer.readIdx + 1) % ringBuffer.capacity;
+        final int count = slotCount(ringBuffer.orderedReads, ringBuffer.capacity, ringBuffer.available);
+        for (int i = 0; i < count; i++) {
+            final @Nullable T entry = entries[(start + i) % ringBuffer.capacity];
+            final int length = entry == null ? NULL_ENTRY_LENGTH : codec.encodedLength(entry);
+            final int required = ENTRY_LENGTH_LENGTH + Math.max(length, 0);
+            if (buffer.remaining() < required) {
+                writeFully(buffer, checksum, channel);
+                if (buffer.capacity() < required) {
+                    buffer = ByteBuffer.allocate(required);
+                }
+            }
+
+            buffer.putInt(length);
+            if (entry != null) {
+                final int expectedPosition = buffer.position() + length;
+                codec.encode(entry, buffer);
+                if (buffer.position() != expectedPosition) {
+                    throw new IllegalStateException("The codec encoded " + (buffer.position() - expectedPosition + length) + " bytes, but reported an encoded length of " + length);
+                }
+            }
+        }
+
+        writeFully(buffer, checksum, channel);
+        buffer.putLong(checksum.getValue());
+        ((Buffer) buffer).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Get the number of slots of the internal buffer that are written to the image, starting from the next to be read.
+     */
+    private static int slotCount(final boolean orderedReads, final int capacity, final int available) {
+        return orderedReads ? available : capacity;
+    }
+
+    /**
+     * Writes the contents of the buffer to the channel, adding them to the checksum,
+     * and then clears the buffer.
+     */
+    private static void writeFully(final ByteBuffer buffer, final CRC32 checksum, final FileChannel channel) throws IOException {
+        ((Buffer) buffer).flip();
+        checksum.update(buffer.array(), buffer.arrayOffset(), buffer.limit());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        ((Buffer) buffer).clear();
+    }
+
+    /**
+     * Restore a Ring Buffer from an image in a file.
+     *
+     * @param <T> the type of the entries in the buffer.
+     * @param type the class of the entries to be stored in the Ring Buffer.
+     * @param codec the codec for the entries.
+     * @param file the path of the file.
+     *
+     * @return the restored Ring Buffer.
+     *
+     * @throws IOException if the image cannot be read, or is invalid.
+     */
+    public static <T> RingBuffer<T> read(final Class<T> type, final ElementCodec<T> codec, final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(type, codec, channel);
+        }
+    }
+
+    /**
+     * Restore a Ring Buffer from an image in a channel, starting at the channel's current position.
+     *
+     * @param <T> the type of the entries in the buffer.
+     * @param type the class of the entries to be stored in the Ring Buffer.
+     * @param codec the codec for the entries.
+     * @param channel the channel to read the image from.
+     *
+     * @return the restored Ring Buffer.
+     *
+     * @throws IOException if the image cannot be read, or is invalid.
+     */
+    public static <T> RingBuffer<T> read(final Class<T> type, final ElementCodec<T> codec, final FileChannel channel) throws IOException {
+        final CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        readFully(channel, buffer, HEADER_LENGTH, checksum);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a Ring Buffer checkpoint");
+        }
+        final int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported Ring Buffer checkpoint version: " + version);
+        }
+        final boolean orderedReads = buffer.getInt() != 0;
+        final int capacity = buffer.getInt();
+        final int readIdx = buffer.getInt();
+        final int writeIdx = buffer.getInt();
+        final int available = buffer.getInt();
+        final int putCount = buffer.getInt();
+        final long overwrittenCount = buffer.getLong();
+        final long droppedCount = buffer.getLong();
+        final long rejectedCount = buffer.getLong();
+
+        if (capacity < 1
+                || readIdx < RingBuffer.READ_UNINITIALISED || readIdx >= capacity
+                || writeIdx < RingBuffer.WRITE_UNINITIALISED || writeIdx >= capacity
+                || available < 0 || available > capacity
+                || putCount < 0 || putCount > capacity
+                || (orderedReads && putCount < available)) {
+            throw new IOException("Corrupt Ring Buffer checkpoint header");
+        }
+
+        final RingBuffer<T> ringBuffer = new RingBuffer<>(type, capacity, orderedReads);
+        final T[] entries = ringBuffer.entries;
+        final int start = (readIdx + 1) % capacity;
+        final int count = slotCount(orderedReads, capacity, available);
+        for (int i = 0; i < count; i++) {
+            readFully(channel, buffer, ENTRY_LENGTH_LENGTH, checksum);
+            final int length = buffer.getInt();
+            if (length == NULL_ENTRY_LENGTH) {
+                continue;
+            }
+            if (length < 0) {
+                throw new IOException("Corrupt Ring Buffer checkpoint entry length: " + length);
+            }
+            if (buffer.capacity() < length) {
+                buffer = ByteBuffer.allocate(length);
+            }
+            readFully(channel, buffer, length, checksum);
+            entries[(start + i) % capacity] = codec.decode(buffer);
+        }
+
+        final long expectedChecksum = checksum.getValue();
+        readFully(channel, buffer, CHECKSUM_LENGTH, null);
+        if (buffer.getLong() != expectedChecksum) {
+            throw new IOException("Ring Buffer checkpoint checksum mismatch");
+        }
+
+        ringBuffer.readIdx = readIdx;
+        ringBuffer.writeIdx = writeIdx;
+        ringBuffer.available = available;
+        ringBuffer.putCount = putCount;
+        ringBuffer.overwrittenCount = overwrittenCount;
+        ringBuffer.droppedCount = droppedCount;
+        ringBuffer.rejectedCount = rejectedCount;
+        return ringBuffer;
+    }
+
+    /**
+     * Reads exactly {@code length} bytes from the channel into the start of the buffer, adding them to the checksum,
+     * and then flips the buffer so that they may be read.
+     */
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final int length, final @Nullable CRC32 checksum) throws IOException {
+        ((Buffer) buffer).clear();
+        ((Buffer) buffer).limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of Ring Buffer checkpoint");
+            }
+        }
+        ((Buffer) buffer).flip();
+        if (checksum != null) {
+            checksum.update(buffer.array(), buffer.arrayOffset(), length);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@link Deque} view of a {@link RingBuffer}, see {@link RingBuffer#asDeque()}.
+ * <p>The Deque is capacity restricted to the capacity of the Ring Buffer, and does not support {@code null} entries.
+ * However, {@code null} entries may still be put into the Ring Buffer itself; the methods that throw
+ * {@link NoSuchElementException} decide whether the Deque is empty by its size, and so return such a {@code null},
+ * whilst those that return {@code null} when the Deque is empty cannot distinguish it.
+ * Iterators address entries by their position from the head of the Deque, and are not fail-fast,
+ * so the Ring Buffer must not be modified whilst iterating, other than through the iterator.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@NotThreadSafe
+final class RingBufferDeque<T> extends AbstractCollection<T> implements Deque<T> {
+
+    private final RingBuffer<T> ringBuffer;
+
+    RingBufferDeque(final RingBuffer<T> ringBuffer) {
+        this.ringBuffer = ringBuffer;
+    }
+
+    @Override
+    public int size() {
+        return ringBuffer.available;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringBuffer.available == 0;
+    }
+
+    @Override
+    public void clear() {
+        ringBuffer.clear();
+    }
+
+    @Override
+    public void addFirst(final T entry) {
+        if (!offerFirst(entry)) {
+            throw new IllegalStateException("Deque full");
+        }
+    }
+
+    @Override
+    public void addLast(final T entry) {
+        if (!offerLast(entry)) {
+            throw new IllegalStateException("Deque full");
+        }
+    }
+
+    @Override
+    public boolean offerFirst(final T entry) {
+        Objects.requireNonNull(entry, "null entries are not supported");
+        return ringBuffer.putFirst(entry);
+    }
+
+    @Override
+    public boolean offerLast(final T entry) {
+        Objects.requireNonNull(entry, "null entries are not supported");
+        return ringBuffer.putLast(entry);
+    }
+
+    @Override
+    public T removeFirst() {
+        if (ringBuffer.available == 0) {
+            throw new NoSuchElementException();
+        }
+        return ringBuffer.get();
+    }
+
+    @Override
+    public T removeLast() {
+        if (ringBuffer.available == 0) {
+            throw new NoSuchElementException();
+        }
+        return ringBuffer.getLast();
+    }
+
+    @Override
+    public @Nullable T pollFirst() {
+        return ringBuffer.get();
+    }
+
+    @Override
+    public @Nullable T pollLast() {
+        return ringBuffer.getLast();
+    }
+
+    @Override
+    public T getFirst() {
+        if (ringBuffer.available == 0) {
+            throw new NoSuchElementException();
+        }
+        return ringBuffer.entryAt(0);
+    }
+
+    @Override
+    public T getLast() {
+        if (ringBuffer.available == 0) {
+            throw new NoSuchElementException();
+        }
+        return ringBuffer.entryAt(ringBuffer.available - 1);
+    }
+
+    @Override
+    public @Nullable T peekFirst() {
+        if (ringBuffer.available == 0) {
+            return null;
+        }
+        return ringBuffer.entryAt(0);
+    }
+
+    @Override
+    public @Nullable T peekLast() {
+        if (ringBuffer.available == 0) {
+            return null;
+        }
+        return ringBuffer.entryAt(ringBuffer.available - 1);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(final @Nullable Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (int i = 0; i < ringBuffer.available; i++) {
+            if (o.equals(ringBuffer.entryAt(i))) {
+                ringBuffer.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(final @Nullable Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (int i = ringBuffer.available - 1; i >= 0; i--) {
+            if (o.equals(ringBuffer.entryAt(i))) {
+                ringBuffer.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean add(final T entry) {
+        addLast(entry);
+        return true;
+    }
+
+    @Override
+    public boolean offer(final T entry) {
+        return offerLast(entry);
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public @Nullable T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public @Nullable T peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(final T entry) {
+        addFirst(entry);
+    }
+
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(final @Nullable Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PositionIterator(false);
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return new PositionIterator(true);
+    }
+
+    /**
+     * Iterates over the entries by their position from the head of the Deque.
+     */
+    private class PositionIterator implements Iterator<T> {
+        private final boolean descending;
+
+        /**
+         * The position of the next entry to return.
+         */
+        private int next;
+
+        /**
+         * The position of the entry last returned, or -1 if there is none.
+         */
+        private int lastReturned = -1;
+
+        PositionIterator(final boolean descending) {
+            this.descending = descending;
+            this.next = descending ? ringBuffer.available - 1 : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return descending ? next >= 0 : next < ringBuffer.available;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final T entry = ringBuffer.entryAt(next);
+            lastReturned = next;
+            next += descending ? -1 : 1;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            ringBuffer.removeAt(lastReturned);
+            if (!descending) {
+                // the entries after the removed entry have each moved one position towards the head
+                next = lastReturned;
+            }
+            lastReturned = -1;
+        }
+    }
+}
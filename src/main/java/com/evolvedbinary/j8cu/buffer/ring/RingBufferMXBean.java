@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+/**
+ * Management interface for the statistics of a {@link RingBuffer}.
+ * <p>See {@link RingBufferStatistics}.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public interface RingBufferMXBean {
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity.
+     */
+    int getCapacity();
+
+    /**
+     * Get the number of entries available to be read from the Ring Buffer.
+     *
+     * @return the number of entries.
+     */
+    int getAvailable();
+
+    /**
+     * Get the highest number of entries that have been available to be read from the Ring Buffer.
+     *
+     * @return the high-water mark.
+     */
+    int getHighWaterMark();
+
+    /**
+     * Get the number of entries that have been stored in the Ring Buffer.
+     *
+     * @return the number of entries.
+     */
+    long getPutCount();
+
+    /**
+     * Get the number of entries that have been retrieved from the Ring Buffer.
+     *
+     * @return the number of entries.
+     */
+    long getGetCount();
+
+    /**
+     * Get the number of entries that have been overwritten before they were read.
+     *
+     * @return the number of entries.
+     */
+    long getOverwrittenCount();
+
+    /**
+     * Get the number of entries that have been dropped because the Ring Buffer was full.
+     *
+     * @return the number of entries.
+     */
+    long getDroppedCount();
+
+    /**
+     * Get the number of entries that have been rejected because the Ring Buffer was full.
+     *
+     * @return the number of entries.
+     */
+    long getRejectedCount();
+
+    /**
+     * Get the total time that the Ring Buffer has been full for.
+     *
+     * @return the time in nanoseconds.
+     */
+    long getTimeAtCapacityNanos();
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEventType;
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
+
+/**
+ * Emits the Java Flight Recorder event for a burst of entries of a {@link RingBuffer} being overwritten before they were read.
+ * <p>A burst starts when an entry is overwritten and ends when an entry is next retrieved, or once
+ * {@link FlightRecorderEvents#OVERWRITE_BURST_LIMIT} entries have been overwritten, in which case the next overwrite
+ * starts a new burst. A burst is only recorded if at least {@link FlightRecorderEvents#OVERWRITE_BURST_THRESHOLD}
+ * entries were overwritten. No event is created whilst the event type is not enabled in any recording.
+ * Whilst a burst is in progress, this holds its event and the count of overwritten entries.
+ * Only used when {@link FlightRecorderEvents#ENABLED}.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+final class RingBufferOverwriteBurstEvent {
+
+    static final String NAME = "com.evolvedbinary.j8cu.RingBufferOverwriteBurst";
+
+    private static final FlightRecorderEventType TYPE = new FlightRecorderEventType(
+            NAME,
+            "Ring Buffer Overwrite Burst",
+            new String[] { "J8CU", "Ring Buffer" },
+            "Entries of a Ring Buffer were overwritten before they were read, without any entries being retrieved in between",
+            false,
+            new FlightRecorderEventType.Field(String.class, "entryType", "Entry Type"),
+            new FlightRecorderEventType.Field(int.class, "capacity", "Capacity"),
+            new FlightRecorderEventType.Field(long.class, "overwritten", "Overwritten")
+    );
+
+    private static final int ENTRY_TYPE_FIELD = 0;
+    private static final int CAPACITY_FIELD = 1;
+    private static final int OVERWRITTEN_FIELD = 2;
+
+    private final Object event;
+    long overwritten;
+
+    private RingBufferOverwriteBurstEvent(final Object event) {
+        this.event = event;
+    }
+
+    /**
+     * Called when entries of a Ring Buffer have been overwritten.
+     *
+     * @param ringBuffer the Ring Buffer.
+     * @param count the number of entries that were overwritten.
+     */
+    static void overwritten(final RingBuffer<?> ringBuffer, final long count) {
+        RingBufferOverwriteBurstEvent burst = (RingBufferOverwriteBurstEvent) ringBuffer.overwriteBurst;
+        if (burst == null) {
+            if (!TYPE.isEnabled()) {
+                return;
+            }
+            final Object event = TYPE.newEvent();
+            TYPE.begin(event);
+            burst = new RingBufferOverwriteBurstEvent(event);
+            ringBuffer.overwriteBurst = burst;
+        }
+        burst.overwritten += count;
+        if (burst.overwritten >= FlightRecorderEvents.OVERWRITE_BURST_LIMIT) {
+            end(ringBuffer);
+        }
+    }
+
+    /**
+     * Called when a burst of overwrites of a Ring Buffer has ended.
+     *
+     * @param ringBuffer the Ring Buffer, which must have a burst in progress.
+     */
+    static void end(final RingBuffer<?> ringBuffer) {
+        final RingBufferOverwriteBurstEvent burst = (RingBufferOverwriteBurstEvent) ringBuffer.overwriteBurst;
+        ringBuffer.overwriteBurst = null;
+        if (burst.overwritten >= FlightRecorderEvents.OVERWRITE_BURST_THRESHOLD) {
+            TYPE.end(burst.event);
+            if (TYPE.shouldCommit(burst.event)) {
+                TYPE.set(burst.event, ENTRY_TYPE_FIELD, ringBuffer.entries.getClass().getComponentType().getName());
+                TYPE.set(burst.event, CAPACITY_FIELD, ringBuffer.capacity);
+                TYPE.set(burst.event, OVERWRITTEN_FIELD, burst.overwritten);
+                TYPE.commit(burst.event);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the entries of a {@link RingBuffer}, in the order that they
+ * would be returned by {@link RingBuffer#get()}.
+ * <p>The entries are visited directly in the internal buffer of the Ring Buffer, and so
+ * the Ring Buffer must not be modified whilst the Spliterator is in use. The Spliterator
+ * splits in half by position, so that the entries of a large Ring Buffer can be processed
+ * in parallel.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@NotThreadSafe
+final class RingBufferSpliterator<T> implements Spliterator<T> {
+
+    private final T[] entries;
+    private final int capacity;
+
+    /**
+     * The index into entries of the first entry to be read from the Ring Buffer.
+     */
+    private final int start;
+
+    /**
+     * The position, relative to {@link #start}, of the next entry to visit.
+     */
+    private int origin;
+
+    /**
+     * The position, relative to {@link #start}, after the last entry to visit.
+     */
+    private final int fence;
+
+    /**
+     * Construct a Spliterator over the entries of a Ring Buffer.
+     *
+     * @param entries the internal buffer of the Ring Buffer.
+     * @param start the index into entries of the first entry to be read from the Ring Buffer.
+     * @param origin the position, relative to {@code start}, of the first entry to visit.
+     * @param fence the position, relative to {@code start}, after the last entry to visit.
+     */
+    RingBufferSpliterator(final T[] entries, final int start, final int origin, final int fence) {
+        this.entries = entries;
+        this.capacity = entries.length;
+        this.start = start;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (origin >= fence) {
+            return false;
+        }
+
+        action.accept(entries[(start + origin++) % capacity]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        if (origin >= fence) {
+            return;
+        }
+
+        // visit the remaining entries in at most two segments, either side of the end of the internal buffer
+        final int from = (start + origin) % capacity;
+        final int count = fence - origin;
+        final int firstLength = Math.min(count, capacity - from);
+        origin = fence;
+
+        for (int i = from; i < from + firstLength; i++) {
+            action.accept(entries[i]);
+        }
+        for (int i = 0; i < count - firstLength; i++) {
+            action.accept(entries[i]);
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+        final int mid = (origin + fence) >>> 1;
+        if (mid <= origin) {
+            return null;
+        }
+
+        final Spliterator<T> prefix = new RingBufferSpliterator<>(entries, start, origin, mid);
+        origin = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+/**
+ * Statistics of the occupancy and throughput of a {@link RingBuffer}.
+ * <p>Statistics are only maintained once enabled by {@link RingBuffer#enableStatistics()}, and are then updated by the
+ * Ring Buffer as entries are stored and retrieved, with a clock only being read when the Ring Buffer becomes full or
+ * stops being full. The statistics may be registered as a platform MXBean, so that they may be monitored with JMX.</p>
+ * <p>The statistics are updated without synchronization, so when they are read by a thread other than the one using
+ * the Ring Buffer, e.g. via JMX, the values may be slightly out of date.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@NotThreadSafe
+public class RingBufferStatistics implements RingBufferMXBean {
+
+    static final String OBJECT_NAME_PREFIX = "com.evolvedbinary.j8cu:type=RingBuffer,name=";
+
+    private final RingBuffer<?> ringBuffer;
+    private final LongSupplier nanoClock;
+
+    long putCount;
+    long getCount;
+    int highWaterMark;
+    long timeAtCapacityNanos;
+
+    /**
+     * True if the Ring Buffer is full, in which case {@link #fullSinceNanos} is when it became full.
+     */
+    boolean full;
+    long fullSinceNanos;
+
+    private @Nullable ObjectName objectName;
+
+    RingBufferStatistics(final RingBuffer<?> ringBuffer, final LongSupplier nanoClock) {
+        this.ringBuffer = ringBuffer;
+        this.nanoClock = nanoClock;
+        occupancyChanged();
+    }
+
+    /**
+     * Called by the Ring Buffer when entries have been stored.
+     *
+     * @param count the number of entries.
+     */
+    void stored(final int count) {
+        putCount += count;
+        occupancyChanged();
+    }
+
+    /**
+     * Called by the Ring Buffer when entries have been retrieved.
+     *
+     * @param count the number of entries.
+     */
+    void retrieved(final int count) {
+        getCount += count;
+        occupancyChanged();
+    }
+
+    /**
+     * Called by the Ring Buffer when the number of entries available, or its capacity, has changed.
+     */
+    void occupancyChanged() {
+        final int available = ringBuffer.available;
+        if (available > highWaterMark) {
+            highWaterMark = available;
+        }
+
+        if (available == ringBuffer.capacity) {
+            if (!full) {
+                full = true;
+                fullSinceNanos = nanoClock.getAsLong();
+            }
+        } else if (full) {
+            full = false;
+            timeAtCapacityNanos += nanoClock.getAsLong() - fullSinceNanos;
+        }
+    }
+
+    /**
+     * Register the statistics as a platform MXBean.
+     *
+     * @param name the name to register the statistics under, which becomes the {@code name} key of the object name.
+     *
+     * @return the object name that the statistics were registered with.
+     *
+     * @throws JMException if the statistics cannot be registered, e.g. if the name is already registered.
+     * @throws IllegalStateException if the statistics are already registered.
+     */
+    public ObjectName register(final String name) throws JMException {
+        if (objectName != null) {
+            throw new IllegalStateException("The statistics are already registered as: " + objectName);
+        }
+        final ObjectName newObjectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, newObjectName);
+        this.objectName = newObjectName;
+        return newObjectName;
+    }
+
+    /**
+     * Unregister the statistics as a platform MXBean, if they are registered.
+     *
+     * @throws JMException if the statistics cannot be unregistered.
+     */
+    public void unregister() throws JMException {
+        if (objectName != null) {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            objectName = null;
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return ringBuffer.capacity;
+    }
+
+    @Override
+    public int getAvailable() {
+        return ringBuffer.available;
+    }
+
+    @Override
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    @Override
+    public long getPutCount() {
+        return putCount;
+    }
+
+    @Override
+    public long getGetCount() {
+        return getCount;
+    }
+
+    @Override
+    public long getOverwrittenCount() {
+        return ringBuffer.overwrittenCount;
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return ringBuffer.droppedCount;
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return ringBuffer.rejectedCount;
+    }
+
+    @Override
+    public long getTimeAtCapacityNanos() {
+        if (full) {
+            return timeAtCapacityNanos + (nanoClock.getAsLong() - fullSinceNanos);
+        }
+        return timeAtCapacityNanos;
+    }
+}
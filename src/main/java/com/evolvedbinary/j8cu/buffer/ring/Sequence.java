@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Padding to keep the value of a {@link Sequence} away from any fields which precede it in memory.
+ */
+abstract class SequenceLhsPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * The fields of a {@link Sequence}.
+ */
+abstract class SequenceFields extends SequenceLhsPadding {
+    volatile long value;
+
+    /**
+     * A plain field that may only be accessed by the single thread which writes {@link #value}.
+     * It is typically used by that thread to cache its last view of an opposing sequence,
+     * so that it does not need to read the cache line of that opposing sequence on every operation.
+     */
+    long cache;
+}
+
+/**
+ * Padding to keep the value of a {@link Sequence} away from any fields which follow it in memory.
+ */
+abstract class SequenceRhsPadding extends SequenceFields {
+    long p11, p12, p13, p14, p15, p16, p17;
+}
+
+/**
+ * A sequence number which is padded to occupy its own cache line(s),
+ * so that writes to it by one thread do not cause false sharing
+ * with data that is accessed by other threads.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+final class Sequence extends SequenceRhsPadding {
+
+    private static final AtomicLongFieldUpdater<SequenceFields> VALUE_UPDATER = AtomicLongFieldUpdater.newUpdater(SequenceFields.class, "value");
+
+    /**
+     * @param initialValue the initial value of the sequence.
+     */
+    Sequence(final long initialValue) {
+        VALUE_UPDATER.lazySet(this, initialValue);
+        this.cache = initialValue;
+    }
+
+    /**
+     * Get the value of the sequence with volatile semantics.
+     *
+     * @return the value of the sequence.
+     */
+    long get() {
+        return value;
+    }
+
+    /**
+     * Set the value of the sequence with volatile semantics.
+     *
+     * @param value the new value of the sequence.
+     */
+    void set(final long value) {
+        this.value = value;
+    }
+
+    /**
+     * Set the value of the sequence with an ordered store.
+     * Any preceding stores are guaranteed to be visible to a thread
+     * that subsequently observes the new value, but unlike {@link #set(long)}
+     * no store-load barrier is issued.
+     *
+     * @param value the new value of the sequence.
+     */
+    void setOrdered(final long value) {
+        VALUE_UPDATER.lazySet(this, value);
+    }
+
+    /**
+     * Atomically set the value of the sequence if it currently has the expected value.
+     *
+     * @param expectedValue the value that the sequence is expected to have.
+     * @param newValue the new value for the sequence.
+     *
+     * @return true if the value was updated, false otherwise.
+     */
+    boolean compareAndSet(final long expectedValue, final long newValue) {
+        return VALUE_UPDATER.compareAndSet(this, expectedValue, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
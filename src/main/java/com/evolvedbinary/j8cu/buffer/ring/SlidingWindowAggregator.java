@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Aggregates the most recent N values in a sliding window, e.g. the sum, minimum, or maximum
+ * of the sizes of the last N requests.
+ * <p>The values are stored in an ordered {@link RingBuffer}, and are aggregated with a user-supplied
+ * associative combine function, which does not need to be invertible, e.g. {@code Math::max}.
+ * Aggregation uses the two-stacks technique: the window is divided into a front of older values,
+ * for each of which the aggregate from that value to the end of the front is kept, and a back of newer values,
+ * for which a single running aggregate is kept. When the front is exhausted, the back becomes the new front
+ * and its aggregates are computed in one pass. As each value is moved from the back to the front at most once,
+ * {@link #add(Object)}, {@link #evict()}, and {@link #aggregate()} each cost amortized O(1).</p>
+ * <p>The combine function need not be commutative, values are always combined oldest first.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the values in the window.
+ * @param <A> the type of the aggregate.
+ */
+@NotThreadSafe
+public class SlidingWindowAggregator<T, A> {
+
+    final RingBuffer<T> ringBuffer;
+    private final Function<? super T, ? extends A> lift;
+    private final BinaryOperator<A> combine;
+    private final A identity;
+
+    /**
+     * For each of the values in the front, the aggregate of that value and the newer values in the front,
+     * indexed by the value's index in the entries of the Ring Buffer.
+     */
+    final Object[] frontAggregates;
+
+    /**
+     * The number of values, starting at the oldest, which are in the front.
+     */
+    int frontSize;
+
+    /**
+     * The aggregate of the values in the back.
+     */
+    A backAggregate;
+
+    /**
+     * Construct a new Sliding Window Aggregator.
+     *
+     * @param type the class of the values in the window.
+     * @param capacity the number of values in the window.
+     * @param lift the function to convert a value to an aggregate.
+     * @param combine the associative function to combine two aggregates, the older aggregate is always the first argument.
+     * @param identity the aggregate of no values, e.g. {@code 0} for a sum.
+     */
+    public SlidingWindowAggregator(final Class<T> type, final int capacity, final Function<? super T, ? extends A> lift, final BinaryOperator<A> combine, final A identity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.ringBuffer = new RingBuffer<>(type, capacity, true);
+        this.lift = lift;
+        this.combine = combine;
+        this.identity = identity;
+        this.frontAggregates = new Object[capacity];
+        this.frontSize = 0;
+        this.backAggregate = identity;
+    }
+
+    /**
+     * Get the number of values in the window when it is full.
+     *
+     * @return the capacity of the window.
+     */
+    public int capacity() {
+        return ringBuffer.capacity;
+    }
+
+    /**
+     * Get the number of values currently in the window.
+     *
+     * @return the number of values in the window.
+     */
+    public int size() {
+        return ringBuffer.available;
+    }
+
+    /**
+     * Determine if the window is empty.
+     *
+     * @return true if the window is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return ringBuffer.available == 0;
+    }
+
+    /**
+     * Add a value to the window.
+     * If the window is full, the oldest value is first evicted.
+     *
+     * @param value the value to add.
+     */
+    public void add(final T value) {
+        if (ringBuffer.available == ringBuffer.capacity) {
+            evict();
+        }
+        ringBuffer.put(value);
+        backAggregate = combine.apply(backAggregate, lift.apply(value));
+    }
+
+    /**
+     * Evict the oldest value from the window.
+     *
+     * @return the evicted value, or null if the window is empty.
+     */
+    public @Nullable T evict() {
+        if (ringBuffer.available == 0) {
+            return null;
+        }
+
+        if (frontSize == 0) {
+            flip();
+        }
+        frontAggregates[(ringBuffer.readIdx + 1) % ringBuffer.capacity] = null;
+        frontSize--;
+        return ringBuffer.get();
+    }
+
+    /**
+     * Get the aggregate of the values in the window.
+     *
+     * @return the aggregate of the values from oldest to newest, or the identity if the window is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public A aggregate() {
+        if (frontSize == 0) {
+            return backAggregate;
+        }
+        final A frontAggregate = (A) frontAggregates[(ringBuffer.readIdx + 1) % ringBuffer.capacity];
+        return combine.apply(frontAggregate, backAggregate);
+    }
+
+    /**
+     * Remove all values from the window.
+     */
+    public void clear() {
+        ringBuffer.clear();
+        for (int i = 0; i < frontAggregates.length; i++) {
+            frontAggregates[i] = null;
+        }
+        frontSize = 0;
+        backAggregate = identity;
+    }
+
+    /**
+     * Moves all the values in the back to the front, computing the aggregate of each value
+     * and the newer values, from newest to oldest.
+     * Must only be called when the front is empty.
+     */
+    private void flip() {
+        final int capacity = ringBuffer.capacity;
+        final int start = (ringBuffer.readIdx + 1) % capacity;
+        final int size = ringBuffer.available;
+
+        A aggregate = identity;
+        for (int offset = size - 1; offset >= 0; offset--) {
+            final int idx = (start + offset) % capacity;
+            aggregate = combine.apply(lift.apply(ringBuffer.entries[idx]), aggregate);
+            frontAggregates[idx] = aggregate;
+        }
+
+        frontSize = size;
+        backAggregate = identity;
+    }
+}
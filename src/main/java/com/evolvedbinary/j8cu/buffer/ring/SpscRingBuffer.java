@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Array;
+
+/**
+ * Implementation of a lock-free Ring Buffer for exactly one producer thread and one consumer thread
+ * (i.e. Single Producer Single Consumer, or SPSC).
+ * <p>The producer and consumer each own a sequence, the {@code tail} and {@code head} respectively,
+ * which are padded onto their own cache lines. Entries are handed from the producer to the consumer
+ * by ordered stores of those sequences, and so no locks or atomic read-modify-write instructions are needed.</p>
+ * <p>Reads are always ordered, i.e. oldest first. Unlike {@link RingBuffer} the producer may
+ * never overwrite an entry that has not yet been read by the consumer, as only the consumer may
+ * advance the {@code head}; instead {@link #offer(Object)} will return false when the
+ * Ring Buffer is full, and {@link #put(Object)} will wait until space is available.</p>
+ * <p>Calling {@link #put(Object)} or {@link #offer(Object)} from more than one thread,
+ * or {@link #get()} or {@link #copy()} from more than one thread, is not supported.
+ * As it is only safe for use by exactly one producer and one consumer, this class is
+ * deliberately not annotated as {@code @ThreadSafe}.</p>
+ * <p>The capacity must be a power of two, so that a sequence is wrapped to an index
+ * with a bit mask rather than a 64-bit remainder operation.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+public class SpscRingBuffer<T> {
+
+    final T[] entries;
+    final int capacity;
+    private final int mask;
+
+    /**
+     * The sequence of the next entry to be read, only written by the consumer.
+     * The {@link Sequence#cache} holds the consumer's last view of the {@link #tail}.
+     */
+    final Sequence head = new Sequence(0);
+
+    /**
+     * The sequence of the next entry to be written, only written by the producer.
+     * The {@link Sequence#cache} holds the producer's last view of the {@link #head}.
+     */
+    final Sequence tail = new Sequence(0);
+
+    /**
+     * Construct a new SPSC Ring Buffer for a specific type.
+     *
+     * @param type the class of the entries to be stored in the Ring Buffer.
+     * @param capacity the capacity of the Ring Buffer, must be a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public SpscRingBuffer(final Class<T> type, final int capacity) {
+        if (capacity < 1 || (capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.entries = (T[]) Array.newInstance(type, capacity);
+        this.capacity = entries.length;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Create a new SPSC Ring Buffer for any object.
+     *
+     * @param capacity the capacity of the Ring Buffer, must be a power of two.
+     *
+     * @return the new SpscRingBuffer instance.
+     */
+    public static SpscRingBuffer<Object> create(final int capacity) {
+        return new SpscRingBuffer<>(Object.class, capacity);
+    }
+
+    /**
+     * Get the capacity of the Ring Buffer.
+     *
+     * @return the capacity of the Ring Buffer.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Determine if the Ring Buffer is empty.
+     * When called from a thread other than the consumer, the result is only a snapshot.
+     *
+     * @return true if the Ring Buffer is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * Get the number of entries available to be read.
+     * When called from a thread other than the producer or consumer, the result is only a snapshot.
+     *
+     * @return the number of entries in the Ring Buffer.
+     */
+    public int size() {
+        final long h = head.get();
+        final long size = tail.get() - h;
+        return (int) Math.min(capacity, size);
+    }
+
+    /**
+     * Get the next entry from the Ring Buffer.
+     * Must only be called by the consumer thread.
+     *
+     * @return the entry, or null if the Ring Buffer is empty.
+     */
+    public @Nullable T get() {
+        final long h = head.value;
+        if (h >= head.cache) {
+            // we may have run out of entries, refresh our view of the tail
+            head.cache = tail.get();
+            if (h >= head.cache) {
+                // is empty
+                return null;
+            }
+        }
+
+        final int idx = index(h);
+        final T entry = entries[idx];
+        entries[idx] = null;
+
+        // publish that the slot is free, after we have finished with it
+        head.setOrdered(h + 1);
+
+        return entry;
+    }
+
+    /**
+     * Put an entry into the Ring Buffer.
+     * If the Ring Buffer is full then this will spin, yielding the processor,
+     * until the consumer has made space available.
+     * Must only be called by the producer thread.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     */
+    public void put(final T entry) {
+        while (!offer(entry)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Offer an entry to the Ring Buffer.
+     * Must only be called by the producer thread.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     *
+     * @return true if the entry was placed into the Ring Buffer, or false if the Ring Buffer was full.
+     */
+    public boolean offer(final T entry) {
+        final long t = tail.value;
+        if (t - tail.cache >= capacity) {
+            // we may have run out of space, refresh our view of the head
+            tail.cache = head.get();
+            if (t - tail.cache >= capacity) {
+                // is full
+                return false;
+            }
+        }
+
+        entries[index(t)] = entry;
+
+        // publish the entry, the ordered store guarantees the entry is visible before the new tail
+        tail.setOrdered(t + 1);
+
+        return true;
+    }
+
+    /**
+     * Get a copy of the entries in this buffer, oldest first.
+     * Must only be called by the consumer thread.
+     *
+     * @return a copy of the entries in this buffer, or null if the buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T[] copy() {
+        final long h = head.value;
+        final int available = (int) (tail.get() - h);
+        if (available == 0) {
+            // is empty
+            return null;
+        }
+
+        final Class<T> type = (Class<T>) entries.getClass().getComponentType();
+        final T[] copy = (T[]) Array.newInstance(type, available);
+
+        // the entries between the head and the tail are not modified until the consumer advances the head
+        final int start = index(h);
+        final int firstSegmentLen = Math.min(available, capacity - start);
+        System.arraycopy(entries, start, copy, 0, firstSegmentLen);
+        if (firstSegmentLen < available) {
+            System.arraycopy(entries, 0, copy, firstSegmentLen, available - firstSegmentLen);
+        }
+
+        return copy;
+    }
+
+    private int index(final long sequence) {
+        return (int) sequence & mask;
+    }
+}
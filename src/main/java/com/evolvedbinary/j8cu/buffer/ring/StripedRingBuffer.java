@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.ThreadSafe;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of a lossy Ring Buffer for recording events from many producer threads at a high rate,
+ * which are drained by a single consumer thread, e.g. for recording the accesses to a cache.
+ * <p>The entries are spread across an array of small Ring Buffers, known as stripes, and each producer thread
+ * offers its entries to the stripe selected by its own probe value. A producer claims a slot in a stripe with a
+ * single CAS, and if that fails because of contention with another producer, or the stripe is full, the entry is
+ * dropped rather than retried, so offering never blocks or spins. When contention is detected the producer moves
+ * to a different stripe, and the number of stripes is doubled, up to a maximum.</p>
+ * <p>Entries offered to the same stripe are drained in the order that they were offered, but there is no order
+ * between the entries of different stripes. As a thread moves to a different stripe after contention, or when the
+ * number of stripes is expanded, entries offered by the same thread are not necessarily drained in the order that
+ * they were offered. As an empty slot is represented by {@code null}, {@code null} entries are not supported.</p>
+ * <p>Calling {@link #drain(Consumer)} from more than one thread is not supported.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ *
+ * @param <T> the type of the entries in the buffer.
+ */
+@ThreadSafe
+public class StripedRingBuffer<T> {
+
+    /**
+     * The probe of each thread, used to select its stripe.
+     */
+    static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[] { mix((int) Thread.currentThread().getId()) });
+
+    private final int stripeCapacity;
+    private final int maxStripes;
+
+    volatile Stripe<T>[] stripes;
+
+    /**
+     * 1 whilst the {@link #stripes} are being expanded, 0 otherwise.
+     */
+    private final AtomicInteger expanding = new AtomicInteger();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * Construct a new Striped Ring Buffer, with up to four stripes per processor.
+     *
+     * @param stripeCapacity the capacity of each stripe, must be a power of two.
+     */
+    public StripedRingBuffer(final int stripeCapacity) {
+        this(stripeCapacity, 4 * ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Construct a new Striped Ring Buffer.
+     *
+     * @param stripeCapacity the capacity of each stripe, must be a power of two.
+     * @param maxStripes the maximum number of stripes, must be a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public StripedRingBuffer(final int stripeCapacity, final int maxStripes) {
+        if (stripeCapacity < 1 || (stripeCapacity & (stripeCapacity - 1)) != 0) {
+            throw new IllegalArgumentException("stripeCapacity must be a power of two");
+        }
+        if (maxStripes < 1 || (maxStripes & (maxStripes - 1)) != 0) {
+            throw new IllegalArgumentException("maxStripes must be a power of two");
+        }
+        this.stripeCapacity = stripeCapacity;
+        this.maxStripes = maxStripes;
+        this.stripes = new Stripe[] { new Stripe<T>(stripeCapacity) };
+    }
+
+    /**
+     * Offer an entry to the Ring Buffer.
+     * May be called by any thread.
+     *
+     * @param entry The entry to place into the Ring Buffer.
+     *
+     * @return true if the entry was placed into the Ring Buffer, or false if it was dropped
+     *     because the stripe of this thread was full or contended.
+     *
+     * @throws NullPointerException if the entry is null.
+     */
+    public boolean offer(final T entry) {
+        Objects.requireNonNull(entry, "null entries are not supported");
+
+        final int[] probe = PROBE.get();
+        final Stripe<T>[] stripes = this.stripes;
+        final Stripe<T> stripe = stripes[probe[0] & (stripes.length - 1)];
+
+        final long t = stripe.tail.get();
+        if (t - stripe.head.get() >= stripeCapacity) {
+            // is full
+            droppedCount.increment();
+            return false;
+        }
+
+        if (!stripe.tail.compareAndSet(t, t + 1)) {
+            // contended, so move this thread to another stripe, and add more stripes for it to move to
+            probe[0] = mix(probe[0]);
+            if (stripes.length < maxStripes) {
+                expand(stripes);
+            }
+            droppedCount.increment();
+            return false;
+        }
+
+        // publish the entry into the slot that we claimed
+        stripe.entries.lazySet((int) t & (stripeCapacity - 1), entry);
+        return true;
+    }
+
+    /**
+     * Double the number of stripes, unless another thread is already doing so,
+     * or has already done so since {@code current} was read.
+     *
+     * @param current the stripes that were contended.
+     */
+    @SuppressWarnings("unchecked")
+    void expand(final Stripe<T>[] current) {
+        if (!expanding.compareAndSet(0, 1)) {
+            return;
+        }
+        try {
+            if (stripes == current && current.length < maxStripes) {
+                final Stripe<T>[] expanded = new Stripe[current.length * 2];
+                System.arraycopy(current, 0, expanded, 0, current.length);
+                for (int i = current.length; i < expanded.length; i++) {
+                    expanded[i] = new Stripe<>(stripeCapacity);
+                }
+                stripes = expanded;
+            }
+        } finally {
+            expanding.set(0);
+        }
+    }
+
+    /**
+     * Drain the entries that are currently published in all of the stripes, in one pass.
+     * Must only be called by the consumer thread.
+     * <p>An entry in a slot which has been claimed by a producer, but not yet published,
+     * is left with any entries after it in the same stripe to be drained by a later call.</p>
+     *
+     * @param consumer the consumer to receive each entry.
+     *
+     * @return the number of entries drained.
+     */
+    public int drain(final Consumer<? super T> consumer) {
+        final Stripe<T>[] stripes = this.stripes;
+        int drained = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            drained += stripes[i].drain(consumer);
+        }
+        return drained;
+    }
+
+    /**
+     * Get the number of entries in the Ring Buffer, including any
+     * which have been claimed by a producer but not yet published.
+     * The result is only a snapshot.
+     *
+     * @return the number of entries in the Ring Buffer.
+     */
+    public int size() {
+        final Stripe<T>[] stripes = this.stripes;
+        int size = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            final long h = stripes[i].head.get();
+            size += (int) Math.min(stripeCapacity, stripes[i].tail.get() - h);
+        }
+        return size;
+    }
+
+    /**
+     * Get the number of stripes.
+     *
+     * @return the number of stripes.
+     */
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Get the number of entries that have been dropped.
+     *
+     * @return the number of entries.
+     */
+    public long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Scramble the bits of a probe, a step of a xorshift random number generator.
+     */
+    private static int mix(int probe) {
+        if (probe == 0) {
+            probe = 0x9E3779B9;
+        }
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        return probe;
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * A bounded Ring Buffer for many producers and a single consumer,
+     * whose producers give up on contention rather than retrying.
+     */
+    static final class Stripe<T> {
+        final AtomicReferenceArray<T> entries;
+
+        /**
+         * The sequence of the next entry to be read, only written by the consumer.
+         */
+        final Sequence head = new Sequence(0);
+
+        /**
+         * The sequence of the next slot to be claimed by a producer.
+         */
+        final Sequence tail = new Sequence(0);
+
+        Stripe(final int capacity) {
+            this.entries = new AtomicReferenceArray<>(capacity);
+        }
+
+        int drain(final Consumer<? super T> consumer) {
+            final int mask = entries.length() - 1;
+            final long t = tail.get();
+            long h = head.get();
+            while (h < t) {
+                final int idx = (int) h & mask;
+                final @Nullable T entry = entries.get(idx);
+                if (entry == null) {
+                    // a producer has claimed the slot, but not yet published its entry
+                    break;
+                }
+                entries.lazySet(idx, null);
+                consumer.accept(entry);
+                h++;
+            }
+
+            final int drained = (int) (h - head.get());
+            head.setOrdered(h);
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+/**
+ * A strategy for how a thread waits for a condition to become true, e.g. for a
+ * {@link BlockingRingBuffer} to become not empty or not full.
+ * <p>Different strategies trade CPU usage for latency. Implementations must be thread-safe.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public interface WaitStrategy {
+
+    /**
+     * Wait until a condition is satisfied, or the timeout elapses.
+     *
+     * @param condition the condition to wait for.
+     * @param timeoutNanos the maximum time to wait in nanoseconds, or {@link Long#MAX_VALUE} to wait indefinitely.
+     *
+     * @return true if the condition was satisfied, or false if the timeout elapsed.
+     *
+     * @throws InterruptedException if the current thread is interrupted whilst waiting.
+     */
+    boolean await(final WaitCondition condition, final long timeoutNanos) throws InterruptedException;
+
+    /**
+     * Signal all waiting threads that the condition they are waiting for may now be satisfied.
+     * Must be called after each change of state that may satisfy a condition.
+     */
+    void signalAll();
+
+    /**
+     * A condition that may be waited for.
+     */
+    @FunctionalInterface
+    interface WaitCondition {
+
+        /**
+         * Determine if the condition is satisfied.
+         *
+         * @return true if the condition is satisfied, false otherwise.
+         */
+        boolean isSatisfied();
+    }
+}
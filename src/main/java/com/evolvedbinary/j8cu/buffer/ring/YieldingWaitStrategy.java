@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A {@link WaitStrategy} that spins for a number of attempts, and then yields the CPU
+ * with {@link Thread#yield()} between each further attempt.
+ * <p>This gives low latency whilst allowing other threads to run, but still consumes CPU whilst waiting.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@ThreadSafe
+public class YieldingWaitStrategy implements WaitStrategy {
+
+    static final int DEFAULT_SPIN_TRIES = 100;
+
+    private final int spinTries;
+
+    /**
+     * Construct a Yielding Wait Strategy with the default number of spin attempts.
+     */
+    public YieldingWaitStrategy() {
+        this(DEFAULT_SPIN_TRIES);
+    }
+
+    /**
+     * Construct a Yielding Wait Strategy.
+     *
+     * @param spinTries the number of attempts to spin for before yielding.
+     */
+    public YieldingWaitStrategy(final int spinTries) {
+        if (spinTries < 0) {
+            throw new IllegalArgumentException("spinTries must not be negative");
+        }
+        this.spinTries = spinTries;
+    }
+
+    @Override
+    public boolean await(final WaitCondition condition, final long timeoutNanos) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeoutNanos;
+        int tries = 0;
+        while (!condition.isSatisfied()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            if (tries < spinTries) {
+                tries++;
+            } else {
+                Thread.yield();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void signalAll() {
+        // nothing to do, waiting threads are always checking their condition
+    }
+}
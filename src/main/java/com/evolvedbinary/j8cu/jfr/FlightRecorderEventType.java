@@ -0,0 +1,305 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.jfr;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A type of Java Flight Recorder event, which is defined and emitted through reflection.
+ * <p>The {@code jdk.jfr} API is not part of the Java SE 8 platform, it is only present in OpenJDK 8u262 or newer,
+ * so J8CU cannot subclass {@code jdk.jfr.Event} directly. Instead each type of event is defined at runtime by a
+ * {@code jdk.jfr.EventFactory}, and its instances are manipulated through method handles. The events are passed
+ * around as {@link Object}.</p>
+ * <p>This class must only be loaded when {@link FlightRecorderEvents#ENABLED}, or the JVM is otherwise known to support
+ * Java Flight Recorder, as its initialization fails if it does not.</p>
+ * <p>This class is public so that it can be shared by the packages of J8CU, it is not intended for use by applications.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+@ThreadSafe
+public final class FlightRecorderEventType {
+
+    private static final Constructor<?> ANNOTATION_ELEMENT;
+    private static final Constructor<?> VALUE_DESCRIPTOR;
+    private static final Class<?> EVENT;
+    private static final Method CREATE_EVENT_FACTORY;
+    private static final Class<? extends Annotation> NAME;
+    private static final Class<? extends Annotation> LABEL;
+    private static final Class<? extends Annotation> CATEGORY;
+    private static final Class<? extends Annotation> DESCRIPTION;
+    private static final Class<? extends Annotation> STACK_TRACE;
+
+    private static final MethodHandle IS_ENABLED;
+    private static final MethodHandle BEGIN;
+    private static final MethodHandle END;
+    private static final MethodHandle SHOULD_COMMIT;
+    private static final MethodHandle SET;
+    private static final MethodHandle COMMIT;
+
+    static {
+        try {
+            final ClassLoader classLoader = FlightRecorderEventType.class.getClassLoader();
+            final Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", true, classLoader);
+            EVENT = Class.forName("jdk.jfr.Event", true, classLoader);
+
+            ANNOTATION_ELEMENT = annotationElementClass.getConstructor(Class.class, Object.class);
+            VALUE_DESCRIPTOR = Class.forName("jdk.jfr.ValueDescriptor", true, classLoader).getConstructor(Class.class, String.class, List.class);
+            CREATE_EVENT_FACTORY = Class.forName("jdk.jfr.EventFactory", true, classLoader).getMethod("create", List.class, List.class);
+            NAME = annotationClass("jdk.jfr.Name", classLoader);
+            LABEL = annotationClass("jdk.jfr.Label", classLoader);
+            CATEGORY = annotationClass("jdk.jfr.Category", classLoader);
+            DESCRIPTION = annotationClass("jdk.jfr.Description", classLoader);
+            STACK_TRACE = annotationClass("jdk.jfr.StackTrace", classLoader);
+
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            IS_ENABLED = lookup.findVirtual(EVENT, "isEnabled", MethodType.methodType(boolean.class)).asType(MethodType.methodType(boolean.class, Object.class));
+            BEGIN = lookup.findVirtual(EVENT, "begin", MethodType.methodType(void.class)).asType(MethodType.methodType(void.class, Object.class));
+            END = lookup.findVirtual(EVENT, "end", MethodType.methodType(void.class)).asType(MethodType.methodType(void.class, Object.class));
+            SHOULD_COMMIT = lookup.findVirtual(EVENT, "shouldCommit", MethodType.methodType(boolean.class)).asType(MethodType.methodType(boolean.class, Object.class));
+            SET = lookup.findVirtual(EVENT, "set", MethodType.methodType(void.class, int.class, Object.class)).asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+            COMMIT = lookup.findVirtual(EVENT, "commit", MethodType.methodType(void.class)).asType(MethodType.methodType(void.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Creates a new instance of the event type, bound to its {@code jdk.jfr.EventFactory}.
+     */
+    private final MethodHandle newEvent;
+
+    /**
+     * Determines if the event type is enabled, bound to its {@code jdk.jfr.EventType}.
+     */
+    private final MethodHandle typeEnabled;
+
+    /**
+     * Define a type of event.
+     *
+     * @param name the unique name of the event type.
+     * @param label the human-readable name of the event type.
+     * @param category the category of the event type, from the most general.
+     * @param description a sentence describing the event type.
+     * @param stackTrace true if a stack trace should be recorded with each event, false otherwise.
+     * @param fields the fields of the event type, in the order of their indexes for {@link #set(Object, int, Object)}.
+     *
+     * @throws IllegalStateException if the event type cannot be defined.
+     */
+    public FlightRecorderEventType(final String name, final String label, final String[] category, final String description,
+            final boolean stackTrace, final Field... fields) {
+        try {
+            final List<Object> annotations = Arrays.asList(
+                    ANNOTATION_ELEMENT.newInstance(NAME, name),
+                    ANNOTATION_ELEMENT.newInstance(LABEL, label),
+                    ANNOTATION_ELEMENT.newInstance(CATEGORY, category),
+                    ANNOTATION_ELEMENT.newInstance(DESCRIPTION, description),
+                    ANNOTATION_ELEMENT.newInstance(STACK_TRACE, stackTrace)
+            );
+
+            final List<Object> valueDescriptors = new ArrayList<>(fields.length);
+            for (final Field field : fields) {
+                valueDescriptors.add(VALUE_DESCRIPTOR.newInstance(field.type, field.name,
+                        Collections.singletonList(ANNOTATION_ELEMENT.newInstance(LABEL, field.label))));
+            }
+
+            final Object eventFactory = CREATE_EVENT_FACTORY.invoke(null, annotations, valueDescriptors);
+            this.newEvent = MethodHandles.publicLookup()
+                    .findVirtual(eventFactory.getClass(), "newEvent", MethodType.methodType(EVENT))
+                    .bindTo(eventFactory)
+                    .asType(MethodType.methodType(Object.class));
+
+            final Object eventType = eventFactory.getClass().getMethod("getEventType").invoke(eventFactory);
+            this.typeEnabled = MethodHandles.publicLookup()
+                    .findVirtual(eventType.getClass(), "isEnabled", MethodType.methodType(boolean.class))
+                    .bindTo(eventType);
+        } catch (final InvocationTargetException e) {
+            throw new IllegalStateException("Unable to define the Flight Recorder event type: " + name, e.getCause());
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to define the Flight Recorder event type: " + name, e);
+        }
+    }
+
+    /**
+     * Create a new event of this type.
+     *
+     * @return the event.
+     */
+    public Object newEvent() {
+        try {
+            return (Object) newEvent.invokeExact();
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Determine if events of this type are enabled in any recording, without creating an event.
+     *
+     * @return true if the event type is enabled, false otherwise.
+     */
+    public boolean isEnabled() {
+        try {
+            return (boolean) typeEnabled.invokeExact();
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Determine if events of this type are enabled in any recording.
+     *
+     * @param event an event of this type.
+     *
+     * @return true if the event is enabled, false otherwise.
+     */
+    public boolean isEnabled(final Object event) {
+        try {
+            return (boolean) IS_ENABLED.invokeExact(event);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Start the timing of an event.
+     *
+     * @param event an event of this type.
+     */
+    public void begin(final Object event) {
+        try {
+            BEGIN.invokeExact(event);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * End the timing of an event.
+     *
+     * @param event an event of this type.
+     */
+    public void end(final Object event) {
+        try {
+            END.invokeExact(event);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Determine if an event should be committed, e.g. it is enabled and exceeds the duration threshold of the recording.
+     *
+     * @param event an event of this type.
+     *
+     * @return true if the event should be committed, false otherwise.
+     */
+    public boolean shouldCommit(final Object event) {
+        try {
+            return (boolean) SHOULD_COMMIT.invokeExact(event);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Set the value of a field of an event.
+     *
+     * @param event an event of this type.
+     * @param index the index of the field, in the order that the fields were given when the type was defined.
+     * @param value the value of the field, primitive values are boxed.
+     */
+    public void set(final Object event, final int index, final Object value) {
+        try {
+            SET.invokeExact(event, index, value);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Commit an event, so that it is written to any recordings.
+     *
+     * @param event an event of this type.
+     */
+    public void commit(final Object event) {
+        try {
+            COMMIT.invokeExact(event);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotationClass(final String className, final ClassLoader classLoader) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName(className, true, classLoader);
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new UndeclaredThrowableException(t);
+    }
+
+    /**
+     * A field of a type of event.
+     */
+    public static final class Field {
+        final Class<?> type;
+        final String name;
+        final String label;
+
+        /**
+         * Define a field of a type of event.
+         *
+         * @param type the type of the field, a primitive type, {@link String}, {@link Class}, or {@link Thread}.
+         * @param name the name of the field.
+         * @param label the human-readable name of the field.
+         */
+        public Field(final Class<?> type, final String name, final String label) {
+            this.type = type;
+            this.name = name;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.jfr;
+
+/**
+ * Controls the Java Flight Recorder events of J8CU.
+ * <p>The events are only enabled when the system property {@value #ENABLED_PROPERTY} is {@code true} and the JVM supports
+ * Java Flight Recorder. As this is determined once, when the events are disabled the JIT compiler removes the code
+ * that emits them, and the classes that emit them are never loaded. When enabled, the events must also be enabled in the
+ * Flight Recording settings to be recorded.</p>
+ * <p>This class is public so that it can be shared by the packages of J8CU, it is not intended for use by applications.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public final class FlightRecorderEvents {
+
+    public static final String ENABLED_PROPERTY = "com.evolvedbinary.j8cu.jfr";
+
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY) && isFlightRecorderAvailable();
+
+    /**
+     * The minimum number of entries of a Ring Buffer that must be overwritten in a burst for it to be recorded.
+     */
+    public static final int OVERWRITE_BURST_THRESHOLD = Integer.getInteger(ENABLED_PROPERTY + ".overwriteBurstThreshold", 64);
+
+    /**
+     * The maximum number of entries of a Ring Buffer that may be overwritten in a burst, after which the burst is recorded
+     * and a new burst is started, so that a Ring Buffer which is only written to still records its bursts.
+     * Never less than {@link #OVERWRITE_BURST_THRESHOLD}.
+     */
+    public static final long OVERWRITE_BURST_LIMIT = Math.max(OVERWRITE_BURST_THRESHOLD, Long.getLong(ENABLED_PROPERTY + ".overwriteBurstLimit", 65536));
+
+    /**
+     * Only one in this many node cache misses of a Linked List is recorded, must be a power of two.
+     */
+    public static final int NODE_CACHE_MISS_SAMPLE_INTERVAL = Integer.highestOneBit(Math.max(1, Integer.getInteger(ENABLED_PROPERTY + ".nodeCacheMissSampleInterval", 1024)));
+
+    /**
+     * The minimum number of nodes of a Linked List that must be traversed for a traversal to be recorded.
+     */
+    public static final long LONG_TRAVERSAL_THRESHOLD = Long.getLong(ENABLED_PROPERTY + ".longTraversalThreshold", 1000);
+
+    private FlightRecorderEvents() {
+        // no-op
+    }
+
+    /**
+     * Determine if the JVM supports Java Flight Recorder, i.e. Java 8u262 or newer.
+     *
+     * @return true if the JVM supports Java Flight Recorder, false otherwise.
+     */
+    static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.EventFactory", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
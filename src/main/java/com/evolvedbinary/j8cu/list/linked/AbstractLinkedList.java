@@ -26,6 +26,7 @@
  */
 package com.evolvedbinary.j8cu.list.linked;
 
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collections;
@@ -90,6 +91,10 @@ public abstract class AbstractLinkedList<T, N extends AbstractNode<T, N>> implem
             return cachedNode;
         }
 
+        if (FlightRecorderEvents.ENABLED && reusableNodesCache != null) {
+            NodeCacheMissEvent.missed(this, reusableNodesCache.length);
+        }
+
         return newNode(element);
     }
 
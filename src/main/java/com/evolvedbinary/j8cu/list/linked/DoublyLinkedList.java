@@ -26,6 +26,7 @@
  */
 package com.evolvedbinary.j8cu.list.linked;
 
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collections;
@@ -109,7 +110,9 @@ public class DoublyLinkedList<T> extends AbstractLinkedList<T, DoublyLinkedNode<
         @Nullable DoublyLinkedNode<T> node = head;
         @Nullable DoublyLinkedNode<T> prevNode = null;
         @Nullable DoublyLinkedNode<T> nextNode = null;
+        long traversed = 0;
         while (node != null) {
+            traversed++;
 
             if (element == node.data) {
                 // matched element
@@ -166,6 +169,10 @@ public class DoublyLinkedList<T> extends AbstractLinkedList<T, DoublyLinkedNode<
             node = nextNode;
         }
 
+        if (FlightRecorderEvents.ENABLED && traversed >= FlightRecorderEvents.LONG_TRAVERSAL_THRESHOLD) {
+            LongTraversalEvent.traversed(this, "remove", traversed);
+        }
+
         return removed;
     }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.list.linked;
+
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEventType;
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
+
+/**
+ * Emits the Java Flight Recorder event for an operation on a Linked List that traversed at least
+ * {@link FlightRecorderEvents#LONG_TRAVERSAL_THRESHOLD} nodes.
+ * Only used when {@link FlightRecorderEvents#ENABLED}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+final class LongTraversalEvent {
+
+    static final String NAME = "com.evolvedbinary.j8cu.LongTraversal";
+
+    private static final FlightRecorderEventType TYPE = new FlightRecorderEventType(
+            NAME,
+            "Linked List Long Traversal",
+            new String[] { "J8CU", "Linked List" },
+            "An operation on a Linked List traversed many nodes",
+            true,
+            new FlightRecorderEventType.Field(Class.class, "listClass", "List Class"),
+            new FlightRecorderEventType.Field(String.class, "operation", "Operation"),
+            new FlightRecorderEventType.Field(long.class, "nodes", "Nodes Traversed")
+    );
+
+    private static final int LIST_CLASS_FIELD = 0;
+    private static final int OPERATION_FIELD = 1;
+    private static final int NODES_FIELD = 2;
+
+    private LongTraversalEvent() {
+        // no-op
+    }
+
+    /**
+     * Called when an operation on a Linked List has traversed at least {@link FlightRecorderEvents#LONG_TRAVERSAL_THRESHOLD} nodes.
+     *
+     * @param list the Linked List.
+     * @param operation the name of the operation.
+     * @param nodes the number of nodes traversed.
+     */
+    static void traversed(final AbstractLinkedList<?, ?> list, final String operation, final long nodes) {
+        final Object event = TYPE.newEvent();
+        if (TYPE.shouldCommit(event)) {
+            TYPE.set(event, LIST_CLASS_FIELD, list.getClass());
+            TYPE.set(event, OPERATION_FIELD, operation);
+            TYPE.set(event, NODES_FIELD, nodes);
+            TYPE.commit(event);
+        }
+    }
+}
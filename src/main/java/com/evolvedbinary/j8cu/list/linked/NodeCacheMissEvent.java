@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.list.linked;
+
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEventType;
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
+
+/**
+ * Emits the Java Flight Recorder event for a sample of the nodes that had to be newly allocated by a Linked List,
+ * because its node cache was empty.
+ * <p>Only one in {@link FlightRecorderEvents#NODE_CACHE_MISS_SAMPLE_INTERVAL} misses is recorded.
+ * Only used when {@link FlightRecorderEvents#ENABLED}.</p>
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+final class NodeCacheMissEvent {
+
+    static final String NAME = "com.evolvedbinary.j8cu.NodeCacheMiss";
+
+    private static final FlightRecorderEventType TYPE = new FlightRecorderEventType(
+            NAME,
+            "Linked List Node Cache Miss",
+            new String[] { "J8CU", "Linked List" },
+            "A sample of the nodes that were allocated because the node cache of a Linked List was empty",
+            true,
+            new FlightRecorderEventType.Field(Class.class, "listClass", "List Class"),
+            new FlightRecorderEventType.Field(int.class, "cacheSize", "Cache Size"),
+            new FlightRecorderEventType.Field(int.class, "sampleInterval", "Sample Interval")
+    );
+
+    private static final int LIST_CLASS_FIELD = 0;
+    private static final int CACHE_SIZE_FIELD = 1;
+    private static final int SAMPLE_INTERVAL_FIELD = 2;
+
+    /**
+     * The number of misses, across all Linked Lists, used for sampling.
+     * Updated without synchronization, as an approximate count is sufficient for sampling.
+     */
+    private static int misses;
+
+    private NodeCacheMissEvent() {
+        // no-op
+    }
+
+    /**
+     * Called when a Linked List has missed its node cache.
+     *
+     * @param list the Linked List.
+     * @param cacheSize the size of the node cache of the Linked List.
+     */
+    static void missed(final AbstractLinkedList<?, ?> list, final int cacheSize) {
+        if ((++misses & (FlightRecorderEvents.NODE_CACHE_MISS_SAMPLE_INTERVAL - 1)) != 0) {
+            return;
+        }
+
+        final Object event = TYPE.newEvent();
+        if (TYPE.shouldCommit(event)) {
+            TYPE.set(event, LIST_CLASS_FIELD, list.getClass());
+            TYPE.set(event, CACHE_SIZE_FIELD, cacheSize);
+            TYPE.set(event, SAMPLE_INTERVAL_FIELD, FlightRecorderEvents.NODE_CACHE_MISS_SAMPLE_INTERVAL);
+            TYPE.commit(event);
+        }
+    }
+}
@@ -26,6 +26,7 @@
  */
 package com.evolvedbinary.j8cu.list.linked;
 
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
 import net.jcip.annotations.NotThreadSafe;
 import org.jspecify.annotations.Nullable;
 
@@ -74,10 +75,16 @@ public class OrderedDoublyLinkedList<T extends Comparable<T>> extends DoublyLink
         // find the position to insert the node
         @Nullable DoublyLinkedNode<T> node = head;
         @Nullable DoublyLinkedNode<T> prevNode = null;
+        long traversed = 0;
         while (node != null) {
+            traversed++;
             if (node.data == null || element.compareTo(node.data) < 0) {
                 // found that insertion position should be before this node
 
+                if (FlightRecorderEvents.ENABLED && traversed >= FlightRecorderEvents.LONG_TRAVERSAL_THRESHOLD) {
+                    LongTraversalEvent.traversed(this, "add", traversed);
+                }
+
                 final DoublyLinkedNode<T> newNode = createNode(element);
                 node.previous = newNode;
                 newNode.next = node;
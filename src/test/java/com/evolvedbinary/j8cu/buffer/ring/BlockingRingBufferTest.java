@@ -0,0 +1,261 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Tests for {@link BlockingRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class BlockingRingBufferTest {
+
+    static Stream<Supplier<WaitStrategy>> waitStrategies() {
+        return Stream.of(
+                BusySpinWaitStrategy::new,
+                YieldingWaitStrategy::new,
+                ParkingWaitStrategy::new,
+                BlockingWaitStrategy::new
+        );
+    }
+
+    @Test
+    public void construct() {
+        final BlockingRingBuffer<String> ringBuffer = new BlockingRingBuffer<>(4);
+        assertEquals(4, ringBuffer.capacity());
+        assertEquals(4, ringBuffer.remainingCapacity());
+        assertEquals(0, ringBuffer.size());
+        assertTrue(ringBuffer.isEmpty());
+        assertInstanceOf(BlockingWaitStrategy.class, ringBuffer.waitStrategy);
+
+        assertThrows(IllegalArgumentException.class, () -> new BlockingRingBuffer<String>(1));
+        assertThrows(NullPointerException.class, () -> new BlockingRingBuffer<String>(4, null));
+    }
+
+    @Test
+    public void queueOperations() {
+        final BlockingRingBuffer<String> ringBuffer = new BlockingRingBuffer<>(3);
+        assertNull(ringBuffer.peek());
+        assertNull(ringBuffer.poll());
+        assertThrows(NullPointerException.class, () -> ringBuffer.offer(null));
+
+        assertTrue(ringBuffer.offer("a"));
+        assertTrue(ringBuffer.add("b"));
+        assertTrue(ringBuffer.offer("c"));
+        assertFalse(ringBuffer.offer("d"));
+        assertThrows(IllegalStateException.class, () -> ringBuffer.add("d"));
+        assertEquals(0, ringBuffer.remainingCapacity());
+
+        assertEquals("a", ringBuffer.peek());
+        assertEquals("a", ringBuffer.element());
+        assertTrue(ringBuffer.contains("b"));
+
+        final Iterator<String> iterator = ringBuffer.iterator();
+        assertEquals("a", iterator.next());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+
+        assertEquals("a", ringBuffer.poll());
+        assertEquals("b", ringBuffer.remove());
+        assertEquals(1, ringBuffer.size());
+
+        ringBuffer.clear();
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void drainTo() {
+        final BlockingRingBuffer<String> ringBuffer = new BlockingRingBuffer<>(4);
+        ringBuffer.addAll(asList("a", "b", "c"));
+
+        final List<String> drained = new ArrayList<>();
+        assertEquals(0, ringBuffer.drainTo(drained, 0));
+        assertEquals(2, ringBuffer.drainTo(drained, 2));
+        assertEquals(1, ringBuffer.drainTo(drained));
+        assertEquals(asList("a", "b", "c"), drained);
+
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.drainTo(ringBuffer));
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    public void timedOfferAndPoll(final Supplier<WaitStrategy> waitStrategy) throws InterruptedException {
+        final BlockingRingBuffer<String> ringBuffer = new BlockingRingBuffer<>(2, waitStrategy.get());
+
+        final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(20);
+        long start = System.nanoTime();
+        assertNull(ringBuffer.poll(20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= timeoutNanos);
+
+        assertTrue(ringBuffer.offer("a", 20, TimeUnit.MILLISECONDS));
+        assertTrue(ringBuffer.offer("b", 20, TimeUnit.MILLISECONDS));
+        start = System.nanoTime();
+        assertFalse(ringBuffer.offer("c", 20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= timeoutNanos);
+
+        assertEquals("a", ringBuffer.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    public void takeWaitsForPut(final Supplier<WaitStrategy> waitStrategy) throws InterruptedException {
+        final BlockingRingBuffer<String> ringBuffer = new BlockingRingBuffer<>(2, waitStrategy.get());
+
+        final AtomicReference<String> taken = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> {
+            try {
+                taken.set(ringBuffer.take());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        ringBuffer.put("a");
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(consumer.isAlive());
+        assertEquals("a", taken.get());
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    public void putWaitsForTake(final Supplier<WaitStrategy> waitStrategy) throws InterruptedException {
+        final BlockingRingBuffer<String> ringBuffer = new BlockingRingBuffer<>(2, waitStrategy.get());
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+
+        final CountDownLatch put = new CountDownLatch(1);
+        final Thread producer = new Thread(() -> {
+            try {
+                ringBuffer.put("c");
+                put.countDown();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertFalse(put.await(20, TimeUnit.MILLISECONDS));
+        assertEquals("a", ringBuffer.take());
+        assertTrue(put.await(10, TimeUnit.SECONDS));
+        assertEquals("b", ringBuffer.take());
+        assertEquals("c", ringBuffer.take());
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    public void takeIsInterruptible(final Supplier<WaitStrategy> waitStrategy) throws InterruptedException {
+        final BlockingRingBuffer<String> ringBuffer = new BlockingRingBuffer<>(2, waitStrategy.get());
+
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Thread consumer = new Thread(() -> {
+            try {
+                ringBuffer.take();
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        consumer.interrupt();
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    public void multipleProducersMultipleConsumers(final Supplier<WaitStrategy> waitStrategy) throws InterruptedException {
+        final int producers = 3;
+        final int consumers = 3;
+        final int perProducer = 20_000;
+        final BlockingRingBuffer<Integer> ringBuffer = new BlockingRingBuffer<>(16, waitStrategy.get());
+
+        // busy spinning threads starve each other when there are more threads than CPU cores
+        assumeFalse(ringBuffer.waitStrategy instanceof BusySpinWaitStrategy
+                && Runtime.getRuntime().availableProcessors() < producers + consumers);
+
+        final AtomicLong sum = new AtomicLong();
+        final AtomicInteger count = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 1; i <= perProducer; i++) {
+                        ringBuffer.put(i);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                try {
+                    while (count.get() < producers * perProducer) {
+                        final Integer entry = ringBuffer.poll(1, TimeUnit.MILLISECONDS);
+                        if (entry != null) {
+                            sum.addAndGet(entry);
+                            count.incrementAndGet();
+                        }
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(60));
+            assertFalse(thread.isAlive());
+        }
+
+        assertEquals(producers * perProducer, count.get());
+        assertEquals(producers * ((long) perProducer * (perProducer + 1) / 2), sum.get());
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
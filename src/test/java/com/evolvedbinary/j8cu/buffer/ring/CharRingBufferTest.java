@@ -0,0 +1,298 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static com.evolvedbinary.j8cu.buffer.ring.CharRingBuffer.READ_UNINITIALISED;
+import static com.evolvedbinary.j8cu.buffer.ring.CharRingBuffer.WRITE_UNINITIALISED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Tests for {@link CharRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class CharRingBufferTest {
+
+    @Test
+    public void construct() {
+        final int capacity = 5;
+        final CharRingBuffer ringBuffer = new CharRingBuffer(capacity);
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(capacity, ringBuffer.capacity);
+        assertEquals(capacity, ringBuffer.entries.length);
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+
+        // check that `get` on an empty Ring Buffer throws
+        assertThrows(IllegalStateException.class, ringBuffer::get);
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+
+        // check that `copy` on an empty Ring Buffer returns null
+        assertNull(ringBuffer.copy());
+    }
+
+    @Test
+    public void simpleOverfillUnordered() {
+        final int capacity = 3;
+        final CharRingBuffer ringBuffer = new CharRingBuffer(capacity, false);
+
+        // put 4 entries
+        ringBuffer.put('a');
+        ringBuffer.put('b');
+        ringBuffer.put('c');
+        ringBuffer.put('d');
+
+        assertEquals(3, ringBuffer.available);
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(0, ringBuffer.writeIdx);
+        assertArrayEquals(new char[] { 'd', 'b', 'c' }, ringBuffer.copy());
+
+        // get 3 entries
+        assertEquals('d', ringBuffer.get());
+        assertEquals('b', ringBuffer.get());
+        assertEquals('c', ringBuffer.get());
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertNull(ringBuffer.copy());
+    }
+
+    @Test
+    public void simpleOverfillOrdered() {
+        final int capacity = 3;
+        final CharRingBuffer ringBuffer = new CharRingBuffer(capacity, true);
+
+        // put 4 entries
+        ringBuffer.put('a');
+        ringBuffer.put('b');
+        ringBuffer.put('c');
+        ringBuffer.put('d');
+
+        assertEquals(3, ringBuffer.available);
+        assertEquals(0, ringBuffer.readIdx);
+        assertEquals(0, ringBuffer.writeIdx);
+        assertArrayEquals(new char[] { 'b', 'c', 'd' }, ringBuffer.copy());
+
+        // get 3 entries
+        assertEquals('b', ringBuffer.get());
+        assertEquals('c', ringBuffer.get());
+        assertEquals('d', ringBuffer.get());
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertNull(ringBuffer.copy());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void sameAsRingBufferUnordered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        assertSameAsRingBuffer(false, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void sameAsRingBufferOrdered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        assertSameAsRingBuffer(true, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    private static void assertSameAsRingBuffer(final boolean orderedReads, final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        final RingBuffer<Character> expected = new RingBuffer<>(Character.class, capacity, orderedReads);
+        final CharRingBuffer actual = new CharRingBuffer(capacity, orderedReads);
+
+        char value = '\u0000';
+        for (int i = 0; i < putCount1; i++) {
+            expected.put(value);
+            actual.put(value);
+            value++;
+        }
+        assertSameState(expected, actual);
+        for (int i = 0; i < getCount1 && !expected.isEmpty(); i++) {
+            assertEquals(expected.get().charValue(), actual.get());
+        }
+        assertSameState(expected, actual);
+        for (int i = 0; i < putCount2; i++) {
+            expected.put(value);
+            actual.put(value);
+            value++;
+        }
+        assertSameState(expected, actual);
+        for (int i = 0; i < getCount2 && !expected.isEmpty(); i++) {
+            assertEquals(expected.get().charValue(), actual.get());
+        }
+        assertSameState(expected, actual);
+    }
+
+    private static void assertSameState(final RingBuffer<Character> expected, final CharRingBuffer actual) {
+        assertEquals(expected.readIdx, actual.readIdx);
+        assertEquals(expected.writeIdx, actual.writeIdx);
+        assertEquals(expected.available, actual.available);
+        assertEquals(expected.putCount, actual.putCount);
+
+        final Character @Nullable [] expectedCopy = expected.copy();
+        final char @Nullable [] actualCopy = actual.copy();
+        if (expectedCopy == null) {
+            assertNull(actualCopy);
+        } else {
+            assertNotNull(actualCopy);
+            assertEquals(expectedCopy.length, actualCopy.length);
+            for (int i = 0; i < expectedCopy.length; i++) {
+                assertEquals(expectedCopy[i].charValue(), actualCopy[i]);
+            }
+        }
+    }
+
+    @Test
+    public void reset() {
+        final int capacity = 3;
+        final CharRingBuffer ringBuffer = new CharRingBuffer(capacity);
+
+        ringBuffer.put('a');
+        ringBuffer.put('b');
+        assertFalse(ringBuffer.isEmpty());
+
+        ringBuffer.reset();
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertEquals(0, ringBuffer.available);
+        assertEquals(0, ringBuffer.putCount);
+
+        // check entries are not zeroed
+        assertArrayEquals(new char[] { 'a', 'b', '\u0000' }, ringBuffer.entries);
+    }
+
+    @Test
+    public void clear() {
+        final int capacity = 3;
+        final CharRingBuffer ringBuffer = new CharRingBuffer(capacity);
+
+        ringBuffer.put('a');
+        ringBuffer.put('b');
+        assertFalse(ringBuffer.isEmpty());
+
+        ringBuffer.clear();
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertEquals(0, ringBuffer.available);
+        assertEquals(0, ringBuffer.putCount);
+
+        // check entries are now zeroed
+        assertArrayEquals(new char[capacity], ringBuffer.entries);
+    }
+
+    @Test
+    public void listenerEventsOrdered() {
+        final int capacity = 3;
+        final CharRingBuffer ringBuffer = new CharRingBuffer(capacity, true);
+        assertNull(ringBuffer.listeners);
+
+        final CollectingListener listener1 = new CollectingListener();
+        final CollectingListener listener2 = new CollectingListener();
+        ringBuffer.addListener(listener1);
+        ringBuffer.addListener(listener2);
+
+        // put 4 entries
+        ringBuffer.put('a');
+        ringBuffer.put('b');
+        ringBuffer.put('c');
+        ringBuffer.put('d');
+
+        // get 3 entries
+        ringBuffer.get();
+        ringBuffer.get();
+        ringBuffer.get();
+
+        // check the listeners received all events
+        assertArrayEquals(new char[] { 'a', 'b', 'c', 'd' }, listener1.stored);
+        assertArrayEquals(new char[] { 'b', 'c', 'd' }, listener1.retrieved);
+        assertArrayEquals(listener1.stored, listener2.stored);
+        assertArrayEquals(listener1.retrieved, listener2.retrieved);
+
+        ringBuffer.removeListener(listener1);
+        ringBuffer.put('a');
+        assertEquals(4, listener1.stored.length);
+        assertEquals(5, listener2.stored.length);
+
+        ringBuffer.removeListener(listener2);
+        assertNull(ringBuffer.listeners);
+    }
+
+    static Stream<Arguments> randomPutGetPutGet() {
+        // we will generate 100 sets of arguments of random integers
+        final int iterations = 100;
+        final Arguments[] argsSets = new Arguments[iterations];
+        for (int i = 0; i < iterations; i ++) {
+            final int capacity = randomInt(7);
+            final int putCount1 = randomInt(24);
+            final int getCount1 = randomInt(24);
+            final int putCount2 = randomInt(24);
+            final int getCount2 = randomInt(24);
+
+            final Arguments args = arguments(capacity, putCount1, getCount1, putCount2, getCount2);
+            argsSets[i] = args;
+        }
+
+        return Stream.of(argsSets);
+    }
+
+    private static int randomInt(final int max) {
+        // nextInt is exclusive of the top value, so add 1 to make it inclusive
+        return ThreadLocalRandom.current().nextInt(1, max + 1);
+    }
+
+    private static class CollectingListener implements CharRingBuffer.Listener {
+        char[] retrieved = new char[0];
+        char[] stored = new char[0];
+
+        @Override
+        public void retrieved(final char entry) {
+            retrieved = Arrays.copyOf(retrieved, retrieved.length + 1);
+            retrieved[retrieved.length - 1] = entry;
+        }
+
+        @Override
+        public void stored(final char entry) {
+            stored = Arrays.copyOf(stored, stored.length + 1);
+            stored[stored.length - 1] = entry;
+        }
+    }
+}
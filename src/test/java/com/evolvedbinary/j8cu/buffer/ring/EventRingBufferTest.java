@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.evolvedbinary.j8cu.buffer.ring.EventRingBuffer.INITIAL_SEQUENCE;
+import static com.evolvedbinary.j8cu.buffer.ring.EventRingBuffer.NO_SEQUENCE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link EventRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class EventRingBufferTest {
+
+    @Test
+    public void constructPreallocatesEvents() {
+        final int capacity = 4;
+        final EventRingBuffer<MutableLong> ringBuffer = new EventRingBuffer<>(MutableLong::new, capacity);
+
+        assertEquals(capacity, ringBuffer.capacity());
+        assertEquals(INITIAL_SEQUENCE, ringBuffer.cursor());
+        for (int i = 0; i < capacity; i++) {
+            assertNotNull(ringBuffer.entries[i]);
+            assertFalse(ringBuffer.isPublished(i));
+        }
+
+        // check that the same event objects are reused on each lap
+        assertSame(ringBuffer.get(0), ringBuffer.get(capacity));
+        assertSame(ringBuffer.get(3), ringBuffer.get(3 + (2 * capacity)));
+    }
+
+    @Test
+    public void constructInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRingBuffer<>(MutableLong::new, 0));
+    }
+
+    @Test
+    public void claimPublishConsume() {
+        final EventRingBuffer<MutableLong> ringBuffer = new EventRingBuffer<>(MutableLong::new, 4);
+        final EventRingBuffer.BatchConsumer<MutableLong> consumer = ringBuffer.newConsumer();
+        assertEquals(INITIAL_SEQUENCE, consumer.sequence());
+
+        // nothing to consume
+        assertEquals(0, consumer.consume((event, sequence, endOfBatch) -> fail("Unexpected event: " + sequence)));
+
+        for (int i = 0; i < 3; i++) {
+            final long sequence = ringBuffer.claim();
+            assertEquals(i, sequence);
+            ringBuffer.get(sequence).value = i * 10;
+            ringBuffer.publish(sequence);
+        }
+
+        final List<Long> values = new ArrayList<>();
+        final List<Boolean> endOfBatches = new ArrayList<>();
+        assertEquals(3, consumer.consume((event, sequence, endOfBatch) -> {
+            values.add(event.value);
+            endOfBatches.add(endOfBatch);
+        }));
+        assertArrayEquals(new Long[] { 0L, 10L, 20L }, values.toArray());
+        assertArrayEquals(new Boolean[] { false, false, true }, endOfBatches.toArray());
+        assertEquals(2, consumer.sequence());
+    }
+
+    @Test
+    public void consumeStopsAtUnpublishedSequence() {
+        final EventRingBuffer<MutableLong> ringBuffer = new EventRingBuffer<>(MutableLong::new, 4);
+        final EventRingBuffer.BatchConsumer<MutableLong> consumer = ringBuffer.newConsumer();
+
+        final long first = ringBuffer.claim();
+        final long second = ringBuffer.claim();
+        final long third = ringBuffer.claim();
+
+        // publish out of order
+        ringBuffer.publish(first);
+        ringBuffer.publish(third);
+
+        assertEquals(1, consumer.consume((event, sequence, endOfBatch) -> assertEquals(first, sequence)));
+        assertEquals(first, consumer.sequence());
+
+        ringBuffer.publish(second);
+        final List<Long> sequences = new ArrayList<>();
+        assertEquals(2, consumer.consume((event, sequence, endOfBatch) -> sequences.add(sequence)));
+        assertArrayEquals(new Long[] { second, third }, sequences.toArray());
+    }
+
+    @Test
+    public void producersAreGatedByConsumers() {
+        final int capacity = 2;
+        final EventRingBuffer<MutableLong> ringBuffer = new EventRingBuffer<>(MutableLong::new, capacity);
+        final EventRingBuffer.BatchConsumer<MutableLong> consumer = ringBuffer.newConsumer();
+
+        ringBuffer.publish(ringBuffer.tryClaim());
+        ringBuffer.publish(ringBuffer.tryClaim());
+
+        // the Ring Buffer is full until the consumer has processed an event
+        assertEquals(NO_SEQUENCE, ringBuffer.tryClaim());
+        assertEquals(NO_SEQUENCE, ringBuffer.tryClaim(2));
+
+        assertEquals(2, consumer.consume((event, sequence, endOfBatch) -> {}));
+        assertEquals(3, ringBuffer.tryClaim(2));
+        assertEquals(NO_SEQUENCE, ringBuffer.tryClaim());
+
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.tryClaim(capacity + 1));
+    }
+
+    @Test
+    public void dependentConsumers() {
+        final EventRingBuffer<MutableLong> ringBuffer = new EventRingBuffer<>(MutableLong::new, 8);
+        final EventRingBuffer.BatchConsumer<MutableLong> stage1 = ringBuffer.newConsumer();
+        final EventRingBuffer.BatchConsumer<MutableLong> stage2 = ringBuffer.newConsumer(stage1);
+
+        for (int i = 0; i < 5; i++) {
+            final long sequence = ringBuffer.claim();
+            ringBuffer.get(sequence).value = i;
+            ringBuffer.publish(sequence);
+        }
+
+        // stage 2 may not process anything until stage 1 has
+        assertEquals(0, stage2.consume((event, sequence, endOfBatch) -> fail("Unexpected event: " + sequence)));
+
+        // stage 1 fails part way through the batch
+        assertThrows(IllegalStateException.class, () -> stage1.consume((event, sequence, endOfBatch) -> {
+            if (sequence == 3) {
+                throw new IllegalStateException();
+            }
+            event.value *= 2;
+        }));
+        assertEquals(2, stage1.sequence());
+
+        final List<Long> values = new ArrayList<>();
+        assertEquals(3, stage2.consume((event, sequence, endOfBatch) -> values.add(event.value)));
+        assertArrayEquals(new Long[] { 0L, 2L, 4L }, values.toArray());
+
+        assertEquals(2, stage1.consume((event, sequence, endOfBatch) -> event.value *= 2));
+        assertEquals(2, stage2.consume((event, sequence, endOfBatch) -> values.add(event.value)));
+        assertArrayEquals(new Long[] { 0L, 2L, 4L, 6L, 8L }, values.toArray());
+
+        final EventRingBuffer<MutableLong> otherRingBuffer = new EventRingBuffer<>(MutableLong::new, 8);
+        assertThrows(IllegalArgumentException.class, () -> otherRingBuffer.newConsumer(stage1));
+    }
+
+    @Test
+    public void removeConsumer() {
+        final EventRingBuffer<MutableLong> ringBuffer = new EventRingBuffer<>(MutableLong::new, 1);
+        final EventRingBuffer.BatchConsumer<MutableLong> consumer = ringBuffer.newConsumer();
+        ringBuffer.publish(ringBuffer.claim());
+        assertEquals(NO_SEQUENCE, ringBuffer.tryClaim());
+
+        ringBuffer.removeConsumer(consumer);
+        assertEquals(0, ringBuffer.gatingSequences.length);
+        assertEquals(1, ringBuffer.tryClaim());
+    }
+
+    @Test
+    public void multipleProducersPipeline() throws InterruptedException {
+        final int capacity = 64;
+        final int producers = 3;
+        final int countPerProducer = 100_000;
+        final long total = (long) producers * countPerProducer;
+        final EventRingBuffer<MutableLong> ringBuffer = new EventRingBuffer<>(MutableLong::new, capacity);
+        final EventRingBuffer.BatchConsumer<MutableLong> stage1 = ringBuffer.newConsumer();
+        final EventRingBuffer.BatchConsumer<MutableLong> stage2 = ringBuffer.newConsumer(stage1);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[producers + 2];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < countPerProducer; i++) {
+                    final long sequence = ringBuffer.claim();
+                    ringBuffer.get(sequence).value = 1;
+                    ringBuffer.publish(sequence);
+                }
+            });
+        }
+
+        final AtomicReference<String> failure = new AtomicReference<>();
+        threads[producers] = new Thread(() -> {
+            awaitQuietly(start);
+            while (stage1.sequence() < total - 1) {
+                stage1.consume((event, sequence, endOfBatch) -> {
+                    if (event.value != 1) {
+                        failure.set("stage1 saw unexpected value: " + event.value + " at: " + sequence);
+                    }
+                    event.value = 2;
+                });
+            }
+        });
+        final long[] sum = new long[1];
+        threads[producers + 1] = new Thread(() -> {
+            awaitQuietly(start);
+            while (stage2.sequence() < total - 1) {
+                stage2.consume((event, sequence, endOfBatch) -> sum[0] += event.value);
+            }
+        });
+
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(total * 2, sum[0]);
+        assertEquals(total - 1, ringBuffer.cursor());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableLong {
+        long value;
+    }
+}
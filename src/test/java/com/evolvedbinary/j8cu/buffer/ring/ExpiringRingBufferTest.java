@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ExpiringRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class ExpiringRingBufferTest {
+
+    @Test
+    public void construct() {
+        final ExpiringRingBuffer<String> ringBuffer = new ExpiringRingBuffer<>(String.class, 4, 30, TimeUnit.SECONDS);
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.size());
+        assertEquals(4, ringBuffer.capacity());
+        assertEquals(0, ringBuffer.expire());
+        assertNull(ringBuffer.get());
+        assertNull(ringBuffer.copy());
+    }
+
+    @Test
+    public void constructInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringRingBuffer<>(String.class, 0, 10, () -> 0));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringRingBuffer<>(String.class, 4, 0, () -> 0));
+    }
+
+    @Test
+    public void getSkipsExpired() {
+        final long[] now = { 0 };
+        final ExpiringRingBuffer<String> ringBuffer = new ExpiringRingBuffer<>(String.class, 4, 10, () -> now[0]);
+
+        ringBuffer.put("a");
+        now[0] = 5;
+        ringBuffer.put("b");
+        now[0] = 9;
+        ringBuffer.put("c");
+
+        // "a" expires at 10
+        now[0] = 10;
+        assertEquals("b", ringBuffer.get());
+        assertEquals(1, ringBuffer.expiredCount());
+
+        // "c" has not yet expired
+        now[0] = 18;
+        assertEquals("c", ringBuffer.get());
+        assertNull(ringBuffer.get());
+        assertEquals(1, ringBuffer.expiredCount());
+    }
+
+    @Test
+    public void copySkipsExpired() {
+        final long[] now = { 0 };
+        final ExpiringRingBuffer<String> ringBuffer = new ExpiringRingBuffer<>(String.class, 4, 10, () -> now[0]);
+
+        ringBuffer.put("a");
+        now[0] = 5;
+        ringBuffer.put("b");
+        ringBuffer.put("c");
+
+        now[0] = 12;
+        assertArrayEquals(new String[] { "b", "c" }, ringBuffer.copy());
+        assertEquals(2, ringBuffer.size());
+
+        now[0] = 15;
+        assertNull(ringBuffer.copy());
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(3, ringBuffer.expiredCount());
+    }
+
+    @Test
+    public void expire() {
+        final long[] now = { 0 };
+        final ExpiringRingBuffer<String> ringBuffer = new ExpiringRingBuffer<>(String.class, 4, 10, () -> now[0]);
+
+        for (int i = 0; i < 4; i++) {
+            now[0] = i;
+            ringBuffer.put(String.valueOf(i));
+        }
+
+        now[0] = 11;
+        assertEquals(2, ringBuffer.expire());
+        assertEquals(0, ringBuffer.expire());
+
+        // the live entries must be untouched
+        assertEquals(2, ringBuffer.ringBuffer.available);
+        assertArrayEquals(new String[] { "2", "3" }, ringBuffer.ringBuffer.copy());
+
+        now[0] = 100;
+        assertEquals(2, ringBuffer.expire());
+        assertEquals(4, ringBuffer.expiredCount());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void expireWrapsAround() {
+        final long[] now = { 0 };
+        final ExpiringRingBuffer<String> ringBuffer = new ExpiringRingBuffer<>(String.class, 3, 10, () -> now[0]);
+
+        // overfill, so that the oldest entries are overwritten and the entries to be read wrap around
+        for (int i = 0; i < 5; i++) {
+            now[0] = i;
+            ringBuffer.put(String.valueOf(i));
+        }
+        assertArrayEquals(new String[] { "2", "3", "4" }, ringBuffer.copy());
+
+        now[0] = 13;
+        assertEquals(2, ringBuffer.expire());
+        assertEquals("4", ringBuffer.get());
+
+        // the overwritten entries were never expired
+        assertEquals(2, ringBuffer.expiredCount());
+
+        now[0] = 20;
+        ringBuffer.put("5");
+        ringBuffer.put("6");
+        now[0] = 29;
+        assertArrayEquals(new String[] { "5", "6" }, ringBuffer.copy());
+        now[0] = 30;
+        assertNull(ringBuffer.get());
+    }
+
+    @Test
+    public void clear() {
+        final long[] now = { 0 };
+        final ExpiringRingBuffer<String> ringBuffer = new ExpiringRingBuffer<>(String.class, 4, 10, () -> now[0]);
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+
+        ringBuffer.clear();
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.expiredCount());
+
+        now[0] = 3;
+        ringBuffer.put("c");
+        now[0] = 12;
+        assertEquals("c", ringBuffer.get());
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HistogramRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class HistogramRingBufferTest {
+
+    private static final long INTERVAL_NANOS = 1_000_000_000L;
+
+    @Test
+    public void construct() {
+        final long[] now = { 0 };
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(60, INTERVAL_NANOS, 7, 60_000_000_000L, () -> now[0]);
+        assertEquals(0, histograms.count());
+        assertEquals(0, histograms.valueAtQuantile(0.99));
+
+        assertThrows(IllegalArgumentException.class, () -> new HistogramRingBuffer(0, INTERVAL_NANOS, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new HistogramRingBuffer(60, 0, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new HistogramRingBuffer(60, INTERVAL_NANOS, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HistogramRingBuffer(60, INTERVAL_NANOS, 0, 1000, () -> now[0]));
+        assertThrows(IllegalArgumentException.class, () -> new HistogramRingBuffer(60, INTERVAL_NANOS, 17, 1000, () -> now[0]));
+    }
+
+    @Test
+    public void invalidArguments() {
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(1, INTERVAL_NANOS, 1000);
+        assertThrows(IllegalArgumentException.class, () -> histograms.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histograms.valueAtQuantile(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> histograms.valueAtQuantile(1.1));
+        assertThrows(IllegalArgumentException.class, () -> histograms.valuesAtQuantiles(new double[] { 0.9, 0.5 }, new long[2]));
+        assertThrows(IllegalArgumentException.class, () -> histograms.valuesAtQuantiles(new double[] { 0.5, 0.9 }, new long[1]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 7, 12 })
+    public void bucketsCoverValues(final int precisionBits) {
+        final Random random = new Random(precisionBits);
+        for (int i = 0; i < 10_000; i++) {
+            final long value = i < 5_000 ? i : (random.nextLong() & Long.MAX_VALUE) >>> random.nextInt(64);
+            final int index = HistogramRingBuffer.bucketIndex(value, precisionBits);
+            final long highest = HistogramRingBuffer.highestEquivalentValue(index, precisionBits);
+            assertTrue(value <= highest);
+            assertTrue(highest - value <= value >>> precisionBits);
+            if (index > 0) {
+                assertTrue(HistogramRingBuffer.highestEquivalentValue(index - 1, precisionBits) < value);
+            }
+        }
+        assertEquals(Long.MAX_VALUE, HistogramRingBuffer.highestEquivalentValue(HistogramRingBuffer.bucketIndex(Long.MAX_VALUE, precisionBits), precisionBits));
+    }
+
+    @Test
+    public void exactForSmallValues() {
+        final long[] now = { 0 };
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(10, INTERVAL_NANOS, 7, 1000, () -> now[0]);
+        for (int value = 1; value <= 100; value++) {
+            histograms.record(value);
+        }
+        assertEquals(100, histograms.count());
+        assertEquals(1, histograms.valueAtQuantile(0));
+        assertEquals(50, histograms.valueAtQuantile(0.5));
+        assertEquals(99, histograms.valueAtQuantile(0.99));
+        assertEquals(100, histograms.valueAtQuantile(1));
+    }
+
+    @Test
+    public void valuesAboveMaxValueAreClamped() {
+        final long[] now = { 0 };
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(1, INTERVAL_NANOS, 3, 1000, () -> now[0]);
+        histograms.record(Long.MAX_VALUE);
+        assertEquals(1000, histograms.valueAtQuantile(1));
+    }
+
+    @Test
+    public void matchesSortedWithinPrecision() {
+        final long[] now = { 0 };
+        final int precisionBits = 7;
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(60, INTERVAL_NANOS, precisionBits, 60_000_000_000L, () -> now[0]);
+
+        final Random random = new Random(17);
+        final long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            now[0] = ((long) i * 60 / values.length) * INTERVAL_NANOS;
+            // a long tailed distribution of latencies
+            values[i] = (long) (Math.exp(random.nextGaussian() * 2 + 12));
+            histograms.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        final double[] quantiles = { 0.0, 0.5, 0.9, 0.99, 0.999, 1.0 };
+        final long[] actual = new long[quantiles.length];
+        histograms.valuesAtQuantiles(quantiles, actual);
+        for (int i = 0; i < quantiles.length; i++) {
+            final long expected = values[(int) Math.max(0, Math.ceil(quantiles[i] * values.length) - 1)];
+            assertTrue(actual[i] >= expected);
+            assertTrue(actual[i] - expected <= expected >>> precisionBits, "quantile " + quantiles[i]);
+            assertEquals(actual[i], histograms.valueAtQuantile(quantiles[i]));
+        }
+    }
+
+    @Test
+    public void intervalsExpire() {
+        final long[] now = { 0 };
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(3, INTERVAL_NANOS, 7, 1000, () -> now[0]);
+
+        histograms.record(100);
+        now[0] = INTERVAL_NANOS;
+        histograms.record(10);
+        histograms.record(20);
+        now[0] = 2 * INTERVAL_NANOS + 1;
+        histograms.record(1);
+        assertEquals(4, histograms.count());
+        assertEquals(100, histograms.valueAtQuantile(1));
+
+        // the first interval leaves the window without anything being recorded
+        now[0] = 3 * INTERVAL_NANOS;
+        assertEquals(3, histograms.count());
+        assertEquals(20, histograms.valueAtQuantile(1));
+
+        // recording reuses the slot of the first interval
+        histograms.record(5);
+        assertEquals(4, histograms.count());
+        assertEquals(5, histograms.valueAtQuantile(0.5));
+
+        // all intervals leave the window
+        now[0] = 10 * INTERVAL_NANOS;
+        assertEquals(0, histograms.count());
+        assertEquals(0, histograms.valueAtQuantile(0.5));
+        histograms.record(7);
+        assertEquals(1, histograms.count());
+        assertEquals(7, histograms.valueAtQuantile(0));
+    }
+
+    @Test
+    public void negativeClock() {
+        final long[] now = { -5 * INTERVAL_NANOS - 1 };
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(2, INTERVAL_NANOS, 7, 1000, () -> now[0]);
+        histograms.record(1);
+        now[0] = -5 * INTERVAL_NANOS;
+        histograms.record(2);
+        assertEquals(2, histograms.count());
+        now[0] = -4 * INTERVAL_NANOS;
+        assertEquals(1, histograms.count());
+        assertEquals(2, histograms.valueAtQuantile(0));
+    }
+
+    @Test
+    public void clear() {
+        final long[] now = { 0 };
+        final HistogramRingBuffer histograms = new HistogramRingBuffer(2, INTERVAL_NANOS, 7, 1000, () -> now[0]);
+        histograms.record(1);
+        histograms.record(2);
+        histograms.clear();
+        assertEquals(0, histograms.count());
+        assertEquals(0, histograms.valueAtQuantile(1));
+        histograms.record(3);
+        assertEquals(3, histograms.valueAtQuantile(0));
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static com.evolvedbinary.j8cu.buffer.ring.IntRingBuffer.READ_UNINITIALISED;
+import static com.evolvedbinary.j8cu.buffer.ring.IntRingBuffer.WRITE_UNINITIALISED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Tests for {@link IntRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class IntRingBufferTest {
+
+    @Test
+    public void construct() {
+        final int capacity = 5;
+        final IntRingBuffer ringBuffer = new IntRingBuffer(capacity);
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(capacity, ringBuffer.capacity);
+        assertEquals(capacity, ringBuffer.entries.length);
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+
+        // check that `get` on an empty Ring Buffer throws
+        assertThrows(IllegalStateException.class, ringBuffer::get);
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+
+        // check that `copy` on an empty Ring Buffer returns null
+        assertNull(ringBuffer.copy());
+    }
+
+    @Test
+    public void simpleOverfillUnordered() {
+        final int capacity = 3;
+        final IntRingBuffer ringBuffer = new IntRingBuffer(capacity, false);
+
+        // put 4 entries
+        ringBuffer.put(1);
+        ringBuffer.put(2);
+        ringBuffer.put(3);
+        ringBuffer.put(4);
+
+        assertEquals(3, ringBuffer.available);
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(0, ringBuffer.writeIdx);
+        assertArrayEquals(new int[] { 4, 2, 3 }, ringBuffer.copy());
+
+        // get 3 entries
+        assertEquals(4, ringBuffer.get());
+        assertEquals(2, ringBuffer.get());
+        assertEquals(3, ringBuffer.get());
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertNull(ringBuffer.copy());
+    }
+
+    @Test
+    public void simpleOverfillOrdered() {
+        final int capacity = 3;
+        final IntRingBuffer ringBuffer = new IntRingBuffer(capacity, true);
+
+        // put 4 entries
+        ringBuffer.put(1);
+        ringBuffer.put(2);
+        ringBuffer.put(3);
+        ringBuffer.put(4);
+
+        assertEquals(3, ringBuffer.available);
+        assertEquals(0, ringBuffer.readIdx);
+        assertEquals(0, ringBuffer.writeIdx);
+        assertArrayEquals(new int[] { 2, 3, 4 }, ringBuffer.copy());
+
+        // get 3 entries
+        assertEquals(2, ringBuffer.get());
+        assertEquals(3, ringBuffer.get());
+        assertEquals(4, ringBuffer.get());
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertNull(ringBuffer.copy());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void sameAsRingBufferUnordered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        assertSameAsRingBuffer(false, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void sameAsRingBufferOrdered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        assertSameAsRingBuffer(true, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    private static void assertSameAsRingBuffer(final boolean orderedReads, final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        final RingBuffer<Integer> expected = new RingBuffer<>(Integer.class, capacity, orderedReads);
+        final IntRingBuffer actual = new IntRingBuffer(capacity, orderedReads);
+
+        int value = 0;
+        for (int i = 0; i < putCount1; i++) {
+            expected.put(value);
+            actual.put(value);
+            value++;
+        }
+        assertSameState(expected, actual);
+        for (int i = 0; i < getCount1 && !expected.isEmpty(); i++) {
+            assertEquals(expected.get().intValue(), actual.get());
+        }
+        assertSameState(expected, actual);
+        for (int i = 0; i < putCount2; i++) {
+            expected.put(value);
+            actual.put(value);
+            value++;
+        }
+        assertSameState(expected, actual);
+        for (int i = 0; i < getCount2 && !expected.isEmpty(); i++) {
+            assertEquals(expected.get().intValue(), actual.get());
+        }
+        assertSameState(expected, actual);
+    }
+
+    private static void assertSameState(final RingBuffer<Integer> expected, final IntRingBuffer actual) {
+        assertEquals(expected.readIdx, actual.readIdx);
+        assertEquals(expected.writeIdx, actual.writeIdx);
+        assertEquals(expected.available, actual.available);
+        assertEquals(expected.putCount, actual.putCount);
+
+        final Integer @Nullable [] expectedCopy = expected.copy();
+        final int @Nullable [] actualCopy = actual.copy();
+        if (expectedCopy == null) {
+            assertNull(actualCopy);
+        } else {
+            assertNotNull(actualCopy);
+            assertEquals(expectedCopy.length, actualCopy.length);
+            for (int i = 0; i < expectedCopy.length; i++) {
+                assertEquals(expectedCopy[i].intValue(), actualCopy[i]);
+            }
+        }
+    }
+
+    @Test
+    public void reset() {
+        final int capacity = 3;
+        final IntRingBuffer ringBuffer = new IntRingBuffer(capacity);
+
+        ringBuffer.put(1);
+        ringBuffer.put(2);
+        assertFalse(ringBuffer.isEmpty());
+
+        ringBuffer.reset();
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertEquals(0, ringBuffer.available);
+        assertEquals(0, ringBuffer.putCount);
+
+        // check entries are not zeroed
+        assertArrayEquals(new int[] { 1, 2, 0 }, ringBuffer.entries);
+    }
+
+    @Test
+    public void clear() {
+        final int capacity = 3;
+        final IntRingBuffer ringBuffer = new IntRingBuffer(capacity);
+
+        ringBuffer.put(1);
+        ringBuffer.put(2);
+        assertFalse(ringBuffer.isEmpty());
+
+        ringBuffer.clear();
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+        assertEquals(0, ringBuffer.available);
+        assertEquals(0, ringBuffer.putCount);
+
+        // check entries are now zeroed
+        assertArrayEquals(new int[capacity], ringBuffer.entries);
+    }
+
+    @Test
+    public void listenerEventsOrdered() {
+        final int capacity = 3;
+        final IntRingBuffer ringBuffer = new IntRingBuffer(capacity, true);
+        assertNull(ringBuffer.listeners);
+
+        final CollectingListener listener1 = new CollectingListener();
+        final CollectingListener listener2 = new CollectingListener();
+        ringBuffer.addListener(listener1);
+        ringBuffer.addListener(listener2);
+
+        // put 4 entries
+        ringBuffer.put(1);
+        ringBuffer.put(2);
+        ringBuffer.put(3);
+        ringBuffer.put(4);
+
+        // get 3 entries
+        ringBuffer.get();
+        ringBuffer.get();
+        ringBuffer.get();
+
+        // check the listeners received all events
+        assertArrayEquals(new int[] { 1, 2, 3, 4 }, listener1.stored);
+        assertArrayEquals(new int[] { 2, 3, 4 }, listener1.retrieved);
+        assertArrayEquals(listener1.stored, listener2.stored);
+        assertArrayEquals(listener1.retrieved, listener2.retrieved);
+
+        ringBuffer.removeListener(listener1);
+        ringBuffer.put(1);
+        assertEquals(4, listener1.stored.length);
+        assertEquals(5, listener2.stored.length);
+
+        ringBuffer.removeListener(listener2);
+        assertNull(ringBuffer.listeners);
+    }
+
+    static Stream<Arguments> randomPutGetPutGet() {
+        // we will generate 100 sets of arguments of random integers
+        final int iterations = 100;
+        final Arguments[] argsSets = new Arguments[iterations];
+        for (int i = 0; i < iterations; i ++) {
+            final int capacity = randomInt(7);
+            final int putCount1 = randomInt(24);
+            final int getCount1 = randomInt(24);
+            final int putCount2 = randomInt(24);
+            final int getCount2 = randomInt(24);
+
+            final Arguments args = arguments(capacity, putCount1, getCount1, putCount2, getCount2);
+            argsSets[i] = args;
+        }
+
+        return Stream.of(argsSets);
+    }
+
+    private static int randomInt(final int max) {
+        // nextInt is exclusive of the top value, so add 1 to make it inclusive
+        return ThreadLocalRandom.current().nextInt(1, max + 1);
+    }
+
+    private static class CollectingListener implements IntRingBuffer.Listener {
+        int[] retrieved = new int[0];
+        int[] stored = new int[0];
+
+        @Override
+        public void retrieved(final int entry) {
+            retrieved = Arrays.copyOf(retrieved, retrieved.length + 1);
+            retrieved[retrieved.length - 1] = entry;
+        }
+
+        @Override
+        public void stored(final int entry) {
+            stored = Arrays.copyOf(stored, stored.length + 1);
+            stored[stored.length - 1] = entry;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link JournaledRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class JournaledRingBufferTest {
+
+    private static final ElementCodec<String> STRING_CODEC = new ElementCodec<String>() {
+        @Override
+        public int encodedLength(final String entry) {
+            return entry.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public void encode(final String entry, final ByteBuffer dst) {
+            dst.put(entry.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(final ByteBuffer src) {
+            final byte[] bytes = new byte[src.remaining()];
+            src.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> JournaledRingBuffer.open(tempDir, String.class, 0, STRING_CODEC, 1, 1, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> JournaledRingBuffer.open(tempDir, String.class, 1, STRING_CODEC, 0, 1, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> JournaledRingBuffer.open(tempDir, String.class, 1, STRING_CODEC, 1, -1, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> JournaledRingBuffer.open(tempDir, String.class, 1, STRING_CODEC, 1, 1, TimeUnit.MILLISECONDS, 0));
+    }
+
+    @Test
+    public void groupCommitBySize() throws IOException {
+        final long[] now = { 0 };
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 10, STRING_CODEC, 3, Long.MAX_VALUE, JournaledRingBuffer.DEFAULT_SEGMENT_SIZE, () -> now[0])) {
+            ringBuffer.put("a");
+            ringBuffer.put("b");
+
+            // uncommitted entries are not readable
+            assertTrue(ringBuffer.isEmpty());
+            assertEquals(0, Files.size(segmentFiles().get(0)));
+
+            ringBuffer.put("c");
+            assertFalse(ringBuffer.isEmpty());
+            assertEquals(3 * (JournaledRingBuffer.RECORD_HEADER_LENGTH + 1), Files.size(segmentFiles().get(0)));
+            assertEquals("a", ringBuffer.get());
+            assertEquals("b", ringBuffer.get());
+            assertEquals("c", ringBuffer.get());
+            assertNull(ringBuffer.get());
+        }
+    }
+
+    @Test
+    public void groupCommitByInterval() throws IOException {
+        final long[] now = { 0 };
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 10, STRING_CODEC, 100, 1_000, JournaledRingBuffer.DEFAULT_SEGMENT_SIZE, () -> now[0])) {
+            ringBuffer.put("a");
+            now[0] = 999;
+            ringBuffer.put("b");
+            ringBuffer.commitIfDue();
+            assertTrue(ringBuffer.isEmpty());
+
+            // the interval is from the oldest uncommitted entry
+            now[0] = 1_000;
+            ringBuffer.put("c");
+            assertArrayEquals(new String[] { "a", "b", "c" }, ringBuffer.copy());
+
+            ringBuffer.put("d");
+            now[0] = 5_000;
+            assertEquals(3, ringBuffer.copy().length);
+            ringBuffer.commitIfDue();
+            assertArrayEquals(new String[] { "a", "b", "c", "d" }, ringBuffer.copy());
+
+            ringBuffer.put("e");
+            ringBuffer.commit();
+            assertEquals(5, ringBuffer.copy().length);
+        }
+    }
+
+    @Test
+    public void recoversLastCapacityEntries() throws IOException {
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 2, 1, TimeUnit.HOURS)) {
+            for (int i = 0; i < 5; i++) {
+                ringBuffer.put("entry-" + i);
+            }
+            ringBuffer.put(null);
+            assertEquals("entry-3", ringBuffer.get());
+            ringBuffer.put("entry-6");
+            // closing commits the last entry
+        }
+
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 2, 1, TimeUnit.HOURS)) {
+            // reads are not journaled
+            assertArrayEquals(new String[] { "entry-4", null, "entry-6" }, ringBuffer.copy());
+            assertEquals(7, ringBuffer.nextSequence);
+            assertEquals(0, ringBuffer.ringBuffer.overwrittenCount());
+
+            ringBuffer.put("entry-7");
+            ringBuffer.put("entry-8");
+            assertArrayEquals(new String[] { "entry-6", "entry-7", "entry-8" }, ringBuffer.copy());
+        }
+    }
+
+    @Test
+    public void discardsIncompleteRecord() throws IOException {
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS)) {
+            ringBuffer.put("a");
+            ringBuffer.put("b");
+        }
+
+        // simulate a crash whilst a record was being written
+        final Path segmentFile = segmentFiles().get(0);
+        final long validLength = Files.size(segmentFile);
+        try (final FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 5, 1, 2, 3, 4, 'c' }));
+        }
+
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS)) {
+            assertArrayEquals(new String[] { "a", "b" }, ringBuffer.copy());
+            assertEquals(validLength, Files.size(segmentFile));
+            ringBuffer.put("d");
+        }
+
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS)) {
+            assertArrayEquals(new String[] { "a", "b", "d" }, ringBuffer.copy());
+        }
+    }
+
+    @Test
+    public void discardsCorruptRecord() throws IOException {
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS)) {
+            ringBuffer.put("a");
+            ringBuffer.put("b");
+        }
+
+        final Path segmentFile = segmentFiles().get(0);
+        final byte[] journal = Files.readAllBytes(segmentFile);
+        journal[journal.length - 1]++;
+        Files.write(segmentFile, journal);
+
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS)) {
+            assertArrayEquals(new String[] { "a" }, ringBuffer.copy());
+        }
+    }
+
+    @Test
+    public void segmentFileName() {
+        final Locale defaultLocale = Locale.getDefault();
+        try {
+            // a locale whose digits are not ASCII
+            Locale.setDefault(Locale.forLanguageTag("ar-EG-u-nu-arab"));
+            assertEquals("00000000000000001234" + JournaledRingBuffer.SEGMENT_FILE_SUFFIX, JournaledRingBuffer.segmentFileName(1234));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void failedCommitIsRetried(final boolean failWrite) throws IOException {
+        final FailingFileChannel failingChannel;
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 5, STRING_CODEC, 3, 1, TimeUnit.HOURS)) {
+            ringBuffer.put("a");
+            ringBuffer.put("b");
+
+            failingChannel = new FailingFileChannel(ringBuffer.channel, failWrite);
+            ringBuffer.channel = failingChannel;
+            assertThrows(IOException.class, () -> ringBuffer.put("c"));
+
+            // nothing was committed, and any part of the records that was written was discarded
+            assertTrue(ringBuffer.isEmpty());
+            assertEquals(3, ringBuffer.pendingCount);
+            assertEquals(0, Files.size(segmentFiles().get(0)));
+
+            // the next put first retries the commit
+            failingChannel.failing = false;
+            ringBuffer.put("d");
+            assertArrayEquals(new String[] { "a", "b", "c" }, ringBuffer.copy());
+            assertEquals(1, ringBuffer.pendingCount);
+        }
+
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 5, STRING_CODEC, 3, 1, TimeUnit.HOURS)) {
+            assertArrayEquals(new String[] { "a", "b", "c", "d" }, ringBuffer.copy());
+        }
+    }
+
+    @Test
+    public void rollsAndDeletesSegments() throws IOException {
+        final long segmentSize = 2 * (JournaledRingBuffer.RECORD_HEADER_LENGTH + 1);
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS, segmentSize)) {
+            for (int i = 0; i < 10; i++) {
+                ringBuffer.put(Integer.toString(i));
+            }
+
+            // each segment holds 2 entries, only the segments needed to fill the Ring Buffer are kept
+            final List<Path> segmentFiles = segmentFiles();
+            assertEquals(3, segmentFiles.size());
+            assertEquals(String.format("%020d.journal", 6), segmentFiles.get(0).getFileName().toString());
+            assertEquals(String.format("%020d.journal", 10), segmentFiles.get(2).getFileName().toString());
+        }
+
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS, segmentSize)) {
+            assertArrayEquals(new String[] { "7", "8", "9" }, ringBuffer.copy());
+            ringBuffer.put("10");
+            assertArrayEquals(new String[] { "8", "9", "10" }, ringBuffer.copy());
+        }
+
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 3, STRING_CODEC, 1, 1, TimeUnit.HOURS, segmentSize)) {
+            assertArrayEquals(new String[] { "8", "9", "10" }, ringBuffer.copy());
+        }
+    }
+
+    @Test
+    public void missingSegment() throws IOException {
+        final long segmentSize = JournaledRingBuffer.RECORD_HEADER_LENGTH + 1;
+        try (final JournaledRingBuffer<String> ringBuffer = JournaledRingBuffer.open(tempDir, String.class, 5, STRING_CODEC, 1, 1, TimeUnit.HOURS, segmentSize)) {
+            for (int i = 0; i < 3; i++) {
+                ringBuffer.put(Integer.toString(i));
+            }
+        }
+        Files.delete(segmentFiles().get(1));
+        assertThrows(IOException.class, () -> JournaledRingBuffer.open(tempDir, String.class, 5, STRING_CODEC, 1, 1, TimeUnit.HOURS, segmentSize));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.toString().endsWith(JournaledRingBuffer.SEGMENT_FILE_SUFFIX)).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A FileChannel which fails whilst {@link #failing}, either part way through a write, or when forced.
+     */
+    private static class FailingFileChannel extends FileChannel {
+        private final FileChannel channel;
+        private final boolean failWrite;
+        boolean failing = true;
+
+        FailingFileChannel(final FileChannel channel, final boolean failWrite) {
+            this.channel = channel;
+            this.failWrite = failWrite;
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            if (failing && failWrite) {
+                // write only part of the buffer before failing
+                final ByteBuffer part = src.duplicate();
+                ((Buffer) part).limit(part.position() + part.remaining() / 2);
+                ((Buffer) src).position(src.position() + channel.write(part));
+                throw new IOException("Simulated write failure");
+            }
+            return channel.write(src);
+        }
+
+        @Override
+        public void force(final boolean metaData) throws IOException {
+            if (failing && !failWrite) {
+                throw new IOException("Simulated force failure");
+            }
+            channel.force(metaData);
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            return channel.read(dst);
+        }
+
+        @Override
+        public long read(final ByteBuffer[] dsts, final int offset, final int length) throws IOException {
+            return channel.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs, final int offset, final int length) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public FileChannel position(final long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public FileChannel truncate(final long size) throws IOException {
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            return channel.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(final ReadableByteChannel src, final long position, final long count) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(final ByteBuffer dst, final long position) throws IOException {
+            return channel.read(dst, position);
+        }
+
+        @Override
+        public int write(final ByteBuffer src, final long position) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MappedByteBuffer map(final MapMode mode, final long position, final long size) throws IOException {
+            return channel.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(final long position, final long size, final boolean shared) throws IOException {
+            return channel.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(final long position, final long size, final boolean shared) throws IOException {
+            return channel.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.evolvedbinary.j8cu.buffer.ring.MappedRecordRingBuffer.FILE_HEADER_LENGTH;
+import static com.evolvedbinary.j8cu.buffer.ring.MappedRecordRingBuffer.HEAD_POSITION_OFFSET;
+import static com.evolvedbinary.j8cu.buffer.ring.MappedRecordRingBuffer.TAIL_POSITION_OFFSET;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MappedRecordRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class MappedRecordRingBufferTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void create() throws IOException {
+        final int capacity = 1024;
+        final Path file = tempDir.resolve("ring");
+        try (final MappedRecordRingBuffer ringBuffer = MappedRecordRingBuffer.create(file, capacity)) {
+            assertEquals(FILE_HEADER_LENGTH + capacity, Files.size(file));
+            assertEquals(capacity, ringBuffer.capacity());
+            assertTrue(ringBuffer.isEmpty());
+            assertEquals(0, ringBuffer.mapped.getLong(HEAD_POSITION_OFFSET));
+            assertEquals(0, ringBuffer.mapped.getLong(TAIL_POSITION_OFFSET));
+        }
+    }
+
+    @Test
+    public void openInvalidFile() throws IOException {
+        final Path tooSmall = Files.write(tempDir.resolve("too-small"), new byte[8]);
+        assertThrows(IOException.class, () -> MappedRecordRingBuffer.open(tooSmall));
+
+        final Path notRingBuffer = Files.write(tempDir.resolve("not-ring"), new byte[FILE_HEADER_LENGTH + 64]);
+        assertThrows(IOException.class, () -> MappedRecordRingBuffer.open(notRingBuffer));
+    }
+
+    @Test
+    public void positionsAreSharedThroughTheFile() throws IOException {
+        final Path file = tempDir.resolve("ring");
+        try (final MappedRecordRingBuffer producer = MappedRecordRingBuffer.create(file, 256);
+                final MappedRecordRingBuffer consumer = MappedRecordRingBuffer.open(file)) {
+            assertEquals(256, consumer.capacity());
+
+            assertTrue(producer.write(1, bytes("hello")));
+            assertTrue(producer.write(2, bytes("world")));
+            assertFalse(consumer.isEmpty());
+            assertEquals(32, consumer.size());
+            assertEquals(32, producer.mapped.getLong(TAIL_POSITION_OFFSET));
+
+            final List<String> records = new ArrayList<>();
+            assertEquals(2, consumer.read(collect(records)));
+            assertArrayEquals(new String[] { "1:hello", "2:world" }, records.toArray());
+            assertTrue(producer.isEmpty());
+            assertEquals(32, producer.mapped.getLong(HEAD_POSITION_OFFSET));
+        }
+
+        // the positions persist in the file
+        try (final MappedRecordRingBuffer reopened = MappedRecordRingBuffer.open(file)) {
+            assertTrue(reopened.isEmpty());
+            assertEquals(32, reopened.tail());
+        }
+    }
+
+    @Test
+    public void producerConsumer() throws IOException, InterruptedException {
+        final int count = 200_000;
+        final Path file = tempDir.resolve("ring");
+        try (final MappedRecordRingBuffer producer = MappedRecordRingBuffer.create(file, 4096);
+                final MappedRecordRingBuffer consumer = MappedRecordRingBuffer.open(file)) {
+
+            final AtomicReference<String> failure = new AtomicReference<>();
+            final Thread producerThread = new Thread(() -> {
+                final ByteBuffer record = ByteBuffer.allocate(12).order(ByteOrder.nativeOrder());
+                for (int i = 0; i < count && failure.get() == null; i++) {
+                    record.clear();
+                    record.putInt(i).putLong(i * 31L).flip();
+                    while (!producer.write(i % 8, record) && failure.get() == null) {
+                        Thread.yield();
+                    }
+                }
+            });
+
+            final int[] expected = new int[1];
+            final Thread consumerThread = new Thread(() -> {
+                while (expected[0] < count && failure.get() == null) {
+                    final int read = consumer.read((typeId, record) -> {
+                        final int i = record.getInt();
+                        final long value = record.getLong();
+                        if (i != expected[0] || typeId != i % 8 || value != i * 31L) {
+                            failure.set("Expected: " + expected[0] + ", but was: " + i + " (typeId: " + typeId + ", value: " + value + ")");
+                        }
+                        expected[0]++;
+                    });
+                    if (read == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+
+            consumerThread.start();
+            producerThread.start();
+            producerThread.join();
+            consumerThread.join();
+
+            assertNull(failure.get());
+            assertEquals(count, expected[0]);
+            assertTrue(consumer.isEmpty());
+        }
+    }
+
+    private static ByteBuffer bytes(final String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RecordRingBuffer.RecordHandler collect(final List<String> records) {
+        return (typeId, record) -> {
+            final byte[] data = new byte[record.remaining()];
+            record.get(data);
+            records.add(typeId + ":" + new String(data, StandardCharsets.UTF_8));
+        };
+    }
+}
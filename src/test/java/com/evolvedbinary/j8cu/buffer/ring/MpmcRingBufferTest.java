@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MpmcRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class MpmcRingBufferTest {
+
+    @Test
+    public void construct() {
+        final int capacity = 5;
+        final MpmcRingBuffer<String> ringBuffer = new MpmcRingBuffer<>(capacity);
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.size());
+        assertEquals(capacity, ringBuffer.capacity());
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i, ringBuffer.sequences.get(i));
+        }
+
+        // check that `poll` and `drain` on an empty Ring Buffer do nothing
+        assertNull(ringBuffer.poll());
+        assertEquals(0, ringBuffer.drain(entry -> fail("Unexpected entry: " + entry)));
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.head.get());
+        assertEquals(0, ringBuffer.tail.get());
+    }
+
+    @Test
+    public void constructInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MpmcRingBuffer<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MpmcRingBuffer<String>(1));
+    }
+
+    @Test
+    public void offerWhenFullAtMinimumCapacity() {
+        final MpmcRingBuffer<String> ringBuffer = new MpmcRingBuffer<>(2);
+
+        // check that `offer` on a full Ring Buffer does not overwrite, including after wrapping around
+        for (int lap = 0; lap < 3; lap++) {
+            assertTrue(ringBuffer.offer("a" + lap));
+            assertTrue(ringBuffer.offer("b" + lap));
+            assertFalse(ringBuffer.offer("c" + lap));
+            assertEquals(2, ringBuffer.size());
+
+            assertEquals("a" + lap, ringBuffer.poll());
+            assertEquals("b" + lap, ringBuffer.poll());
+            assertNull(ringBuffer.poll());
+        }
+    }
+
+    @Test
+    public void offerNull() {
+        final MpmcRingBuffer<String> ringBuffer = new MpmcRingBuffer<>(5);
+        assertThrows(NullPointerException.class, () -> ringBuffer.offer(null));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void fillAndPollAll() {
+        final int capacity = 3;
+        final MpmcRingBuffer<String> ringBuffer = new MpmcRingBuffer<>(capacity);
+
+        assertTrue(ringBuffer.offer("a"));
+        assertTrue(ringBuffer.offer("b"));
+        assertTrue(ringBuffer.offer("c"));
+        assertEquals(capacity, ringBuffer.size());
+
+        // check that `offer` on a full Ring Buffer does not overwrite
+        assertFalse(ringBuffer.offer("d"));
+        assertEquals(capacity, ringBuffer.size());
+
+        assertEquals("a", ringBuffer.poll());
+        assertTrue(ringBuffer.offer("d"));
+
+        // check the sequences of the slots, slot 0 has been published for the second lap
+        assertEquals(4, ringBuffer.sequences.get(0));
+        assertEquals(2, ringBuffer.sequences.get(1));
+        assertEquals(3, ringBuffer.sequences.get(2));
+
+        assertEquals("b", ringBuffer.poll());
+        assertEquals("c", ringBuffer.poll());
+        assertEquals("d", ringBuffer.poll());
+        assertNull(ringBuffer.poll());
+        assertTrue(ringBuffer.isEmpty());
+
+        // check that read entries are released
+        assertArrayEquals(new Object[capacity], ringBuffer.entries);
+    }
+
+    @Test
+    public void drainWithLimit() {
+        final int capacity = 4;
+        final MpmcRingBuffer<String> ringBuffer = new MpmcRingBuffer<>(capacity);
+
+        ringBuffer.offer("a");
+        ringBuffer.offer("b");
+        ringBuffer.offer("c");
+
+        final List<String> drained = new ArrayList<>();
+        assertEquals(2, ringBuffer.drain(drained::add, 2));
+        assertEquals(1, ringBuffer.size());
+
+        ringBuffer.offer("d");
+        ringBuffer.offer("e");
+        ringBuffer.offer("f");
+        assertFalse(ringBuffer.offer("g"));
+
+        assertEquals(4, ringBuffer.drain(drained::add));
+        assertArrayEquals(new String[] { "a", "b", "c", "d", "e", "f" }, drained.toArray());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void peek() {
+        final MpmcRingBuffer<String> ringBuffer = new MpmcRingBuffer<>(2);
+        assertNull(ringBuffer.peek());
+
+        ringBuffer.offer("a");
+        ringBuffer.offer("b");
+        assertEquals("a", ringBuffer.peek());
+        assertEquals("a", ringBuffer.peek());
+        assertEquals(2, ringBuffer.size());
+
+        assertEquals("a", ringBuffer.poll());
+        assertEquals("b", ringBuffer.peek());
+
+        // across the wrap point
+        ringBuffer.offer("c");
+        assertEquals("b", ringBuffer.poll());
+        assertEquals("c", ringBuffer.peek());
+        assertEquals("c", ringBuffer.poll());
+        assertNull(ringBuffer.peek());
+    }
+
+    @Test
+    public void forEachAvailable() {
+        final MpmcRingBuffer<String> ringBuffer = new MpmcRingBuffer<>(3);
+        ringBuffer.offer("a");
+        ringBuffer.offer("b");
+        ringBuffer.poll();
+        ringBuffer.offer("c");
+        ringBuffer.offer("d");
+
+        final List<String> visited = new ArrayList<>();
+        ringBuffer.forEachAvailable(visited::add);
+        assertEquals(3, visited.size());
+        assertEquals("b", visited.get(0));
+        assertEquals("c", visited.get(1));
+        assertEquals("d", visited.get(2));
+
+        // nothing was consumed
+        assertEquals(3, ringBuffer.size());
+    }
+
+    @Test
+    public void multipleProducersMultipleConsumers() throws InterruptedException {
+        final int capacity = 64;
+        final int producers = 4;
+        final int consumers = 4;
+        final int countPerProducer = 100_000;
+        final int total = producers * countPerProducer;
+        final MpmcRingBuffer<Integer> ringBuffer = new MpmcRingBuffer<>(capacity);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            final int base = p * countPerProducer;
+            threads[p] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < countPerProducer; i++) {
+                    while (!ringBuffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+
+        // each entry must be received exactly once
+        final AtomicLongArray receivedCounts = new AtomicLongArray(total);
+        final AtomicInteger received = new AtomicInteger();
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                awaitQuietly(start);
+                while (received.get() < total) {
+                    final int drained = ringBuffer.drain(entry -> receivedCounts.incrementAndGet(entry));
+                    if (drained == 0) {
+                        Thread.yield();
+                    } else {
+                        received.addAndGet(drained);
+                    }
+                }
+            });
+        }
+
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(total, received.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, receivedCounts.get(i), "Entry: " + i);
+        }
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
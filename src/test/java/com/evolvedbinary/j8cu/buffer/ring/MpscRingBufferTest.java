@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MpscRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class MpscRingBufferTest {
+
+    @Test
+    public void construct() {
+        final int capacity = 8;
+        final MpscRingBuffer<String> ringBuffer = new MpscRingBuffer<>(capacity);
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.size());
+        assertEquals(capacity, ringBuffer.capacity());
+
+        // check that `poll` and `drain` on an empty Ring Buffer do nothing
+        assertNull(ringBuffer.poll());
+        assertEquals(0, ringBuffer.drain(entry -> fail("Unexpected entry: " + entry)));
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.head.get());
+        assertEquals(0, ringBuffer.tail.get());
+    }
+
+    @Test
+    public void constructInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<String>(-4));
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<String>(5));
+    }
+
+    @Test
+    public void offerNull() {
+        final MpscRingBuffer<String> ringBuffer = new MpscRingBuffer<>(4);
+        assertThrows(NullPointerException.class, () -> ringBuffer.offer(null));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void fillAndPollAll() {
+        final int capacity = 4;
+        final MpscRingBuffer<String> ringBuffer = new MpscRingBuffer<>(capacity);
+
+        assertTrue(ringBuffer.offer("a"));
+        assertTrue(ringBuffer.offer("b"));
+        assertTrue(ringBuffer.offer("c"));
+        assertTrue(ringBuffer.offer("d"));
+        assertEquals(capacity, ringBuffer.size());
+
+        // check that `offer` on a full Ring Buffer does not overwrite
+        assertFalse(ringBuffer.offer("e"));
+        assertEquals(capacity, ringBuffer.size());
+
+        assertEquals("a", ringBuffer.poll());
+        assertTrue(ringBuffer.offer("e"));
+        assertEquals("b", ringBuffer.poll());
+        assertEquals("c", ringBuffer.poll());
+        assertEquals("d", ringBuffer.poll());
+        assertEquals("e", ringBuffer.poll());
+        assertNull(ringBuffer.poll());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void drainWithLimit() {
+        final int capacity = 4;
+        final MpscRingBuffer<String> ringBuffer = new MpscRingBuffer<>(capacity);
+
+        ringBuffer.offer("a");
+        ringBuffer.offer("b");
+        ringBuffer.offer("c");
+
+        final List<String> drained = new ArrayList<>();
+        assertEquals(2, ringBuffer.drain(drained::add, 2));
+        assertEquals(1, ringBuffer.size());
+
+        ringBuffer.offer("d");
+        ringBuffer.offer("e");
+        ringBuffer.offer("f");
+        assertFalse(ringBuffer.offer("g"));
+
+        assertEquals(4, ringBuffer.drain(drained::add));
+        assertArrayEquals(new String[] { "a", "b", "c", "d", "e", "f" }, drained.toArray());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void drainStopsAtUnpublishedSlot() {
+        final MpscRingBuffer<String> ringBuffer = new MpscRingBuffer<>(4);
+        ringBuffer.offer("a");
+
+        // simulate a producer which has claimed a slot but not yet published its entry
+        ringBuffer.tail.set(ringBuffer.tail.get() + 1);
+
+        final List<String> drained = new ArrayList<>();
+        assertEquals(1, ringBuffer.drain(drained::add));
+        assertArrayEquals(new String[] { "a" }, drained.toArray());
+        assertFalse(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void multipleProducers() throws InterruptedException {
+        final int capacity = 128;
+        final int producers = 4;
+        final int countPerProducer = 250_000;
+        final MpscRingBuffer<long[]> ringBuffer = new MpscRingBuffer<>(capacity);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] producerThreads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            producerThreads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < countPerProducer; i++) {
+                    final long[] entry = { producer, i };
+                    while (!ringBuffer.offer(entry)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producerThreads[p].start();
+        }
+
+        start.countDown();
+
+        // entries from each producer must be received in the order that producer offered them
+        final int[] expectedNext = new int[producers];
+        final String[] failure = new String[1];
+        int received = 0;
+        while (received < producers * countPerProducer) {
+            final int drained = ringBuffer.drain(entry -> {
+                final int producer = (int) entry[0];
+                if (entry[1] != expectedNext[producer]) {
+                    failure[0] = "Producer: " + producer + ", expected: " + expectedNext[producer] + ", but was: " + entry[1];
+                }
+                expectedNext[producer]++;
+            });
+            if (drained == 0) {
+                Thread.yield();
+            }
+            received += drained;
+        }
+
+        for (final Thread producerThread : producerThreads) {
+            producerThread.join();
+        }
+
+        assertNull(failure[0]);
+        for (int p = 0; p < producers; p++) {
+            assertEquals(countPerProducer, expectedNext[p]);
+        }
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.evolvedbinary.j8cu.buffer.ring.RecordRingBuffer.HEADER_LENGTH;
+import static com.evolvedbinary.j8cu.buffer.ring.RecordRingBuffer.PADDING_TYPE_ID;
+import static com.evolvedbinary.j8cu.buffer.ring.RecordRingBuffer.TYPE_ID_OFFSET;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RecordRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class RecordRingBufferTest {
+
+    @Test
+    public void construct() {
+        final int capacity = 64;
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(capacity);
+
+        assertTrue(ringBuffer.buffer.isDirect());
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.size());
+        assertEquals(capacity, ringBuffer.capacity());
+        assertEquals(24, ringBuffer.maxRecordLength());
+
+        // check that `read` on an empty Ring Buffer does nothing
+        assertEquals(0, ringBuffer.read((typeId, record) -> fail("Unexpected record")));
+    }
+
+    @Test
+    public void constructInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RecordRingBuffer(0));
+        assertThrows(IllegalArgumentException.class, () -> new RecordRingBuffer(16));
+        assertThrows(IllegalArgumentException.class, () -> new RecordRingBuffer(65));
+    }
+
+    @Test
+    public void writeRead() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(128);
+
+        assertTrue(ringBuffer.write(1, bytes("hello")));
+        assertTrue(ringBuffer.write(2, bytes("")));
+        final byte[] world = "world!".getBytes(StandardCharsets.UTF_8);
+        assertTrue(ringBuffer.write(3, world, 0, world.length));
+
+        // each record is aligned
+        assertEquals(16 + 8 + 16, ringBuffer.size());
+
+        final List<String> records = new ArrayList<>();
+        assertEquals(2, ringBuffer.read(collect(records), 2));
+        assertEquals(1, ringBuffer.read(collect(records)));
+        assertEquals(0, ringBuffer.read(collect(records)));
+        assertArrayEquals(new String[] { "1:hello", "2:", "3:world!" }, records.toArray());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void writeAdvancesSourcePosition() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(64);
+        final ByteBuffer src = bytes("abcdef");
+        src.position(2);
+        assertTrue(ringBuffer.write(1, src));
+        assertEquals(0, src.remaining());
+
+        final List<String> records = new ArrayList<>();
+        ringBuffer.read(collect(records));
+        assertArrayEquals(new String[] { "1:cdef" }, records.toArray());
+    }
+
+    @Test
+    public void invalidRecords() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(64);
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.write(-1, bytes("a")));
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.write(1, new byte[25], 0, 25));
+        assertTrue(ringBuffer.write(1, new byte[24], 0, 24));
+        assertFalse(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void full() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(64);
+
+        // 4 records of 16 bytes each fill the buffer
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.write(i, bytes("abcd")));
+        }
+        assertEquals(64, ringBuffer.size());
+        assertFalse(ringBuffer.write(4, bytes("")));
+
+        final List<String> records = new ArrayList<>();
+        assertEquals(1, ringBuffer.read(collect(records), 1));
+        assertTrue(ringBuffer.write(4, bytes("efgh")));
+        assertFalse(ringBuffer.write(5, bytes("")));
+
+        assertEquals(4, ringBuffer.read(collect(records)));
+        assertArrayEquals(new String[] { "0:abcd", "1:abcd", "2:abcd", "3:abcd", "4:efgh" }, records.toArray());
+    }
+
+    @Test
+    public void padsAtWrapPoint() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(64);
+        final List<String> records = new ArrayList<>();
+
+        // occupy [0, 48)
+        assertTrue(ringBuffer.write(1, bytes("0123456789abcdef")));
+        assertTrue(ringBuffer.write(2, bytes("abcdefghij")));
+        assertEquals(2, ringBuffer.read(collect(records)));
+
+        // a 24 byte record will not fit in the 16 bytes before the wrap point
+        assertTrue(ringBuffer.write(3, bytes("0123456789abcdef")));
+        assertEquals(PADDING_TYPE_ID, ringBuffer.buffer.getInt(48 + TYPE_ID_OFFSET));
+        assertEquals(16 - HEADER_LENGTH, ringBuffer.buffer.getInt(48));
+        assertEquals(16 + 24, ringBuffer.size());
+
+        // the padding is skipped when reading
+        assertEquals(1, ringBuffer.read(collect(records)));
+        assertArrayEquals(new String[] { "1:0123456789abcdef", "2:abcdefghij", "3:0123456789abcdef" }, records.toArray());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void insufficientSpaceForPadding() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(64);
+        final List<String> records = new ArrayList<>();
+
+        // occupy [0, 48)
+        assertTrue(ringBuffer.write(1, bytes("abcd")));
+        assertTrue(ringBuffer.write(2, bytes("abcd")));
+        assertTrue(ringBuffer.write(3, bytes("abcd")));
+        assertEquals(1, ringBuffer.read(collect(records), 1));
+
+        // 32 bytes are free, but a 24 byte record would also need 16 bytes of padding
+        assertFalse(ringBuffer.write(4, bytes("0123456789abcdef")));
+        assertEquals(32, ringBuffer.size());
+
+        // whereas a 16 byte record fits before the wrap point
+        assertTrue(ringBuffer.write(4, bytes("abcd")));
+        assertEquals(48, ringBuffer.size());
+    }
+
+    @Test
+    public void recordViewIsZeroCopy() {
+        final ByteBuffer backing = ByteBuffer.allocate(64);
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(backing);
+        assertTrue(ringBuffer.write(7, bytes("abc")));
+
+        ringBuffer.read((typeId, record) -> {
+            assertTrue(record.isReadOnly());
+            assertEquals(HEADER_LENGTH, record.position());
+            assertEquals(3, record.remaining());
+            assertEquals('a', backing.get(record.position()));
+        });
+    }
+
+    @Test
+    public void recordIsReadWhenHandlerThrows() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(64);
+        ringBuffer.write(1, bytes("a"));
+        ringBuffer.write(2, bytes("b"));
+
+        assertThrows(IllegalStateException.class, () -> ringBuffer.read((typeId, record) -> {
+            throw new IllegalStateException();
+        }));
+
+        final List<String> records = new ArrayList<>();
+        assertEquals(1, ringBuffer.read(collect(records)));
+        assertArrayEquals(new String[] { "2:b" }, records.toArray());
+    }
+
+    @Test
+    public void manyLaps() {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(256);
+        final List<String> records = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            final String data = Integer.toString(i * 31);
+            if (!ringBuffer.write(i, bytes(data))) {
+                ringBuffer.read(collect(records));
+                assertTrue(ringBuffer.write(i, bytes(data)));
+            }
+            expected.add(i + ":" + data);
+        }
+        ringBuffer.read(collect(records));
+        assertEquals(expected, records);
+    }
+
+    private static ByteBuffer bytes(final String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RecordRingBuffer.RecordHandler collect(final List<String> records) {
+        return (typeId, record) -> {
+            final byte[] data = new byte[record.remaining()];
+            record.get(data);
+            records.add(typeId + ":" + new String(data, StandardCharsets.UTF_8));
+        };
+    }
+}
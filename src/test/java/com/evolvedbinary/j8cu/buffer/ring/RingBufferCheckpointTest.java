@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RingBufferCheckpoint}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class RingBufferCheckpointTest {
+
+    private static final ElementCodec<String> STRING_CODEC = new ElementCodec<String>() {
+        @Override
+        public int encodedLength(final String entry) {
+            return entry.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public void encode(final String entry, final ByteBuffer dst) {
+            dst.put(entry.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(final ByteBuffer src) {
+            final byte[] bytes = new byte[src.remaining()];
+            src.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final ElementCodec<Integer> INTEGER_CODEC = new ElementCodec<Integer>() {
+        @Override
+        public int encodedLength(final Integer entry) {
+            return 4;
+        }
+
+        @Override
+        public void encode(final Integer entry, final ByteBuffer dst) {
+            dst.putInt(entry);
+        }
+
+        @Override
+        public Integer decode(final ByteBuffer src) {
+            return src.getInt();
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void emptyRingBuffer() throws IOException {
+        final Path file = tempDir.resolve("checkpoint");
+        RingBufferCheckpoint.write(new RingBuffer<>(String.class, 5, true), STRING_CODEC, file);
+        assertEquals(RingBufferCheckpoint.HEADER_LENGTH + 8, Files.size(file));
+
+        final RingBuffer<String> restored = RingBufferCheckpoint.read(String.class, STRING_CODEC, file);
+        assertEquals(5, restored.capacity());
+        assertTrue(restored.orderedReads);
+        assertTrue(restored.isEmpty());
+        assertNull(restored.get());
+    }
+
+    @Test
+    public void restoresOrderedReads() throws IOException {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, true);
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        ringBuffer.put(null);
+        ringBuffer.put("d");
+        ringBuffer.put("e");
+
+        final Path file = tempDir.resolve("checkpoint");
+        RingBufferCheckpoint.write(ringBuffer, STRING_CODEC, file);
+        final RingBuffer<String> restored = RingBufferCheckpoint.read(String.class, STRING_CODEC, file);
+        assertEquals(2, restored.overwrittenCount());
+
+        // both continue identically
+        ringBuffer.put("f");
+        restored.put("f");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(ringBuffer.get(), restored.get());
+        }
+        assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    public void largeEntries() throws IOException {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, false);
+        final char[] chars = new char[100_000];
+        for (int i = 0; i < 4; i++) {
+            Arrays.fill(chars, (char) ('a' + i));
+            ringBuffer.put(new String(chars));
+        }
+
+        final Path file = tempDir.resolve("checkpoint");
+        RingBufferCheckpoint.write(ringBuffer, STRING_CODEC, file);
+        final RingBuffer<String> restored = RingBufferCheckpoint.read(String.class, STRING_CODEC, file);
+        assertArrayEquals(ringBuffer.copy(), restored.copy());
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.evolvedbinary.j8cu.buffer.ring.RingBufferTest#randomPutGetPutGet")
+    public void restoresExactState(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) throws IOException {
+        for (final boolean orderedReads : new boolean[] { false, true }) {
+            final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, capacity, orderedReads);
+            int next = 0;
+            for (int i = 0; i < putCount1; i++) {
+                ringBuffer.put(next++);
+            }
+            for (int i = 0; i < getCount1; i++) {
+                ringBuffer.get();
+            }
+            for (int i = 0; i < putCount2; i++) {
+                ringBuffer.put(next++);
+            }
+
+            final Path file = tempDir.resolve("checkpoint-" + orderedReads);
+            RingBufferCheckpoint.write(ringBuffer, INTEGER_CODEC, file);
+            final RingBuffer<Integer> restored = RingBufferCheckpoint.read(Integer.class, INTEGER_CODEC, file);
+
+            assertEquals(ringBuffer.orderedReads, restored.orderedReads);
+            assertEquals(ringBuffer.capacity, restored.capacity);
+            assertEquals(ringBuffer.readIdx, restored.readIdx);
+            assertEquals(ringBuffer.writeIdx, restored.writeIdx);
+            assertEquals(ringBuffer.available, restored.available);
+            assertEquals(ringBuffer.putCount, restored.putCount);
+            assertEquals(ringBuffer.overwrittenCount, restored.overwrittenCount);
+            assertArrayEquals(ringBuffer.copy(), restored.copy());
+            if (orderedReads) {
+                assertEquals(RingBufferCheckpoint.HEADER_LENGTH + ringBuffer.available * 8L + 8, Files.size(file));
+            } else {
+                assertArrayEquals(ringBuffer.entries, restored.entries);
+            }
+
+            for (int i = 0; i < getCount2; i++) {
+                ringBuffer.put(next);
+                restored.put(next++);
+                assertEquals(ringBuffer.get(), restored.get());
+            }
+        }
+    }
+
+    @Test
+    public void channelPosition() throws IOException {
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, 2, false);
+        ringBuffer.put(1);
+        ringBuffer.put(2);
+
+        // an image may follow other data in the channel
+        final Path file = tempDir.resolve("checkpoint");
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+            RingBufferCheckpoint.write(ringBuffer, INTEGER_CODEC, channel);
+        }
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(3);
+            assertArrayEquals(new Integer[] { 1, 2 }, RingBufferCheckpoint.read(Integer.class, INTEGER_CODEC, channel).copy());
+            assertEquals(channel.size(), channel.position());
+        }
+    }
+
+    @Test
+    public void invalidImages() throws IOException {
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, 2, false);
+        ringBuffer.put(1);
+        ringBuffer.put(2);
+        final Path file = tempDir.resolve("checkpoint");
+        RingBufferCheckpoint.write(ringBuffer, INTEGER_CODEC, file);
+        final byte[] image = Files.readAllBytes(file);
+
+        final Path notCheckpoint = Files.write(tempDir.resolve("not-checkpoint"), new byte[image.length]);
+        assertThrows(IOException.class, () -> RingBufferCheckpoint.read(Integer.class, INTEGER_CODEC, notCheckpoint));
+
+        final Path truncated = Files.write(tempDir.resolve("truncated"), Arrays.copyOf(image, image.length - 1));
+        assertThrows(EOFException.class, () -> RingBufferCheckpoint.read(Integer.class, INTEGER_CODEC, truncated));
+
+        final byte[] corruptImage = image.clone();
+        corruptImage[RingBufferCheckpoint.HEADER_LENGTH + 5]++;
+        final Path corrupt = Files.write(tempDir.resolve("corrupt"), corruptImage);
+        final IOException e = assertThrows(IOException.class, () -> RingBufferCheckpoint.read(Integer.class, INTEGER_CODEC, corrupt));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    public void codecMustEncodeItsLength() {
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, 1, false);
+        ringBuffer.put(1);
+        final ElementCodec<Integer> wrongLength = new ElementCodec<Integer>() {
+            @Override
+            public int encodedLength(final Integer entry) {
+                return 2;
+            }
+
+            @Override
+            public void encode(final Integer entry, final ByteBuffer dst) {
+                dst.putInt(entry);
+            }
+
+            @Override
+            public Integer decode(final ByteBuffer src) {
+                return src.getInt();
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> RingBufferCheckpoint.write(ringBuffer, wrongLength, tempDir.resolve("checkpoint")));
+        assertFalse(Files.exists(tempDir.resolve("checkpoint.tmp")));
+    }
+
+    @Test
+    public void failedWriteRemovesTempFile() throws IOException {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 2, true);
+        ringBuffer.put("a");
+        final Path file = tempDir.resolve("checkpoint");
+        RingBufferCheckpoint.write(ringBuffer, STRING_CODEC, file);
+
+        // encoding fails, the existing file is unchanged
+        ringBuffer.put("b");
+        final ElementCodec<String> failing = new ElementCodec<String>() {
+            @Override
+            public int encodedLength(final String entry) {
+                return STRING_CODEC.encodedLength(entry);
+            }
+
+            @Override
+            public void encode(final String entry, final ByteBuffer dst) {
+                if ("b".equals(entry)) {
+                    throw new IllegalArgumentException("Unable to encode: " + entry);
+                }
+                STRING_CODEC.encode(entry, dst);
+            }
+
+            @Override
+            public String decode(final ByteBuffer src) {
+                return STRING_CODEC.decode(src);
+            }
+        };
+        assertThrows(IllegalArgumentException.class, () -> RingBufferCheckpoint.write(ringBuffer, failing, file));
+        assertFalse(Files.exists(tempDir.resolve("checkpoint.tmp")));
+        assertArrayEquals(new String[] { "a" }, RingBufferCheckpoint.read(String.class, STRING_CODEC, file).copy());
+
+        // the move fails, as a non-empty directory cannot be replaced
+        final Path directory = Files.createDirectory(tempDir.resolve("directory"));
+        Files.createFile(directory.resolve("child"));
+        assertThrows(IOException.class, () -> RingBufferCheckpoint.write(ringBuffer, STRING_CODEC, directory));
+        assertFalse(Files.exists(tempDir.resolve("directory.tmp")));
+        assertTrue(Files.isDirectory(directory));
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Tests for {@link RingBufferDeque}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class RingBufferDequeTest {
+
+    @Test
+    public void empty() {
+        final Deque<String> deque = new RingBuffer<>(String.class, 3, true).asDeque();
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+        assertNull(deque.peekFirst());
+        assertNull(deque.peekLast());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertThrows(NoSuchElementException.class, deque::getFirst);
+        assertThrows(NoSuchElementException.class, deque::getLast);
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(NoSuchElementException.class, deque::removeLast);
+        assertFalse(deque.iterator().hasNext());
+        assertFalse(deque.descendingIterator().hasNext());
+    }
+
+    @Test
+    public void nullPutIntoRingBuffer() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        final Deque<String> deque = ringBuffer.asDeque();
+        ringBuffer.put(null);
+        ringBuffer.put("a");
+        ringBuffer.put(null);
+
+        // the Deque is not empty, so the entries are returned rather than NoSuchElementException being thrown
+        assertEquals(3, deque.size());
+        assertNull(deque.getFirst());
+        assertNull(deque.getLast());
+        assertNull(deque.element());
+        assertNull(deque.removeFirst());
+        assertNull(deque.removeLast());
+        assertEquals("a", deque.pop());
+        assertTrue(deque.isEmpty());
+
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(NoSuchElementException.class, deque::removeLast);
+        assertThrows(NoSuchElementException.class, deque::getFirst);
+        assertThrows(NoSuchElementException.class, deque::getLast);
+    }
+
+    @Test
+    public void capacityRestricted() {
+        final Deque<String> deque = new RingBuffer<>(String.class, 2, false).asDeque();
+        assertTrue(deque.offerLast("b"));
+        assertTrue(deque.offerFirst("a"));
+        assertFalse(deque.offerFirst("x"));
+        assertFalse(deque.offerLast("x"));
+        assertThrows(IllegalStateException.class, () -> deque.addFirst("x"));
+        assertThrows(IllegalStateException.class, () -> deque.add("x"));
+        assertEquals(asList("a", "b"), new ArrayList<>(deque));
+
+        assertThrows(NullPointerException.class, () -> deque.offerFirst(null));
+    }
+
+    @Test
+    public void viewOfRingBuffer() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        final Deque<String> deque = ringBuffer.asDeque();
+
+        ringBuffer.put("b");
+        ringBuffer.put("c");
+        deque.addFirst("a");
+        deque.addLast("d");
+        assertEquals(asList("a", "b", "c", "d"), new ArrayList<>(deque));
+        assertArrayEquals(new String[] { "a", "b", "c", "d" }, ringBuffer.copy());
+
+        // when full, put overwrites the oldest entry, i.e. the head
+        ringBuffer.put("e");
+        assertEquals(asList("b", "c", "d", "e"), new ArrayList<>(deque));
+
+        assertEquals("e", deque.pollLast());
+        assertEquals("b", ringBuffer.get());
+        assertEquals(asList("c", "d"), new ArrayList<>(deque));
+
+        deque.clear();
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void iteratorRemove() {
+        final Deque<Integer> deque = new RingBuffer<>(Integer.class, 8, true).asDeque();
+        for (int i = 0; i < 8; i++) {
+            deque.addLast(i);
+        }
+
+        final Iterator<Integer> iterator = deque.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(asList(1, 3, 5, 7), new ArrayList<>(deque));
+
+        final Iterator<Integer> descendingIterator = deque.descendingIterator();
+        assertEquals(Integer.valueOf(7), descendingIterator.next());
+        descendingIterator.remove();
+        assertEquals(Integer.valueOf(5), descendingIterator.next());
+        assertEquals(Integer.valueOf(3), descendingIterator.next());
+        descendingIterator.remove();
+        assertEquals(Integer.valueOf(1), descendingIterator.next());
+        assertFalse(descendingIterator.hasNext());
+        assertEquals(asList(1, 5), new ArrayList<>(deque));
+
+        assertTrue(deque.removeLastOccurrence(5));
+        assertFalse(deque.removeFirstOccurrence(5));
+        assertEquals(asList(1), new ArrayList<>(deque));
+    }
+
+    @Test
+    public void listenerEvents() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, false);
+        final List<String> stored = new ArrayList<>();
+        final List<String> retrieved = new ArrayList<>();
+        ringBuffer.addListener(new RingBuffer.Listener<String>() {
+            @Override
+            public void retrieved(final @Nullable String entry) {
+                retrieved.add(entry);
+            }
+
+            @Override
+            public void stored(final String entry) {
+                stored.add(entry);
+            }
+        });
+
+        final Deque<String> deque = ringBuffer.asDeque();
+        deque.addLast("b");
+        deque.addFirst("a");
+        deque.addLast("c");
+        deque.pollLast();
+        deque.remove("a");
+        deque.pollFirst();
+        assertEquals(asList("b", "a", "c"), stored);
+        assertEquals(asList("c", "a", "b"), retrieved);
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomOperations")
+    public void behavesAsArrayDeque(final int capacity, final boolean orderedReads, final long seed) {
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, capacity, orderedReads);
+        final Deque<Integer> deque = ringBuffer.asDeque();
+        final ArrayDeque<Integer> expected = new ArrayDeque<>();
+
+        final Random random = new Random(seed);
+        for (int i = 0; i < 300; i++) {
+            switch (random.nextInt(9)) {
+                case 0:
+                    assertEquals(expected.size() < capacity && expected.offerFirst(i), deque.offerFirst(i));
+                    break;
+                case 1:
+                    assertEquals(expected.size() < capacity && expected.offerLast(i), deque.offerLast(i));
+                    break;
+                case 2:
+                    assertEquals(expected.pollFirst(), deque.pollFirst());
+                    break;
+                case 3:
+                    assertEquals(expected.pollLast(), deque.pollLast());
+                    break;
+                case 4:
+                    final Integer o = i - random.nextInt(20);
+                    assertEquals(expected.removeFirstOccurrence(o), deque.removeFirstOccurrence(o));
+                    break;
+                case 5:
+                    // get from the Ring Buffer directly
+                    assertEquals(expected.pollFirst(), ringBuffer.get());
+                    break;
+                case 6:
+                    // put into the Ring Buffer directly, which when ordered overwrites the head when full
+                    if (orderedReads || expected.size() < capacity) {
+                        if (expected.size() == capacity) {
+                            expected.pollFirst();
+                        }
+                        expected.offerLast(i);
+                        ringBuffer.put(i);
+                    }
+                    break;
+                case 7:
+                    assertEquals(expected.peekFirst(), deque.peekFirst());
+                    assertEquals(expected.peekLast(), deque.peekLast());
+                    break;
+                default:
+                    final Iterator<Integer> expectedIterator = expected.descendingIterator();
+                    final Iterator<Integer> iterator = deque.descendingIterator();
+                    while (expectedIterator.hasNext()) {
+                        assertEquals(expectedIterator.next(), iterator.next());
+                        if (random.nextInt(4) == 0) {
+                            expectedIterator.remove();
+                            iterator.remove();
+                        }
+                    }
+                    assertFalse(iterator.hasNext());
+                    break;
+            }
+
+            assertEquals(expected.size(), deque.size());
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(deque));
+            final Integer[] copy = ringBuffer.copy();
+            assertEquals(new ArrayList<>(expected), copy == null ? new ArrayList<>() : asList(copy));
+        }
+    }
+
+    static Stream<Arguments> randomOperations() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (int capacity = 1; capacity <= 7; capacity++) {
+            for (int i = 0; i < 5; i++) {
+                final long seed = ThreadLocalRandom.current().nextLong();
+                builder.add(arguments(capacity, false, seed));
+                builder.add(arguments(capacity, true, seed));
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RingBufferOverwriteBurstEvent}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class RingBufferOverwriteBurstEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void notTrackedWhenDisabled() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 1);
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        if (!FlightRecorderEvents.ENABLED) {
+            assertNull(ringBuffer.overwriteBurst);
+        }
+    }
+
+    @Test
+    public void overwriteBurst() throws IOException {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4);
+
+        final List<RecordedEvent> events;
+        try (final Recording recording = new Recording()) {
+            recording.enable(RingBufferOverwriteBurstEvent.NAME);
+            recording.start();
+
+            // a burst below the threshold is not recorded
+            RingBufferOverwriteBurstEvent.overwritten(ringBuffer, 1);
+            assertNotNull(ringBuffer.overwriteBurst);
+            RingBufferOverwriteBurstEvent.end(ringBuffer);
+            assertNull(ringBuffer.overwriteBurst);
+
+            RingBufferOverwriteBurstEvent.overwritten(ringBuffer, FlightRecorderEvents.OVERWRITE_BURST_THRESHOLD - 1);
+            RingBufferOverwriteBurstEvent.overwritten(ringBuffer, 2);
+            RingBufferOverwriteBurstEvent.end(ringBuffer);
+
+            recording.stop();
+            final Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(1, events.size());
+        final RecordedEvent event = events.get(0);
+        assertEquals(RingBufferOverwriteBurstEvent.NAME, event.getEventType().getName());
+        assertEquals(String.class.getName(), event.getString("entryType"));
+        assertEquals(4, event.getInt("capacity"));
+        assertEquals(FlightRecorderEvents.OVERWRITE_BURST_THRESHOLD + 1, event.getLong("overwritten"));
+        assertNull(event.getStackTrace());
+    }
+
+    @Test
+    public void overwriteBurstWhenOnlyWritten() throws IOException {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4);
+
+        final List<RecordedEvent> events;
+        try (final Recording recording = new Recording()) {
+            recording.enable(RingBufferOverwriteBurstEvent.NAME);
+            recording.start();
+
+            // nothing is ever retrieved, so the bursts are ended by the limit
+            for (long i = 0; i < 2 * FlightRecorderEvents.OVERWRITE_BURST_LIMIT + 10; i++) {
+                RingBufferOverwriteBurstEvent.overwritten(ringBuffer, 1);
+            }
+            assertEquals(10, ((RingBufferOverwriteBurstEvent) ringBuffer.overwriteBurst).overwritten);
+
+            recording.stop();
+            final Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(2, events.size());
+        for (final RecordedEvent event : events) {
+            assertEquals(FlightRecorderEvents.OVERWRITE_BURST_LIMIT, event.getLong("overwritten"));
+        }
+    }
+
+    @Test
+    public void notRecordedWhenEventDisabled() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4);
+        RingBufferOverwriteBurstEvent.overwritten(ringBuffer, 100);
+        assertNull(ringBuffer.overwriteBurst);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RingBufferSpliterator}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class RingBufferSpliteratorTest {
+
+    @Test
+    public void empty() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        final Spliterator<String> spliterator = ringBuffer.spliterator();
+        assertEquals(0, spliterator.estimateSize());
+        assertEquals(0, spliterator.getExactSizeIfKnown());
+        assertFalse(spliterator.tryAdvance(entry -> fail("Unexpected entry: " + entry)));
+        assertNull(spliterator.trySplit());
+        assertEquals(0, ringBuffer.stream().count());
+    }
+
+    @Test
+    public void characteristics() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        final Spliterator<String> spliterator = ringBuffer.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    }
+
+    @Test
+    public void streamAcrossWrapPoint() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        ringBuffer.putAll(new String[] { "a", "b", "c", "d", "e", "f" }, 0, 6);
+
+        assertEquals(asList("c", "d", "e", "f"), ringBuffer.stream().collect(Collectors.toList()));
+
+        // streaming does not consume the entries
+        assertEquals(4, ringBuffer.available);
+        assertEquals("c", ringBuffer.get());
+    }
+
+    @Test
+    public void trySplitInHalf() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 5, true);
+        ringBuffer.putAll(new String[] { "a", "b", "c", "d", "e", "f", "g" }, 0, 7);
+
+        final Spliterator<String> suffix = ringBuffer.spliterator();
+        final Spliterator<String> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(3, suffix.estimateSize());
+
+        final List<String> visited = new ArrayList<>();
+        assertTrue(prefix.tryAdvance(visited::add));
+        prefix.forEachRemaining(visited::add);
+        assertFalse(prefix.tryAdvance(visited::add));
+        suffix.forEachRemaining(visited::add);
+        assertEquals(asList("c", "d", "e", "f", "g"), visited);
+
+        // a single entry cannot be split
+        final Spliterator<String> single = new RingBufferSpliterator<>(ringBuffer.entries, 0, 0, 1);
+        assertNull(single.trySplit());
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.evolvedbinary.j8cu.buffer.ring.RingBufferTest#randomPutGetPutGet")
+    public void streamMatchesCopy(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        for (final boolean orderedReads : new boolean[] { false, true }) {
+            final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, capacity, orderedReads);
+            int next = 0;
+            for (int i = 0; i < putCount1; i++) {
+                ringBuffer.put(next++);
+            }
+            for (int i = 0; i < getCount1; i++) {
+                ringBuffer.get();
+            }
+            for (int i = 0; i < putCount2; i++) {
+                ringBuffer.put(next++);
+            }
+            for (int i = 0; i < getCount2 / 2; i++) {
+                ringBuffer.get();
+            }
+
+            final Integer[] copy = ringBuffer.copy();
+            final List<Integer> expected = copy == null ? new ArrayList<>() : asList(copy);
+            assertEquals(expected, ringBuffer.stream().collect(Collectors.toList()));
+            assertEquals(expected, ringBuffer.parallelStream().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void parallelStream() {
+        final int capacity = 1_000_000;
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, capacity, true);
+        for (int i = 0; i < capacity + capacity / 3; i++) {
+            ringBuffer.put(i);
+        }
+
+        final long first = capacity / 3;
+        final long last = first + capacity - 1;
+        final long expectedSum = (first + last) * capacity / 2;
+        assertEquals(expectedSum, ringBuffer.parallelStream().mapToLong(Integer::longValue).sum());
+
+        // the encounter order is preserved
+        assertEquals(Integer.valueOf((int) first), ringBuffer.parallelStream().findFirst().orElse(null));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RingBufferStatistics}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class RingBufferStatisticsTest {
+
+    @Test
+    public void disabledByDefault() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 2);
+        assertNull(ringBuffer.statistics());
+
+        final RingBufferStatistics statistics = ringBuffer.enableStatistics();
+        assertSame(statistics, ringBuffer.statistics());
+        assertSame(statistics, ringBuffer.enableStatistics());
+
+        ringBuffer.disableStatistics();
+        assertNull(ringBuffer.statistics());
+        ringBuffer.put("a");
+        assertEquals(0, statistics.getPutCount());
+    }
+
+    @Test
+    public void counts() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, true);
+        final RingBufferStatistics statistics = ringBuffer.enableStatistics(() -> 0);
+
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        ringBuffer.get();
+        ringBuffer.putAll(new String[] { "c", "d", "e" }, 0, 3);
+        assertEquals(2, ringBuffer.get(new String[2], 0, 2));
+        ringBuffer.drainTo(entry -> { }, 1);
+
+        assertEquals(3, statistics.getCapacity());
+        assertEquals(0, statistics.getAvailable());
+        assertEquals(5, statistics.getPutCount());
+        assertEquals(4, statistics.getGetCount());
+        assertEquals(1, statistics.getOverwrittenCount());
+        assertEquals(3, statistics.getHighWaterMark());
+
+        ringBuffer.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+        ringBuffer.putAll(new String[] { "f", "g", "h", "i" }, 0, 4);
+        assertEquals(8, statistics.getPutCount());
+        assertEquals(1, statistics.getDroppedCount());
+        ringBuffer.setOverflowPolicy(OverflowPolicy.REJECT);
+        assertFalse(ringBuffer.offer("j"));
+        assertEquals(1, statistics.getRejectedCount());
+    }
+
+    @Test
+    public void dequeOperations() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        final RingBufferStatistics statistics = ringBuffer.enableStatistics(() -> 0);
+        final Deque<String> deque = ringBuffer.asDeque();
+
+        deque.addFirst("a");
+        deque.addLast("b");
+        deque.addLast("c");
+        deque.pollLast();
+        deque.remove("a");
+        assertEquals(3, statistics.getPutCount());
+        assertEquals(2, statistics.getGetCount());
+        assertEquals(1, statistics.getAvailable());
+    }
+
+    @Test
+    public void timeAtCapacity() {
+        final long[] now = { 100 };
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 2, true);
+        final RingBufferStatistics statistics = ringBuffer.enableStatistics(() -> now[0]);
+
+        ringBuffer.put("a");
+        now[0] = 200;
+        ringBuffer.put("b");
+        now[0] = 250;
+        assertEquals(50, statistics.getTimeAtCapacityNanos());
+
+        // overwriting whilst full does not restart the period
+        ringBuffer.put("c");
+        now[0] = 300;
+        ringBuffer.get();
+        now[0] = 1000;
+        assertEquals(100, statistics.getTimeAtCapacityNanos());
+
+        ringBuffer.put("d");
+        now[0] = 1010;
+        ringBuffer.clear();
+        now[0] = 2000;
+        assertEquals(110, statistics.getTimeAtCapacityNanos());
+
+        // growing the capacity ends the period
+        ringBuffer.put("e");
+        ringBuffer.put("f");
+        now[0] = 2005;
+        ringBuffer.resize(4);
+        now[0] = 3000;
+        assertEquals(115, statistics.getTimeAtCapacityNanos());
+        assertEquals(4, statistics.getCapacity());
+    }
+
+    @Test
+    public void shrinkCountsDiscardedAsOverwritten() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        final RingBufferStatistics statistics = ringBuffer.enableStatistics();
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        ringBuffer.put("c");
+
+        ringBuffer.resize(1);
+        assertEquals(2, statistics.getOverwrittenCount());
+        assertEquals(1, statistics.getCapacity());
+        assertEquals("c", ringBuffer.get());
+
+        // growing discards nothing
+        ringBuffer.put("d");
+        ringBuffer.resize(2);
+        assertEquals(2, statistics.getOverwrittenCount());
+    }
+
+    @Test
+    public void registerAsMXBean() throws JMException {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4);
+        final RingBufferStatistics statistics = ringBuffer.enableStatistics();
+        ringBuffer.put("a");
+
+        final ObjectName objectName = statistics.register("test:ring,1");
+        try {
+            assertThrows(IllegalStateException.class, () -> statistics.register("other"));
+
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertTrue(server.isRegistered(objectName));
+            assertEquals(4, server.getAttribute(objectName, "Capacity"));
+            assertEquals(1L, server.getAttribute(objectName, "PutCount"));
+            assertEquals(1, server.getAttribute(objectName, "HighWaterMark"));
+
+            // the name is already registered
+            assertThrows(JMException.class, () -> new RingBuffer<>(String.class, 1).enableStatistics().register("test:ring,1"));
+        } finally {
+            statistics.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+        statistics.unregister();
+    }
+}
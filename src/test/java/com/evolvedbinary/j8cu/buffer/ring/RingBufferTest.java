@@ -32,12 +32,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
 
 import static com.evolvedbinary.j8cu.buffer.ring.RingBuffer.READ_UNINITIALISED;
 import static com.evolvedbinary.j8cu.buffer.ring.RingBuffer.WRITE_UNINITIALISED;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -2147,6 +2150,619 @@ public class RingBufferTest {
         assertArrayEquals(new String[] { "d", "b", "c", "e", "f" }, listener1.retrieved);
     }
 
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void bulkPutGetPutGetUnordered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        bulkPutGetPutGet(false, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void bulkPutGetPutGetOrdered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        bulkPutGetPutGet(true, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    /**
+     * Checks that the bulk operations leave the Ring Buffer in exactly the same state
+     * as the equivalent sequence of single operations.
+     */
+    private static void bulkPutGetPutGet(final boolean orderedReads, final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        final RingBuffer<Integer> single = new RingBuffer<>(Integer.class, capacity, orderedReads);
+        final RingBuffer<Integer> bulk = new RingBuffer<>(Integer.class, capacity, orderedReads);
+
+        int next = 0;
+
+        // 1. put
+        final Integer[] src1 = new Integer[putCount1 + 2];
+        for (int i = 0; i < putCount1; i++) {
+            src1[i + 1] = next;
+            single.put(next++);
+        }
+        bulk.putAll(src1, 1, putCount1);
+        assertSameState(single, bulk);
+
+        // 2. get
+        final Integer[] expected1 = new Integer[getCount1];
+        int expectedCount1 = 0;
+        for (int i = 0; i < getCount1 && !single.isEmpty(); i++) {
+            expected1[expectedCount1++] = single.get();
+        }
+        final Integer[] dst1 = new Integer[getCount1];
+        assertEquals(expectedCount1, bulk.get(dst1, 0, getCount1));
+        assertArrayEquals(expected1, dst1);
+        assertSameState(single, bulk);
+
+        // 3. put
+        final Integer[] src2 = new Integer[putCount2];
+        for (int i = 0; i < putCount2; i++) {
+            src2[i] = next;
+            single.put(next++);
+        }
+        bulk.putAll(src2, 0, putCount2);
+        assertSameState(single, bulk);
+
+        // 4. drain
+        final Integer[] expected2 = new Integer[getCount2];
+        int expectedCount2 = 0;
+        for (int i = 0; i < getCount2 && !single.isEmpty(); i++) {
+            expected2[expectedCount2++] = single.get();
+        }
+        final Integer[] drained = new Integer[getCount2];
+        final int[] drainedCount = new int[1];
+        assertEquals(expectedCount2, bulk.drainTo(entry -> drained[drainedCount[0]++] = entry, getCount2));
+        assertArrayEquals(expected2, drained);
+        assertSameState(single, bulk);
+    }
+
+    private static <T> void assertSameState(final RingBuffer<T> expected, final RingBuffer<T> actual) {
+        assertEquals(expected.readIdx, actual.readIdx);
+        assertEquals(expected.writeIdx, actual.writeIdx);
+        assertEquals(expected.available, actual.available);
+        assertEquals(expected.putCount, actual.putCount);
+        assertEquals(expected.overwrittenCount, actual.overwrittenCount);
+        assertArrayEquals(expected.entries, actual.entries);
+        assertArrayEquals(expected.copy(), actual.copy());
+    }
+
+    @Test
+    public void putAllOverFillOrdered() {
+        final int capacity = 3;
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, capacity, true);
+
+        ringBuffer.putAll(new String[] { "a", "b", "c", "d", "e" }, 0, 5);
+
+        // only the last 3 entries were copied
+        assertArrayEquals(new String[] { "d", "e", "c" }, ringBuffer.entries);
+        assertEquals(1, ringBuffer.readIdx);
+        assertEquals(1, ringBuffer.writeIdx);
+        assertEquals(3, ringBuffer.available);
+        assertEquals(3, ringBuffer.putCount);
+        assertArrayEquals(new String[] { "c", "d", "e" }, ringBuffer.copy());
+    }
+
+    @Test
+    public void getIntoArray() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        ringBuffer.putAll(new String[] { "a", "b", "c", "d", "e", "f" }, 0, 6);
+
+        final String[] dst = new String[5];
+        assertEquals(2, ringBuffer.get(dst, 1, 2));
+        assertArrayEquals(new String[] { null, "c", "d", null, null }, dst);
+
+        // only 2 remaining
+        assertEquals(2, ringBuffer.get(dst, 0, 5));
+        assertArrayEquals(new String[] { "e", "f", "d", null, null }, dst);
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(READ_UNINITIALISED, ringBuffer.readIdx);
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+
+        assertEquals(0, ringBuffer.get(dst, 0, 5));
+    }
+
+    @Test
+    public void drainTo() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, false);
+        ringBuffer.putAll(new String[] { "a", "b", "c" }, 0, 3);
+
+        final StringBuilder builder = new StringBuilder();
+        assertEquals(0, ringBuffer.drainTo(builder::append, 0));
+        assertEquals(2, ringBuffer.drainTo(builder::append, 2));
+        assertEquals("ab", builder.toString());
+        assertEquals(1, ringBuffer.drainTo(builder::append, Integer.MAX_VALUE));
+        assertEquals("abc", builder.toString());
+        assertTrue(ringBuffer.isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.drainTo(builder::append, -1));
+    }
+
+    @Test
+    public void bulkRangeChecks() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, false);
+        final String[] array = new String[2];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.putAll(array, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.putAll(array, 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.get(array, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.get(array, 3, 0));
+
+        // the Ring Buffer is unchanged
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(WRITE_UNINITIALISED, ringBuffer.writeIdx);
+    }
+
+    @Test
+    public void bulkListenerEvents() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, true);
+        final CollectingListener<String> listener1 = new CollectingListener<>();
+        final CollectingListener<String> listener2 = new CollectingListener<>();
+        ringBuffer.addListener(listener1);
+        ringBuffer.addListener(listener2);
+
+        ringBuffer.putAll(new String[] { "a", "b", "c", "d" }, 0, 4);
+        assertArrayEquals(new String[] { "a", "b", "c", "d" }, listener1.stored);
+        assertArrayEquals(new String[] { "a", "b", "c", "d" }, listener2.stored);
+
+        ringBuffer.get(new String[2], 0, 2);
+        assertArrayEquals(new String[] { "b", "c" }, listener1.retrieved);
+
+        ringBuffer.drainTo(entry -> {}, 1);
+        assertArrayEquals(new String[] { "b", "c", "d" }, listener1.retrieved);
+        assertArrayEquals(new String[] { "b", "c", "d" }, listener2.retrieved);
+    }
+
+    @Test
+    public void batchListenerEvents() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, true);
+        assertNull(ringBuffer.batchListeners);
+
+        final CollectingBatchListener<String> batchListener1 = new CollectingBatchListener<>();
+        final CollectingBatchListener<String> batchListener2 = new CollectingBatchListener<>();
+        ringBuffer.addBatchListener(batchListener1);
+        ringBuffer.addBatchListener(batchListener2);
+
+        // single operations are notified as batches of 1
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        assertEquals(asList(asList("a"), asList("b")), batchListener1.stored);
+        assertEquals("a", ringBuffer.get());
+        assertEquals(asList(asList("a")), batchListener1.retrieved);
+
+        // bulk operations are notified as a single batch
+        ringBuffer.putAll(new String[] { "c", "d", "e" }, 0, 3);
+        assertEquals(asList(asList("a"), asList("b"), asList("c", "d", "e")), batchListener1.stored);
+        assertEquals(2, ringBuffer.get(new String[2], 0, 2));
+        assertEquals(asList(asList("a"), asList("c", "d")), batchListener1.retrieved);
+
+        // drain across the wrap point is notified as one batch per segment
+        ringBuffer.putAll(new String[] { "f", "g" }, 0, 2);
+        assertEquals(3, ringBuffer.drainTo(entry -> {}, 3));
+        assertEquals(asList(asList("a"), asList("c", "d"), asList("e", "f"), asList("g")), batchListener1.retrieved);
+
+        assertEquals(batchListener1.stored, batchListener2.stored);
+        assertEquals(batchListener1.retrieved, batchListener2.retrieved);
+
+        // after removal no more events are received
+        ringBuffer.removeBatchListener(batchListener1);
+        ringBuffer.put("h");
+        assertEquals(4, batchListener1.stored.size());
+        assertEquals(5, batchListener2.stored.size());
+
+        ringBuffer.removeBatchListener(batchListener2);
+        assertNull(ringBuffer.batchListeners);
+    }
+
+    @Test
+    public void batchListenerCoalescedEvents() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, false);
+        final CollectingBatchListener<String> batchListener = new CollectingBatchListener<>();
+        ringBuffer.addBatchListener(batchListener);
+        ringBuffer.coalesceBatchListenerEvents(3);
+
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        assertTrue(batchListener.stored.isEmpty());
+        ringBuffer.put("c");
+        assertEquals(asList(asList("a", "b", "c")), batchListener.stored);
+
+        // pending events are notified before a bulk operation
+        ringBuffer.put("d");
+        ringBuffer.putAll(new String[] { "e", "f" }, 0, 2);
+        assertEquals(asList(asList("a", "b", "c"), asList("d"), asList("e", "f")), batchListener.stored);
+
+        ringBuffer.get();
+        ringBuffer.get();
+        assertTrue(batchListener.retrieved.isEmpty());
+        ringBuffer.flushBatchListeners();
+        assertEquals(asList(asList("e", "f")), batchListener.retrieved);
+
+        // the pending entries are not retained
+        assertArrayEquals(new String[3], ringBuffer.pendingStored);
+        assertArrayEquals(new String[3], ringBuffer.pendingRetrieved);
+
+        // reconfiguring flushes any pending events
+        ringBuffer.get();
+        ringBuffer.coalesceBatchListenerEvents(1);
+        assertEquals(asList(asList("e", "f"), asList("c")), batchListener.retrieved);
+        assertNull(ringBuffer.pendingStored);
+        assertNull(ringBuffer.pendingRetrieved);
+
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.coalesceBatchListenerEvents(0));
+    }
+
+    @Test
+    public void batchListenerRemovalDiscardsCoalescedEvents() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, false);
+        final CollectingBatchListener<String> batchListener = new CollectingBatchListener<>();
+        ringBuffer.addBatchListener(batchListener);
+        ringBuffer.coalesceBatchListenerEvents(3);
+
+        ringBuffer.put("a");
+        ringBuffer.removeBatchListener(batchListener);
+        assertEquals(0, ringBuffer.pendingStoredCount);
+        ringBuffer.flushBatchListeners();
+        assertTrue(batchListener.stored.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void snapshotUnordered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        snapshot(false, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void snapshotOrdered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        snapshot(true, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    /**
+     * Checks that the snapshot operations agree with {@link RingBuffer#copy()} after each step,
+     * and that they do not consume the entries.
+     */
+    private static void snapshot(final boolean orderedReads, final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, capacity, orderedReads);
+        assertSnapshot(ringBuffer);
+
+        int next = 0;
+        for (int i = 0; i < putCount1; i++) {
+            ringBuffer.put(next++);
+        }
+        assertSnapshot(ringBuffer);
+
+        for (int i = 0; i < getCount1; i++) {
+            ringBuffer.get();
+        }
+        assertSnapshot(ringBuffer);
+
+        for (int i = 0; i < putCount2; i++) {
+            ringBuffer.put(next++);
+        }
+        assertSnapshot(ringBuffer);
+
+        for (int i = 0; i < getCount2; i++) {
+            ringBuffer.get();
+        }
+        assertSnapshot(ringBuffer);
+    }
+
+    private static void assertSnapshot(final RingBuffer<Integer> ringBuffer) {
+        final int available = ringBuffer.available;
+        final int readIdx = ringBuffer.readIdx;
+        final Integer @Nullable [] copy = ringBuffer.copy();
+        final Integer[] expected = copy == null ? new Integer[0] : copy;
+
+        final Integer[] dst = new Integer[expected.length + 1];
+        assertEquals(expected.length, ringBuffer.copyInto(dst, 1));
+        assertArrayEquals(expected, Arrays.copyOfRange(dst, 1, dst.length));
+
+        final List<Integer> visited = new ArrayList<>();
+        ringBuffer.forEach(visited::add);
+        assertEquals(asList(expected), visited);
+
+        // the entries are integers that were put in ascending order, so oldest first is ascending order
+        final Integer[] expectedOldestFirst = expected.clone();
+        Arrays.sort(expectedOldestFirst);
+        final List<Integer> visitedOldestFirst = new ArrayList<>();
+        ringBuffer.forEachOldestFirst(visitedOldestFirst::add);
+        assertEquals(asList(expectedOldestFirst), visitedOldestFirst);
+
+        for (int age = 0; age < expectedOldestFirst.length; age++) {
+            assertEquals(expectedOldestFirst[age], ringBuffer.peek(age));
+            assertEquals(expectedOldestFirst[expectedOldestFirst.length - 1 - age], ringBuffer.peekBack(age));
+        }
+        if (expectedOldestFirst.length == 0) {
+            assertNull(ringBuffer.peekOldest());
+            assertNull(ringBuffer.peekNewest());
+        } else {
+            assertEquals(expectedOldestFirst[0], ringBuffer.peekOldest());
+            assertEquals(expectedOldestFirst[expectedOldestFirst.length - 1], ringBuffer.peekNewest());
+        }
+
+        // nothing was consumed
+        assertEquals(available, ringBuffer.available);
+        assertEquals(readIdx, ringBuffer.readIdx);
+    }
+
+    @Test
+    public void copyIntoSmallArray() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        ringBuffer.putAll(new String[] { "a", "b", "c", "d", "e" }, 0, 5);
+
+        final String[] dst = new String[3];
+        assertEquals(2, ringBuffer.copyInto(dst, 1));
+        assertArrayEquals(new String[] { null, "b", "c" }, dst);
+        assertEquals(0, ringBuffer.copyInto(dst, 3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.copyInto(dst, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.copyInto(dst, -1));
+
+        // an empty Ring Buffer copies nothing
+        ringBuffer.clear();
+        assertEquals(0, ringBuffer.copyInto(dst, 0));
+    }
+
+    @Test
+    public void forEachOldestFirstUnordered() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, false);
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        ringBuffer.put("c");
+        ringBuffer.put("d");
+
+        final StringBuilder builder = new StringBuilder();
+        ringBuffer.forEach(builder::append);
+        assertEquals("dbc", builder.toString());
+
+        builder.setLength(0);
+        ringBuffer.forEachOldestFirst(builder::append);
+        assertEquals("bcd", builder.toString());
+    }
+
+    @Test
+    public void peekByAge() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 4, true);
+        assertNull(ringBuffer.peekOldest());
+        assertNull(ringBuffer.peekNewest());
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.peek(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.peekBack(0));
+
+        for (final String entry : new String[] { "a", "b", "c", "d", "e", "f" }) {
+            ringBuffer.put(entry);
+        }
+        assertEquals("c", ringBuffer.peekOldest());
+        assertEquals("f", ringBuffer.peekNewest());
+        assertEquals("d", ringBuffer.peek(1));
+        assertEquals("c", ringBuffer.peekBack(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.peek(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.peekBack(-1));
+
+        // peeking does not consume
+        assertEquals("c", ringBuffer.get());
+        assertEquals("d", ringBuffer.peekOldest());
+        assertEquals("f", ringBuffer.peekBack(0));
+    }
+
+    @Test
+    public void overflowOverwriteOldest() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 2, true);
+        assertEquals(OverflowPolicy.OVERWRITE_OLDEST, ringBuffer.overflowPolicy());
+
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        assertEquals(0, ringBuffer.overwrittenCount());
+        ringBuffer.put("c");
+        assertTrue(ringBuffer.offer("d"));
+        assertEquals(2, ringBuffer.overwrittenCount());
+        assertEquals(3, ringBuffer.putAll(new String[] { "e", "f", "g" }, 0, 3));
+        assertEquals(5, ringBuffer.overwrittenCount());
+        assertArrayEquals(new String[] { "f", "g" }, ringBuffer.copy());
+        assertEquals(0, ringBuffer.droppedCount());
+        assertEquals(0, ringBuffer.rejectedCount());
+    }
+
+    @Test
+    public void overflowDropNewest() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, true);
+        final CollectingListener<String> listener = new CollectingListener<>();
+        ringBuffer.addListener(listener);
+        ringBuffer.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        ringBuffer.put("c");
+        ringBuffer.put("d");
+        assertFalse(ringBuffer.offer("e"));
+        assertEquals(2, ringBuffer.droppedCount());
+
+        assertEquals("a", ringBuffer.get());
+        assertEquals(1, ringBuffer.putAll(new String[] { "f", "g", "h" }, 0, 3));
+        assertEquals(4, ringBuffer.droppedCount());
+        assertArrayEquals(new String[] { "b", "c", "f" }, ringBuffer.copy());
+
+        // dropped entries are not notified
+        assertArrayEquals(new String[] { "a", "b", "c", "f" }, listener.stored);
+        assertEquals(0, ringBuffer.overwrittenCount());
+    }
+
+    @Test
+    public void overflowReject() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, false);
+        ringBuffer.setOverflowPolicy(OverflowPolicy.REJECT);
+
+        ringBuffer.putAll(new String[] { "a", "b" }, 0, 2);
+        assertThrows(IllegalStateException.class, () -> ringBuffer.putAll(new String[] { "c", "d" }, 0, 2));
+        assertEquals(2, ringBuffer.rejectedCount());
+        assertArrayEquals(new String[] { "a", "b" }, ringBuffer.copy());
+
+        ringBuffer.put("c");
+        assertThrows(IllegalStateException.class, () -> ringBuffer.put("d"));
+        assertFalse(ringBuffer.offer("e"));
+        assertEquals(4, ringBuffer.rejectedCount());
+        assertArrayEquals(new String[] { "a", "b", "c" }, ringBuffer.copy());
+        assertEquals(0, ringBuffer.overwrittenCount());
+        assertEquals(0, ringBuffer.droppedCount());
+    }
+
+    @Test
+    public void overflowCallback() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 2, true);
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.setOverflowPolicy(OverflowPolicy.CALLBACK));
+
+        // store entries starting with "x" by making room, and drop all others
+        final List<String> overflowed = new ArrayList<>();
+        ringBuffer.setOverflowHandler((rb, entry) -> {
+            overflowed.add(entry);
+            if (entry.startsWith("x")) {
+                rb.get();
+                return true;
+            }
+            return false;
+        });
+        assertEquals(OverflowPolicy.CALLBACK, ringBuffer.overflowPolicy());
+
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        ringBuffer.put("c");
+        assertTrue(ringBuffer.offer("x1"));
+        assertEquals(2, ringBuffer.putAll(new String[] { "d", "x2", "x3" }, 0, 3));
+        assertEquals(asList("c", "x1", "d", "x2", "x3"), overflowed);
+        assertArrayEquals(new String[] { "x2", "x3" }, ringBuffer.copy());
+        assertEquals(2, ringBuffer.droppedCount());
+        assertEquals(0, ringBuffer.overwrittenCount());
+
+        // a handler that does not make room overwrites the oldest entry
+        ringBuffer.setOverflowHandler((rb, entry) -> true);
+        ringBuffer.put("e");
+        assertEquals(1, ringBuffer.overwrittenCount());
+        assertArrayEquals(new String[] { "x3", "e" }, ringBuffer.copy());
+
+        // setting a policy removes the handler
+        ringBuffer.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+        assertNull(ringBuffer.overflowHandler);
+    }
+
+    @Test
+    public void resizeKeepsReadOrder() {
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(String.class, 3, true);
+        assertEquals(3, ringBuffer.capacity());
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.resize(0));
+
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        ringBuffer.put("c");
+        ringBuffer.put("d");
+        assertEquals("b", ringBuffer.get());
+
+        // grow, the entries are kept in order
+        ringBuffer.resize(5);
+        assertEquals(5, ringBuffer.capacity());
+        assertArrayEquals(new String[] { "c", "d" }, ringBuffer.copy());
+        ringBuffer.put("e");
+        ringBuffer.put("f");
+        ringBuffer.put("g");
+        assertEquals(1, ringBuffer.overwrittenCount());
+        ringBuffer.put("h");
+        assertEquals(2, ringBuffer.overwrittenCount());
+        assertArrayEquals(new String[] { "d", "e", "f", "g", "h" }, ringBuffer.copy());
+
+        // shrink, the oldest entries are discarded and counted as overwritten
+        ringBuffer.resize(2);
+        assertArrayEquals(new String[] { "g", "h" }, ringBuffer.copy());
+        assertEquals(5, ringBuffer.overwrittenCount());
+        ringBuffer.put("i");
+        assertEquals("h", ringBuffer.get());
+        assertEquals("i", ringBuffer.get());
+        assertNull(ringBuffer.get());
+
+        // resizing an empty Ring Buffer
+        ringBuffer.resize(1);
+        assertTrue(ringBuffer.isEmpty());
+        ringBuffer.put("j");
+        ringBuffer.put("k");
+        assertEquals("k", ringBuffer.get());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void resizeUnordered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        resize(false, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomPutGetPutGet")
+    public void resizeOrdered(final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        resize(true, capacity, putCount1, getCount1, putCount2, getCount2);
+    }
+
+    /**
+     * Checks that after being resized, the Ring Buffer has the same state and behaviour
+     * as a new Ring Buffer of the new capacity, into which the remaining entries have been put.
+     */
+    private static void resize(final boolean orderedReads, final int capacity, final int putCount1, final int getCount1, final int putCount2, final int getCount2) {
+        final RingBuffer<Integer> resized = new RingBuffer<>(Integer.class, capacity, orderedReads);
+        int next = 0;
+        for (int i = 0; i < putCount1; i++) {
+            resized.put(next++);
+        }
+        for (int i = 0; i < getCount1; i++) {
+            resized.get();
+        }
+
+        final Integer[] before = resized.copy();
+        final long overwrittenCount = resized.overwrittenCount();
+        // resizing to the same capacity does nothing, so always choose a different capacity
+        final int randomCapacity = randomInt(2 * capacity);
+        final int newCapacity = randomCapacity == capacity ? capacity + 1 : randomCapacity;
+        resized.resize(newCapacity);
+
+        final RingBuffer<Integer> expected = new RingBuffer<>(Integer.class, newCapacity, orderedReads);
+        if (before != null) {
+            final int kept = Math.min(before.length, newCapacity);
+            expected.putAll(before, before.length - kept, kept);
+        }
+        assertEquals(newCapacity, resized.capacity());
+        final int discarded = before == null ? 0 : Math.max(0, before.length - newCapacity);
+        assertEquals(overwrittenCount + discarded, resized.overwrittenCount());
+
+        for (int i = 0; i < putCount2; i++) {
+            assertSameResizedState(expected, resized);
+            expected.put(next);
+            resized.put(next++);
+        }
+        for (int i = 0; i < getCount2; i++) {
+            assertSameResizedState(expected, resized);
+            assertEquals(expected.get(), resized.get());
+        }
+        assertSameResizedState(expected, resized);
+    }
+
+    private static <T> void assertSameResizedState(final RingBuffer<T> expected, final RingBuffer<T> actual) {
+        assertEquals(expected.readIdx, actual.readIdx);
+        assertEquals(expected.writeIdx, actual.writeIdx);
+        assertEquals(expected.available, actual.available);
+        assertEquals(expected.putCount, actual.putCount);
+        assertArrayEquals(expected.entries, actual.entries);
+    }
+
+    @Test
+    public void overflowGrow() {
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(Integer.class, 2, true);
+        assertThrows(IllegalArgumentException.class, () -> RingBuffer.OverflowHandler.grow(0));
+        ringBuffer.setOverflowHandler(RingBuffer.OverflowHandler.grow(6));
+
+        for (int i = 0; i < 5; i++) {
+            ringBuffer.put(i);
+        }
+        assertEquals(6, ringBuffer.capacity());
+        assertEquals(0, ringBuffer.overwrittenCount());
+
+        // once at the maximum capacity, the oldest entries are overwritten
+        assertEquals(3, ringBuffer.putAll(new Integer[] { 5, 6, 7 }, 0, 3));
+        assertEquals(6, ringBuffer.capacity());
+        assertEquals(2, ringBuffer.overwrittenCount());
+        assertArrayEquals(new Integer[] { 2, 3, 4, 5, 6, 7 }, ringBuffer.copy());
+    }
+
     static Stream<Arguments> randomPutGetPutGet() {
         // we will generate 100 sets of arguments of random integers
         final int iterations = 100;
@@ -2187,4 +2803,19 @@ public class RingBufferTest {
             stored[stored.length - 1] = entry;
         }
     }
+
+    private static class CollectingBatchListener<T> implements RingBuffer.BatchListener<T> {
+        final List<List<T>> retrieved = new ArrayList<>();
+        final List<List<T>> stored = new ArrayList<>();
+
+        @Override
+        public void retrievedBatch(final T[] src, final int off, final int len) {
+            retrieved.add(new ArrayList<>(asList(src).subList(off, off + len)));
+        }
+
+        @Override
+        public void storedBatch(final T[] src, final int off, final int len) {
+            stored.add(new ArrayList<>(asList(src).subList(off, off + len)));
+        }
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Tests for {@link SlidingWindowAggregator}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class SlidingWindowAggregatorTest {
+
+    @Test
+    public void construct() {
+        final SlidingWindowAggregator<Integer, Integer> max = new SlidingWindowAggregator<>(Integer.class, 3, v -> v, Math::max, Integer.MIN_VALUE);
+        assertEquals(3, max.capacity());
+        assertEquals(0, max.size());
+        assertTrue(max.isEmpty());
+        assertEquals(Integer.MIN_VALUE, max.aggregate());
+        assertNull(max.evict());
+
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowAggregator<Integer, Integer>(Integer.class, 0, v -> v, Math::max, Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void slidingMax() {
+        final SlidingWindowAggregator<Integer, Integer> max = new SlidingWindowAggregator<>(Integer.class, 3, v -> v, Math::max, Integer.MIN_VALUE);
+        max.add(5);
+        assertEquals(5, max.aggregate());
+        max.add(1);
+        max.add(3);
+        assertEquals(5, max.aggregate());
+
+        // 5 slides out of the window
+        max.add(2);
+        assertEquals(3, max.aggregate());
+        max.add(1);
+        assertEquals(3, max.aggregate());
+        max.add(0);
+        assertEquals(2, max.aggregate());
+        assertEquals(3, max.size());
+
+        assertEquals(2, max.evict());
+        assertEquals(1, max.aggregate());
+
+        max.clear();
+        assertTrue(max.isEmpty());
+        assertEquals(Integer.MIN_VALUE, max.aggregate());
+        max.add(7);
+        assertEquals(7, max.aggregate());
+    }
+
+    @Test
+    public void liftToDifferentType() {
+        final SlidingWindowAggregator<String, Long> totalLength = new SlidingWindowAggregator<>(String.class, 2, s -> (long) s.length(), Long::sum, 0L);
+        totalLength.add("abc");
+        totalLength.add("de");
+        assertEquals(5L, totalLength.aggregate());
+        totalLength.add("f");
+        assertEquals(3L, totalLength.aggregate());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomOperations")
+    public void matchesRecomputation(final int capacity, final long seed) {
+        // concatenation is associative but not commutative, so this also checks that values are combined oldest first
+        final SlidingWindowAggregator<Integer, String> concat = new SlidingWindowAggregator<>(Integer.class, capacity, v -> v + ",", String::concat, "");
+        final SlidingWindowAggregator<Integer, Integer> min = new SlidingWindowAggregator<>(Integer.class, capacity, v -> v, Math::min, Integer.MAX_VALUE);
+        final ArrayDeque<Integer> window = new ArrayDeque<>();
+
+        final Random random = new Random(seed);
+        for (int i = 0; i < 500; i++) {
+            if (random.nextInt(4) == 0) {
+                final Integer expected = window.pollFirst();
+                assertEquals(expected, concat.evict());
+                assertEquals(expected, min.evict());
+            } else {
+                final int value = random.nextInt(1000);
+                if (window.size() == capacity) {
+                    window.pollFirst();
+                }
+                window.addLast(value);
+                concat.add(value);
+                min.add(value);
+            }
+
+            final StringBuilder expectedConcat = new StringBuilder();
+            int expectedMin = Integer.MAX_VALUE;
+            for (final int value : window) {
+                expectedConcat.append(value).append(',');
+                expectedMin = Math.min(expectedMin, value);
+            }
+            assertEquals(expectedConcat.toString(), concat.aggregate());
+            assertEquals(expectedMin, min.aggregate());
+            assertEquals(window.size(), min.size());
+        }
+    }
+
+    static Stream<Arguments> randomOperations() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (int capacity = 1; capacity <= 9; capacity++) {
+            for (int i = 0; i < 3; i++) {
+                builder.add(arguments(capacity, ThreadLocalRandom.current().nextLong()));
+            }
+        }
+        return builder.build();
+    }
+}
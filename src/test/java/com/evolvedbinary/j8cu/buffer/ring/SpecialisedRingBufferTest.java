@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Tests for the specialised implementations of {@link RingBuffer} that are
+ * returned by {@link RingBuffer#specialised(Class, int, boolean)}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class SpecialisedRingBufferTest {
+
+    @Test
+    public void specialisedImplementation() {
+        assertEquals(MaskedUnorderedRingBuffer.class, RingBuffer.specialised(String.class, 1, false).getClass());
+        assertEquals(MaskedUnorderedRingBuffer.class, RingBuffer.specialised(String.class, 8, false).getClass());
+        assertEquals(MaskedOrderedRingBuffer.class, RingBuffer.specialised(String.class, 8, true).getClass());
+        assertEquals(ModuloUnorderedRingBuffer.class, RingBuffer.specialised(String.class, 7, false).getClass());
+        assertEquals(ModuloOrderedRingBuffer.class, RingBuffer.specialised(String.class, 7, true).getClass());
+
+        assertThrows(IllegalArgumentException.class, () -> RingBuffer.specialised(String.class, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> new MaskedOrderedRingBuffer<>(String.class, 6));
+    }
+
+    @ParameterizedTest
+    @MethodSource("implementations")
+    public void listeners(final int capacity, final boolean orderedReads) {
+        final RingBuffer<String> ringBuffer = RingBuffer.specialised(String.class, capacity, orderedReads);
+        final List<String> events = new ArrayList<>();
+        ringBuffer.addListener(new RingBuffer.Listener<String>() {
+            @Override
+            public void retrieved(final @Nullable String entry) {
+                events.add("retrieved " + entry);
+            }
+
+            @Override
+            public void stored(final String entry) {
+                events.add("stored " + entry);
+            }
+        });
+        ringBuffer.addBatchListener(new RingBuffer.BatchListener<String>() {
+            @Override
+            public void retrievedBatch(final String[] src, final int off, final int len) {
+                events.add("retrievedBatch " + len);
+            }
+
+            @Override
+            public void storedBatch(final String[] src, final int off, final int len) {
+                events.add("storedBatch " + len);
+            }
+        });
+
+        ringBuffer.put("a");
+        assertEquals("a", ringBuffer.get());
+        assertEquals(Arrays.asList("stored a", "storedBatch 1", "retrieved a", "retrievedBatch 1"), events);
+    }
+
+    @ParameterizedTest
+    @MethodSource("implementations")
+    public void statistics(final int capacity, final boolean orderedReads) {
+        final RingBuffer<String> ringBuffer = RingBuffer.specialised(String.class, capacity, orderedReads);
+        final RingBufferStatistics statistics = ringBuffer.enableStatistics();
+
+        for (int i = 0; i < capacity + 2; i++) {
+            ringBuffer.put("" + i);
+        }
+        ringBuffer.get();
+
+        assertEquals(capacity + 2, statistics.getPutCount());
+        assertEquals(1, statistics.getGetCount());
+        assertEquals(capacity, statistics.getHighWaterMark());
+        assertEquals(2, statistics.getOverwrittenCount());
+
+        // once the statistics are disabled, the fast path is used again
+        ringBuffer.disableStatistics();
+        assertFalse(ringBuffer.slowPath);
+        ringBuffer.put("x");
+        assertEquals(capacity + 2, statistics.getPutCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("implementations")
+    public void overflowPolicies(final int capacity, final boolean orderedReads) {
+        final RingBuffer<String> ringBuffer = RingBuffer.specialised(String.class, capacity, orderedReads);
+        for (int i = 0; i < capacity; i++) {
+            ringBuffer.put("" + i);
+        }
+
+        ringBuffer.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+        ringBuffer.put("dropped");
+        assertEquals(1, ringBuffer.droppedCount());
+
+        ringBuffer.setOverflowPolicy(OverflowPolicy.REJECT);
+        assertThrows(IllegalStateException.class, () -> ringBuffer.put("rejected"));
+        assertEquals(1, ringBuffer.rejectedCount());
+
+        final List<String> overflowed = new ArrayList<>();
+        ringBuffer.setOverflowHandler((rb, entry) -> {
+            overflowed.add(entry);
+            return false;
+        });
+        ringBuffer.put("handled");
+        assertEquals(Collections.singletonList("handled"), overflowed);
+        assertEquals(2, ringBuffer.droppedCount());
+
+        assertEquals(0, ringBuffer.overwrittenCount());
+        assertEquals("0", ringBuffer.get());
+    }
+
+    static Stream<Arguments> implementations() {
+        return Stream.of(
+                arguments(4, false),
+                arguments(4, true),
+                arguments(5, false),
+                arguments(5, true)
+        );
+    }
+
+    @Test
+    public void resizeMasked() {
+        final RingBuffer<Integer> ringBuffer = RingBuffer.specialised(Integer.class, 4, true);
+
+        for (int i = 0; i < 6; i++) {
+            ringBuffer.put(i);
+        }
+        ringBuffer.resize(8);
+        assertEquals(8, ringBuffer.capacity());
+        for (int i = 6; i < 14; i++) {
+            ringBuffer.put(i);
+        }
+        assertArrayEquals(new Integer[] { 6, 7, 8, 9, 10, 11, 12, 13 }, ringBuffer.copy());
+
+        ringBuffer.resize(2);
+        ringBuffer.put(14);
+        assertEquals(13, ringBuffer.get());
+        assertEquals(14, ringBuffer.get());
+        assertNull(ringBuffer.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void resizeMaskedToNonPowerOfTwo(final boolean orderedReads) {
+        final RingBuffer<Integer> expected = new RingBuffer<>(Integer.class, 4, orderedReads);
+        final RingBuffer<Integer> actual = RingBuffer.specialised(Integer.class, 4, orderedReads);
+        for (int i = 0; i < 3; i++) {
+            expected.put(i);
+            actual.put(i);
+        }
+
+        expected.resize(6);
+        actual.resize(6);
+        assertTrue(actual.slowPath);
+        for (int i = 3; i < 8; i++) {
+            expected.put(i);
+            actual.put(i);
+        }
+        assertEquals(2, actual.overwrittenCount());
+        assertArrayEquals(expected.copy(), actual.copy());
+
+        // once resized to a power of two again, the fast path is used again
+        expected.resize(8);
+        actual.resize(8);
+        assertFalse(actual.slowPath);
+        for (int i = 8; i < 11; i++) {
+            expected.put(i);
+            actual.put(i);
+        }
+        assertEquals(expected.get(), actual.get());
+        assertArrayEquals(expected.copy(), actual.copy());
+    }
+
+    @ParameterizedTest
+    @MethodSource("implementations")
+    public void growToNonPowerOfTwo(final int capacity, final boolean orderedReads) {
+        final RingBuffer<Integer> expected = new RingBuffer<>(Integer.class, capacity, orderedReads);
+        expected.setOverflowHandler(RingBuffer.OverflowHandler.grow(1000));
+        final RingBuffer<Integer> actual = RingBuffer.specialised(Integer.class, capacity, orderedReads);
+        actual.setOverflowHandler(RingBuffer.OverflowHandler.grow(1000));
+
+        for (int i = 0; i < 1500; i++) {
+            expected.put(i);
+            actual.put(i);
+        }
+        assertEquals(1000, actual.capacity());
+        assertEquals(expected.overwrittenCount(), actual.overwrittenCount());
+        assertArrayEquals(expected.copy(), actual.copy());
+
+        // with the default overflow policy, a capacity that is not a power of two still behaves as a RingBuffer
+        expected.setOverflowPolicy(OverflowPolicy.OVERWRITE_OLDEST);
+        actual.setOverflowPolicy(OverflowPolicy.OVERWRITE_OLDEST);
+        for (int i = 1500; i < 1600; i++) {
+            expected.put(i);
+            actual.put(i);
+            if (i % 3 == 0) {
+                assertEquals(expected.get(), actual.get());
+            }
+        }
+        assertArrayEquals(expected.copy(), actual.copy());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomOperations")
+    public void behavesAsRingBuffer(final int capacity, final boolean orderedReads, final long seed) {
+        final RingBuffer<Integer> expected = new RingBuffer<>(Integer.class, capacity, orderedReads);
+        final RingBuffer<Integer> actual = RingBuffer.specialised(Integer.class, capacity, orderedReads);
+
+        // a random mix of puts and gets, biased towards puts so that the buffer overfills
+        final Random random = new Random(seed);
+        for (int i = 0; i < 200; i++) {
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.get(), actual.get());
+            } else {
+                expected.put(i);
+                actual.put(i);
+            }
+
+            assertEquals(expected.readIdx, actual.readIdx);
+            assertEquals(expected.writeIdx, actual.writeIdx);
+            assertEquals(expected.available, actual.available);
+            assertEquals(expected.putCount, actual.putCount);
+            assertEquals(expected.overwrittenCount, actual.overwrittenCount);
+            assertArrayEquals(expected.entries, actual.entries);
+        }
+
+        // drain the remaining entries
+        while (!expected.isEmpty()) {
+            assertEquals(expected.get(), actual.get());
+        }
+        assertTrue(actual.isEmpty());
+        assertNull(actual.get());
+    }
+
+    static Stream<Arguments> randomOperations() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (int capacity = 1; capacity <= 9; capacity++) {
+            for (int i = 0; i < 5; i++) {
+                final long seed = ThreadLocalRandom.current().nextLong();
+                builder.add(arguments(capacity, false, seed));
+                builder.add(arguments(capacity, true, seed));
+            }
+        }
+        return builder.build();
+    }
+}
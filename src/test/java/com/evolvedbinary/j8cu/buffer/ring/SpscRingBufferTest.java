@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SpscRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class SpscRingBufferTest {
+
+    @Test
+    public void create() {
+        final int capacity = 4;
+        final SpscRingBuffer<Object> ringBuffer = SpscRingBuffer.create(capacity);
+
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.size());
+        assertEquals(capacity, ringBuffer.capacity());
+        assertEquals(capacity, ringBuffer.entries.length);
+        assertEquals(0, ringBuffer.head.get());
+        assertEquals(0, ringBuffer.tail.get());
+
+        // check that `get` on an empty Ring Buffer does nothing
+        assertNull(ringBuffer.get());
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.head.get());
+        assertEquals(0, ringBuffer.tail.get());
+
+        // check that `copy` on an empty Ring Buffer returns null
+        assertNull(ringBuffer.copy());
+    }
+
+    @Test
+    public void createInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> SpscRingBuffer.create(0));
+        assertThrows(IllegalArgumentException.class, () -> SpscRingBuffer.create(-4));
+        assertThrows(IllegalArgumentException.class, () -> SpscRingBuffer.create(5));
+    }
+
+    @Test
+    public void fillAndReadAll() {
+        final int capacity = 4;
+        final SpscRingBuffer<String> ringBuffer = new SpscRingBuffer<>(String.class, capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            assertTrue(ringBuffer.offer("" + (char) ('a' + i)));
+        }
+        assertFalse(ringBuffer.isEmpty());
+        assertEquals(capacity, ringBuffer.size());
+
+        // check that `offer` on a full Ring Buffer does not overwrite
+        assertFalse(ringBuffer.offer("e"));
+        assertEquals(capacity, ringBuffer.size());
+
+        // check that `copy` returns the correct entries
+        assertArrayEquals(new String[] { "a", "b", "c", "d" }, ringBuffer.copy());
+
+        // read all
+        final String[] actual = new String[capacity + 1];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = ringBuffer.get();
+        }
+        assertArrayEquals(new String[] { "a", "b", "c", "d", null }, actual);
+        assertTrue(ringBuffer.isEmpty());
+        assertNull(ringBuffer.copy());
+
+        // check that read entries are released
+        assertArrayEquals(new String[capacity], ringBuffer.entries);
+    }
+
+    @Test
+    public void putGetWrapAround() {
+        final int capacity = 4;
+        final SpscRingBuffer<String> ringBuffer = new SpscRingBuffer<>(String.class, capacity);
+
+        ringBuffer.put("a");
+        ringBuffer.put("b");
+        assertEquals("a", ringBuffer.get());
+        ringBuffer.put("c");
+        ringBuffer.put("d");
+        ringBuffer.put("e");
+        assertFalse(ringBuffer.offer("f"));
+
+        // check that `copy` returns the correct entries across the wrap point
+        assertArrayEquals(new String[] { "b", "c", "d", "e" }, ringBuffer.copy());
+
+        assertEquals("b", ringBuffer.get());
+        assertEquals("c", ringBuffer.get());
+        assertTrue(ringBuffer.offer("f"));
+        assertEquals("d", ringBuffer.get());
+        assertEquals("e", ringBuffer.get());
+        assertEquals("f", ringBuffer.get());
+        assertNull(ringBuffer.get());
+
+        assertEquals(6, ringBuffer.head.get());
+        assertEquals(6, ringBuffer.tail.get());
+    }
+
+    @Test
+    public void producerConsumer() throws InterruptedException {
+        final int capacity = 64;
+        final int count = 1_000_000;
+        final SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(Integer.class, capacity);
+
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                ringBuffer.put(i);
+            }
+        });
+
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> {
+            int expected = 0;
+            while (expected < count) {
+                final Integer entry = ringBuffer.get();
+                if (entry == null) {
+                    Thread.yield();
+                    continue;
+                }
+                if (entry != expected) {
+                    failure.set("Expected: " + expected + ", but was: " + entry);
+                    return;
+                }
+                expected++;
+            }
+        });
+
+        consumer.start();
+        producer.start();
+        producer.join();
+        consumer.join();
+
+        assertNull(failure.get());
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(count, ringBuffer.head.get());
+        assertEquals(count, ringBuffer.tail.get());
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StripedRingBuffer}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class StripedRingBufferTest {
+
+    @Test
+    public void construct() {
+        final StripedRingBuffer<String> ringBuffer = new StripedRingBuffer<>(4, 8);
+
+        assertEquals(0, ringBuffer.size());
+        assertEquals(1, ringBuffer.stripeCount());
+        assertEquals(0, ringBuffer.droppedCount());
+        assertEquals(0, ringBuffer.drain(entry -> fail("Unexpected entry: " + entry)));
+    }
+
+    @Test
+    public void constructInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedRingBuffer<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new StripedRingBuffer<String>(3));
+        assertThrows(IllegalArgumentException.class, () -> new StripedRingBuffer<String>(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StripedRingBuffer<String>(4, 3));
+    }
+
+    @Test
+    public void offerNull() {
+        final StripedRingBuffer<String> ringBuffer = new StripedRingBuffer<>(4);
+        assertThrows(NullPointerException.class, () -> ringBuffer.offer(null));
+        assertEquals(0, ringBuffer.size());
+    }
+
+    @Test
+    public void offerDropsWhenFull() {
+        final StripedRingBuffer<String> ringBuffer = new StripedRingBuffer<>(2, 1);
+
+        assertTrue(ringBuffer.offer("a"));
+        assertTrue(ringBuffer.offer("b"));
+        assertFalse(ringBuffer.offer("c"));
+        assertEquals(2, ringBuffer.size());
+        assertEquals(1, ringBuffer.droppedCount());
+
+        final List<String> drained = new ArrayList<>();
+        assertEquals(2, ringBuffer.drain(drained::add));
+        assertEquals(0, ringBuffer.size());
+
+        assertTrue(ringBuffer.offer("d"));
+        assertEquals(1, ringBuffer.drain(drained::add));
+        assertArrayEquals(new String[] { "a", "b", "d" }, drained.toArray());
+        assertEquals(1, ringBuffer.droppedCount());
+    }
+
+    @Test
+    public void expand() {
+        final StripedRingBuffer<String> ringBuffer = new StripedRingBuffer<>(4, 4);
+        assertTrue(ringBuffer.offer("a"));
+
+        ringBuffer.expand(ringBuffer.stripes);
+        assertEquals(2, ringBuffer.stripeCount());
+
+        // a stale view of the stripes must not cause a further expansion
+        final StripedRingBuffer.Stripe<String>[] stale = ringBuffer.stripes;
+        ringBuffer.expand(stale);
+        ringBuffer.expand(stale);
+        assertEquals(4, ringBuffer.stripeCount());
+
+        // must not expand beyond the maximum
+        ringBuffer.expand(ringBuffer.stripes);
+        assertEquals(4, ringBuffer.stripeCount());
+
+        // existing entries must survive expansion
+        final List<String> drained = new ArrayList<>();
+        assertEquals(1, ringBuffer.drain(drained::add));
+        assertArrayEquals(new String[] { "a" }, drained.toArray());
+    }
+
+    @Test
+    public void threadMovedToAnotherStripeIsNotOrdered() {
+        final StripedRingBuffer<String> ringBuffer = new StripedRingBuffer<>(4, 2);
+        ringBuffer.expand(ringBuffer.stripes);
+        assertEquals(2, ringBuffer.stripeCount());
+
+        final int[] probe = StripedRingBuffer.PROBE.get();
+        final int original = probe[0];
+        try {
+            probe[0] = 1;
+            assertTrue(ringBuffer.offer("a"));
+            assertTrue(ringBuffer.offer("b"));
+
+            // as if this thread had been moved to another stripe after contention
+            probe[0] = 0;
+            assertTrue(ringBuffer.offer("c"));
+        } finally {
+            probe[0] = original;
+        }
+
+        // the entries of each stripe are in order, but the stripes are drained by index
+        final List<String> drained = new ArrayList<>();
+        assertEquals(3, ringBuffer.drain(drained::add));
+        assertEquals(Arrays.asList("c", "a", "b"), drained);
+    }
+
+    @Test
+    public void drainAllStripes() {
+        final StripedRingBuffer<String> ringBuffer = new StripedRingBuffer<>(4, 2);
+        ringBuffer.expand(ringBuffer.stripes);
+        ringBuffer.stripes[0].tail.set(1);
+        ringBuffer.stripes[0].entries.set(0, "a");
+        ringBuffer.stripes[1].tail.set(2);
+        ringBuffer.stripes[1].entries.set(0, "b");
+        ringBuffer.stripes[1].entries.set(1, "c");
+        assertEquals(3, ringBuffer.size());
+
+        final List<String> drained = new ArrayList<>();
+        assertEquals(3, ringBuffer.drain(drained::add));
+        assertArrayEquals(new String[] { "a", "b", "c" }, drained.toArray());
+        assertEquals(0, ringBuffer.size());
+    }
+
+    @Test
+    public void drainStopsAtUnpublishedSlot() {
+        final StripedRingBuffer<String> ringBuffer = new StripedRingBuffer<>(4, 1);
+        ringBuffer.offer("a");
+
+        // simulate a producer which has claimed a slot but not yet published its entry
+        final StripedRingBuffer.Stripe<String> stripe = ringBuffer.stripes[0];
+        stripe.tail.set(stripe.tail.get() + 1);
+
+        final List<String> drained = new ArrayList<>();
+        assertEquals(1, ringBuffer.drain(drained::add));
+        assertEquals(0, ringBuffer.drain(drained::add));
+
+        stripe.entries.set(1, "b");
+        assertEquals(1, ringBuffer.drain(drained::add));
+        assertArrayEquals(new String[] { "a", "b" }, drained.toArray());
+    }
+
+    @Test
+    public void multipleProducers() throws InterruptedException {
+        final int producers = 4;
+        final int countPerProducer = 100_000;
+        final StripedRingBuffer<long[]> ringBuffer = new StripedRingBuffer<>(16, 8);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final long[] accepted = new long[producers];
+        final Thread[] producerThreads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            producerThreads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < countPerProducer; i++) {
+                    if (ringBuffer.offer(new long[] { producer, i })) {
+                        accepted[producer]++;
+                    }
+                }
+            });
+            producerThreads[p].start();
+        }
+
+        start.countDown();
+
+        // entries from each producer must be received in the order that producer offered them, without duplicates
+        final long[] lastReceived = new long[producers];
+        Arrays.fill(lastReceived, -1);
+        final long[] received = new long[producers];
+        final String[] failure = new String[1];
+        final Consumer<long[]> consumer = entry -> {
+            final int producer = (int) entry[0];
+            if (entry[1] <= lastReceived[producer]) {
+                failure[0] = "Producer: " + producer + ", last received: " + lastReceived[producer] + ", but was: " + entry[1];
+            }
+            lastReceived[producer] = entry[1];
+            received[producer]++;
+        };
+
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (final Thread producerThread : producerThreads) {
+                running |= producerThread.isAlive();
+            }
+            if (ringBuffer.drain(consumer) == 0) {
+                Thread.yield();
+            }
+        }
+        ringBuffer.drain(consumer);
+
+        assertNull(failure[0]);
+        long totalReceived = 0;
+        for (int p = 0; p < producers; p++) {
+            assertEquals(accepted[p], received[p]);
+            totalReceived += received[p];
+        }
+        assertEquals(producers * countPerProducer, totalReceived + ringBuffer.droppedCount());
+        assertEquals(0, ringBuffer.size());
+    }
+}
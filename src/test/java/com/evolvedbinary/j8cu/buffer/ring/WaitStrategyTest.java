@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.buffer.ring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the implementations of {@link WaitStrategy}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class WaitStrategyTest {
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new YieldingWaitStrategy(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ParkingWaitStrategy(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ParkingWaitStrategy(10, 5));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.evolvedbinary.j8cu.buffer.ring.BlockingRingBufferTest#waitStrategies")
+    public void satisfiedConditionDoesNotWait(final Supplier<WaitStrategy> supplier) throws InterruptedException {
+        final WaitStrategy waitStrategy = supplier.get();
+        assertTrue(waitStrategy.await(() -> true, 0));
+        assertTrue(waitStrategy.await(() -> true, Long.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.evolvedbinary.j8cu.buffer.ring.BlockingRingBufferTest#waitStrategies")
+    public void timeout(final Supplier<WaitStrategy> supplier) throws InterruptedException {
+        final WaitStrategy waitStrategy = supplier.get();
+        assertFalse(waitStrategy.await(() -> false, 0));
+
+        final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        final long start = System.nanoTime();
+        assertFalse(waitStrategy.await(() -> false, timeoutNanos));
+        assertTrue(System.nanoTime() - start >= timeoutNanos);
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.evolvedbinary.j8cu.buffer.ring.BlockingRingBufferTest#waitStrategies")
+    public void signalled(final Supplier<WaitStrategy> supplier) throws InterruptedException {
+        final WaitStrategy waitStrategy = supplier.get();
+        final AtomicBoolean condition = new AtomicBoolean();
+
+        final CountDownLatch satisfied = new CountDownLatch(1);
+        final Thread waiter = new Thread(() -> {
+            try {
+                if (waitStrategy.await(condition::get, Long.MAX_VALUE)) {
+                    satisfied.countDown();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        assertFalse(satisfied.await(20, TimeUnit.MILLISECONDS));
+        condition.set(true);
+        waitStrategy.signalAll();
+        assertTrue(satisfied.await(10, TimeUnit.SECONDS));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.evolvedbinary.j8cu.buffer.ring.BlockingRingBufferTest#waitStrategies")
+    public void interrupted(final Supplier<WaitStrategy> supplier) {
+        final WaitStrategy waitStrategy = supplier.get();
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedException.class, () -> waitStrategy.await(() -> false, Long.MAX_VALUE));
+        } finally {
+            // clear the interrupt status in case it was not consumed
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link FlightRecorderEventType}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class FlightRecorderEventTypeTest {
+
+    private static final String NAME = "com.evolvedbinary.j8cu.jfr.Test";
+
+    private static final FlightRecorderEventType TYPE = new FlightRecorderEventType(
+            NAME,
+            "Test",
+            new String[] { "J8CU", "Test" },
+            "An event for testing",
+            false,
+            new FlightRecorderEventType.Field(String.class, "text", "Text"),
+            new FlightRecorderEventType.Field(int.class, "number", "Number"),
+            new FlightRecorderEventType.Field(Class.class, "type", "Type")
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void defined() {
+        final EventType eventType = FlightRecorder.getFlightRecorder().getEventTypes().stream()
+                .filter(type -> NAME.equals(type.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Event type not registered: " + NAME));
+
+        assertEquals("Test", eventType.getLabel());
+        assertEquals("An event for testing", eventType.getDescription());
+        assertArrayEquals(new String[] { "J8CU", "Test" }, eventType.getCategoryNames().toArray());
+        assertEquals("Text", eventType.getField("text").getLabel());
+        assertEquals("Number", eventType.getField("number").getLabel());
+    }
+
+    @Test
+    public void notEnabledWithoutRecording() {
+        assertFalse(TYPE.isEnabled());
+        final Object event = TYPE.newEvent();
+        assertFalse(TYPE.isEnabled(event));
+        assertFalse(TYPE.shouldCommit(event));
+    }
+
+    @Test
+    public void record() throws IOException {
+        final List<RecordedEvent> events;
+        try (final Recording recording = new Recording()) {
+            recording.enable(NAME);
+            recording.start();
+
+            assertTrue(TYPE.isEnabled());
+            final Object event = TYPE.newEvent();
+            assertTrue(TYPE.isEnabled(event));
+            TYPE.begin(event);
+            TYPE.end(event);
+            assertTrue(TYPE.shouldCommit(event));
+            TYPE.set(event, 0, "abc");
+            TYPE.set(event, 1, 123);
+            TYPE.set(event, 2, String.class);
+            TYPE.commit(event);
+
+            recording.stop();
+            final Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(1, events.size());
+        final RecordedEvent event = events.get(0);
+        assertEquals(NAME, event.getEventType().getName());
+        assertEquals("abc", event.getString("text"));
+        assertEquals(123, event.getInt("number"));
+        assertEquals(String.class.getName(), event.getClass("type").getName());
+        assertNull(event.getStackTrace());
+    }
+
+    @Test
+    public void setInvalidIndex() {
+        final Object event = TYPE.newEvent();
+        assertThrows(IndexOutOfBoundsException.class, () -> TYPE.set(event, 3, "x"));
+    }
+}
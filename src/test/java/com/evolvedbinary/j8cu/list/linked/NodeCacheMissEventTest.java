@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025, Evolved Binary Ltd. <tech@evolvedbinary.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the <organization> nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evolvedbinary.j8cu.list.linked;
+
+import com.evolvedbinary.j8cu.jfr.FlightRecorderEvents;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link NodeCacheMissEvent}.
+ *
+ * @author <a href="mailto:adam@evolvedbinary.com">Adam Retter</a>
+ */
+public class NodeCacheMissEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void nodeCacheMissIsSampled() throws IOException {
+        final OrderedDoublyLinkedList<Integer> list = new OrderedDoublyLinkedList<>(4);
+
+        final List<RecordedEvent> events;
+        try (final Recording recording = new Recording()) {
+            recording.enable(NodeCacheMissEvent.NAME);
+            recording.start();
+            for (int i = 0; i < 3 * FlightRecorderEvents.NODE_CACHE_MISS_SAMPLE_INTERVAL; i++) {
+                NodeCacheMissEvent.missed(list, 4);
+            }
+            recording.stop();
+
+            final Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(3, events.size());
+        for (final RecordedEvent event : events) {
+            assertEquals(OrderedDoublyLinkedList.class.getName(), event.getClass("listClass").getName());
+            assertEquals(4, event.getInt("cacheSize"));
+            assertEquals(FlightRecorderEvents.NODE_CACHE_MISS_SAMPLE_INTERVAL, event.getInt("sampleInterval"));
+        }
+    }
+}